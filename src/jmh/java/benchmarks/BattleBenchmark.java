@@ -0,0 +1,92 @@
+package benchmarks;
+
+import controllers.BattleController;
+import models.Context;
+import models.Country;
+import models.GameMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks all-out battles between two countries of the risk map, played round by round or
+ * sampled from the outcome distribution.
+ *
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BattleBenchmark {
+
+  /** Armies on each side at the start of a battle. */
+  @Param({"5", "50", "500"})
+  public int armies;
+
+  /** true to sample the outcome, false to roll every round. */
+  @Param({"false", "true"})
+  public boolean sampled;
+
+  /** The game the battles are fought in. */
+  private GameMap gameMap;
+
+  /** The attacking country. */
+  private Country attackingCountry;
+
+  /** The defending country. */
+  private Country defendingCountry;
+
+  /** Name of the attacking player. */
+  private String attackerName;
+
+  /** Name of the defending player. */
+  private String defenderName;
+
+  /**
+   * Starts a game between two human players on the risk map.
+   *
+   * @throws Exception when the map is invalid
+   */
+  @Setup
+  public void setUp() throws Exception {
+    gameMap = BenchmarkMaps.startGame("risk", "human", "human");
+    gameMap.getSession().setAllOutSampled(sampled);
+    gameMap.getSession().setCurrentPlayerIndex(0);
+    attackerName = gameMap.getPlayersList().get(0).getStrategy().getPlayerName();
+    defenderName = gameMap.getPlayersList().get(1).getStrategy().getPlayerName();
+    attackingCountry = gameMap.getCountries().get("India");
+    defendingCountry = gameMap.getCountries().get("China");
+  }
+
+  /**
+   * Resets both countries and fights an all-out battle.
+   *
+   * @return armies left in the defending country.
+   */
+  @Benchmark
+  public int allOutBattle() {
+    attackingCountry.setOwnerName(attackerName);
+    attackingCountry.setNumberOfArmies(armies + 1);
+    defendingCountry.setOwnerName(defenderName);
+    defendingCountry.setNumberOfArmies(armies);
+    gameMap.setCurrentContext(Context.GAME_ATTACK);
+    BattleController battleController = new BattleController(gameMap, "attack India China -allout");
+    battleController.setNoInputEnabled(true);
+    battleController.setNumOfArmiesToMove(1);
+    battleController.startBattle();
+    return defendingCountry.getNumberOfArmies();
+  }
+}
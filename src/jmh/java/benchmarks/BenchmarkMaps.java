@@ -0,0 +1,149 @@
+package benchmarks;
+
+import controllers.MainController;
+import controllers.SetupController;
+import controllers.StartUpController;
+import models.GameMap;
+import models.GameSession;
+import utils.ConquestMapParser;
+import utils.DominationMapParser;
+import views.ConsoleView;
+import views.LogLevel;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Maps and games shared by the benchmarks. A map is either "risk", the map of the test resources,
+ * or a number of countries for a synthetic grid map written once per run to a temporary file.
+ *
+ * @version 1.0
+ */
+public class BenchmarkMaps {
+
+  /** Domination risk map of the test resources. */
+  public static final String RISK_MAP = "src/test/resources/risk.map";
+
+  /** Conquest risk map of the test resources. */
+  public static final String RISK_CONQUEST_MAP = "src/test/resources/conquest-world.map";
+
+  /** Countries in a row of a synthetic map, a continent is one row. */
+  private static final int COUNTRIES_PER_ROW = 10;
+
+  /** Seed of the games played by the benchmarks. */
+  private static final long SEED = 42;
+
+  /** Synthetic map files already written, by size and format. */
+  private static final Map<String, String> syntheticMaps = new ConcurrentHashMap<>();
+
+  /**
+   * Gets the file of a map parameter.
+   *
+   * @param map "risk" or the number of countries of a synthetic map
+   * @param isConquest true for a conquest map file, false for domination
+   * @return path to the map file.
+   * @throws IOException when the synthetic map can't be written
+   */
+  public static String resolve(String map, boolean isConquest) throws IOException {
+    if (map.equals("risk")) {
+      return isConquest ? RISK_CONQUEST_MAP : RISK_MAP;
+    }
+    String key = map + (isConquest ? "-conquest" : "-domination");
+    String fileName = syntheticMaps.get(key);
+    if (fileName == null) {
+      fileName = writeGridMap(Integer.parseInt(map), isConquest);
+      syntheticMaps.put(key, fileName);
+    }
+    return fileName;
+  }
+
+  /**
+   * Writes a synthetic grid map to a temporary file.
+   *
+   * @param numOfCountries number of countries of the map
+   * @param isConquest true for a conquest map file, false for domination
+   * @return path to the map file.
+   * @throws IOException when the file can't be created
+   */
+  private static String writeGridMap(int numOfCountries, boolean isConquest) throws IOException {
+    File file = File.createTempFile("grid-" + numOfCountries + "-", ".map");
+    file.deleteOnExit();
+    GameMap gameMap = buildGridMap(numOfCountries);
+    boolean result =
+        isConquest
+            ? new ConquestMapParser().saveMap(gameMap, file.getPath())
+            : new DominationMapParser().saveMap(gameMap, file.getPath());
+    if (!result) {
+      throw new IOException("Unable to write " + file.getPath());
+    }
+    return file.getPath();
+  }
+
+  /**
+   * Builds a grid map, every country borders the countries next to it in its row and column and
+   * every row is a continent, so the map is valid for any number of countries.
+   *
+   * @param numOfCountries number of countries of the map
+   * @return the GameMap object.
+   */
+  public static GameMap buildGridMap(int numOfCountries) {
+    GameMap gameMap = new GameMap();
+    for (int country = 0; country < numOfCountries; country++) {
+      int row = country / COUNTRIES_PER_ROW;
+      String continentName = "Continent-" + row;
+      if (country % COUNTRIES_PER_ROW == 0) {
+        gameMap.addContinent(continentName, 1 + row % 7);
+      }
+      gameMap.addCountry("Country-" + country, continentName);
+      if (country % COUNTRIES_PER_ROW != 0) {
+        gameMap.addBorder("Country-" + country, "Country-" + (country - 1));
+      }
+      if (row > 0) {
+        gameMap.addBorder("Country-" + country, "Country-" + (country - COUNTRIES_PER_ROW));
+      }
+    }
+    return gameMap;
+  }
+
+  /**
+   * Binds a new session to the calling thread with logging turned off.
+   *
+   * @return the GameMap of the new session.
+   */
+  public static GameMap newSession() {
+    ConsoleView.setLogLevel(LogLevel.OFF);
+    GameSession.bindToCurrentThread(new GameMap().getSession());
+    return GameMap.getGameMap();
+  }
+
+  /**
+   * Starts a tournament game on the calling thread, countries populated and armies placed, the same
+   * way TournamentController plays a game.
+   *
+   * @param map "risk" or the number of countries of a synthetic map
+   * @param strategies the strategies of the players
+   * @return the GameMap of the game.
+   * @throws IOException when the synthetic map can't be written
+   */
+  public static GameMap startGame(String map, String... strategies) throws IOException {
+    String mapFile = resolve(map, false);
+    GameMap gameMap = newSession();
+    StringBuilder stringBuilder = new StringBuilder("gameplayer");
+    for (int idx = 0; idx < strategies.length; idx++) {
+      stringBuilder.append(
+          String.format(" -add %s-%d %s", strategies[idx].toUpperCase(), idx, strategies[idx]));
+    }
+    MainController.processGamePlayerCommand(gameMap, stringBuilder.toString());
+    if (!MainController.processLoadMapCommand(gameMap, "loadmap " + mapFile)) {
+      throw new IllegalStateException("Invalid map " + mapFile);
+    }
+    gameMap = GameMap.getGameMap();
+    gameMap.getSession().setTournament(true);
+    gameMap.getSession().setRandomGenerator(SEED);
+    SetupController.processPopulateCountriesCommand(gameMap, null);
+    StartUpController.processPlaceAllCommand(gameMap, null);
+    return gameMap;
+  }
+}
@@ -0,0 +1,99 @@
+package benchmarks;
+
+import models.GameMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import utils.ConquestMapParser;
+import utils.DominationMapParser;
+import utils.StreamingMapParser;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks loading domination and conquest map files.
+ *
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapParserBenchmark {
+
+  /** The map to load, see BenchmarkMaps.resolve. */
+  @Param({"risk", "400", "4000"})
+  public String map;
+
+  /** Path to the domination map file. */
+  private String dominationMap;
+
+  /** Path to the conquest map file. */
+  private String conquestMap;
+
+  /**
+   * Writes the map files and binds a session to the benchmark thread.
+   *
+   * @throws Exception when the map can't be written
+   */
+  @Setup
+  public void setUp() throws Exception {
+    dominationMap = BenchmarkMaps.resolve(map, false);
+    conquestMap = BenchmarkMaps.resolve(map, true);
+    BenchmarkMaps.newSession();
+  }
+
+  /**
+   * Loads the domination map.
+   *
+   * @return the loaded map.
+   * @throws Exception when the map is invalid
+   */
+  @Benchmark
+  public GameMap dominationLoadMap() throws Exception {
+    return new DominationMapParser().loadMap(dominationMap);
+  }
+
+  /**
+   * Loads the conquest map.
+   *
+   * @return the loaded map.
+   * @throws Exception when the map is invalid
+   */
+  @Benchmark
+  public GameMap conquestLoadMap() throws Exception {
+    return new ConquestMapParser().loadMap(conquestMap);
+  }
+
+  /**
+   * Loads the domination map with the streaming parser.
+   *
+   * @return the loaded map.
+   * @throws Exception when the map is invalid
+   */
+  @Benchmark
+  public GameMap dominationStreamingLoadMap() throws Exception {
+    return new StreamingMapParser().loadMap(dominationMap);
+  }
+
+  /**
+   * Loads the conquest map with the streaming parser.
+   *
+   * @return the loaded map.
+   * @throws Exception when the map is invalid
+   */
+  @Benchmark
+  public GameMap conquestStreamingLoadMap() throws Exception {
+    return new StreamingMapParser().loadMap(conquestMap);
+  }
+}
@@ -0,0 +1,61 @@
+package benchmarks;
+
+import models.GameMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import utils.DominationMapParser;
+import utils.MapValidator;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks validating a loaded map, i.e the connectivity of the map and of every continent.
+ *
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapValidatorBenchmark {
+
+  /** The map to validate, see BenchmarkMaps.resolve. */
+  @Param({"risk", "400", "4000"})
+  public String map;
+
+  /** The loaded map. */
+  private GameMap gameMap;
+
+  /**
+   * Loads the map on the benchmark thread.
+   *
+   * @throws Exception when the map is invalid
+   */
+  @Setup
+  public void setUp() throws Exception {
+    String mapFile = BenchmarkMaps.resolve(map, false);
+    BenchmarkMaps.newSession();
+    gameMap = new DominationMapParser().loadMap(mapFile);
+  }
+
+  /**
+   * Validates the map.
+   *
+   * @return true if the map is valid.
+   */
+  @Benchmark
+  public boolean validateMap() {
+    return MapValidator.validateMap(gameMap);
+  }
+}
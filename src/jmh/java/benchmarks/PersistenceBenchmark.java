@@ -0,0 +1,87 @@
+package benchmarks;
+
+import models.GameMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import utils.GamePersistenceHandler;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks saving and loading a game. The players are human so loading a game returns as soon as
+ * the state is restored.
+ *
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PersistenceBenchmark {
+
+  /** The map to play on, see BenchmarkMaps.resolve. */
+  @Param({"risk", "400", "4000"})
+  public String map;
+
+  /** Extension of the saves, compressed or not. */
+  @Param({".json", ".json.gz"})
+  public String extension;
+
+  /** File written by saveState. */
+  private String saveFile;
+
+  /** File read by loadState. */
+  private String loadFile;
+
+  /**
+   * Starts a game and saves it once for loadState.
+   *
+   * @throws Exception when the map is invalid or the files can't be written
+   */
+  @Setup
+  public void setUp() throws Exception {
+    BenchmarkMaps.startGame(map, "human", "human");
+    File save = File.createTempFile("save-", extension);
+    save.deleteOnExit();
+    saveFile = save.getPath();
+    File load = File.createTempFile("load-", extension);
+    load.deleteOnExit();
+    loadFile = load.getPath();
+    GamePersistenceHandler.saveState(loadFile);
+  }
+
+  /**
+   * Saves the game of the benchmark thread.
+   *
+   * @return true if saved.
+   * @throws Exception when the file can't be written
+   */
+  @Benchmark
+  public boolean saveState() throws Exception {
+    return GamePersistenceHandler.saveState(saveFile);
+  }
+
+  /**
+   * Loads the saved game on the benchmark thread.
+   *
+   * @return the loaded game.
+   * @throws Exception when the file can't be read
+   */
+  @Benchmark
+  public GameMap loadState() throws Exception {
+    GamePersistenceHandler.loadState(loadFile);
+    return GameMap.getGameMap();
+  }
+}
@@ -0,0 +1,58 @@
+package benchmarks;
+
+import models.GameMap;
+import models.player.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the reinforcement count of the current player, owned countries and continent bonus.
+ *
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReinforcementBenchmark {
+
+  /** The map to play on, see BenchmarkMaps.resolve. */
+  @Param({"risk", "400", "4000"})
+  public String map;
+
+  /** The game the reinforcements are counted in. */
+  private GameMap gameMap;
+
+  /**
+   * Starts a game between four human players.
+   *
+   * @throws Exception when the map is invalid
+   */
+  @Setup
+  public void setUp() throws Exception {
+    gameMap = BenchmarkMaps.startGame(map, "human", "human", "human", "human");
+  }
+
+  /**
+   * Counts the reinforcements of the current player.
+   *
+   * @return the number of armies.
+   */
+  @Benchmark
+  public int calculateReinforcements() {
+    return Player.calculateReinforcements(gameMap);
+  }
+}
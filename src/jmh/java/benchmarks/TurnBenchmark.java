@@ -0,0 +1,65 @@
+package benchmarks;
+
+import controllers.GameController;
+import models.GameMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks a full turn of an AI strategy, reinforce, attack and fortify. Every turn is played on
+ * a freshly placed game so turns are comparable, e.g the cheater doesn't keep doubling its armies.
+ *
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TurnBenchmark {
+
+  /** The strategy of both players. */
+  @Param({"aggressive", "benevolent", "random", "cheater"})
+  public String strategy;
+
+  /** The map to play on, see BenchmarkMaps.resolve. */
+  @Param({"risk", "400", "4000"})
+  public String map;
+
+  /** The game the turn is played in. */
+  private GameMap gameMap;
+
+  /**
+   * Starts a new game before every turn, the setup isn't measured.
+   *
+   * @throws Exception when the map is invalid
+   */
+  @Setup(Level.Invocation)
+  public void setUp() throws Exception {
+    gameMap = BenchmarkMaps.startGame(map, strategy, strategy);
+  }
+
+  /**
+   * Plays the turn of the next player.
+   *
+   * @return the game.
+   */
+  @Benchmark
+  public GameMap startPhaseLoop() {
+    GameController.startPhaseLoop(gameMap);
+    return gameMap;
+  }
+}
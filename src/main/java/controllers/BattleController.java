@@ -1,21 +1,19 @@
 package controllers;
 
 import models.*;
+import models.action.AttackAction;
 import models.player.Player;
 import models.player.PlayerHuman;
 import models.player.PlayerStrategy;
 import utils.CLI;
 
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.Arrays;
 import java.util.Optional;
+import java.util.Random;
 import java.util.function.Predicate;
-import java.util.function.Supplier;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
-import static java.util.Collections.reverseOrder;
-import static java.util.stream.Collectors.toCollection;
 import static views.ConsoleView.display;
 
 /**
@@ -56,6 +54,12 @@ public class BattleController {
   /** The topmost card on the deck. */
   private Card topCard;
 
+  /** The attacker's dice of the last roll, sorted highest first. */
+  private final int[] attackerDice = new int[3];
+
+  /** The defender's dice of the last roll, sorted highest first. */
+  private final int[] defenderDice = new int[2];
+
   /** The number of armies to move after winning a battle */
   private int numOfArmiesToMove = 0;
 
@@ -72,21 +76,21 @@ public class BattleController {
    * @param command the command to be processed.
    */
   public BattleController(GameMap gameMap, String command) {
+    this(gameMap, toAttackAction(gameMap, command));
+  }
+
+  /**
+   * Constructor for the Battle Controller
+   *
+   * @param gameMap the Game Map object.
+   * @param action the validated attack.
+   */
+  public BattleController(GameMap gameMap, AttackAction action) {
     this.gameMap = gameMap;
-    String[] commandSplit = command.split(" ");
-    attackingCountry = gameMap.getCountries().get(commandSplit[1]);
+    attackingCountry = gameMap.getCountry(action.getAttackerId());
     attackerName = gameMap.getCurrentPlayer().getStrategy().getPlayerName();
-    defendingCountry = gameMap.getCountries().get(commandSplit[2]);
-    if (!command.contains("-allout")) {
-      numOfDiceAttacker = Integer.parseInt(commandSplit[3]);
-    }
-    defendingPlayer =
-        gameMap.getPlayersList().stream()
-            .filter(
-                player ->
-                    player.getStrategy().getPlayerName().equals(defendingCountry.getOwnerName()))
-            .findFirst()
-            .get();
+    defendingCountry = gameMap.getCountry(action.getDefenderId());
+    numOfDiceAttacker = action.getNumOfDice();
     attackingPlayer = gameMap.getCurrentPlayer();
     defendingPlayer =
         gameMap.getPlayersList().stream()
@@ -96,7 +100,25 @@ public class BattleController {
             .findFirst()
             .get();
     defenderName = defendingPlayer.getStrategy().getPlayerName();
-    isAllOutEnabled = command.contains("-allout");
+    isAllOutEnabled = action.isAllOut();
+  }
+
+  /**
+   * Reads the attack of a command, trailing flags after the dice are ignored.
+   *
+   * @param gameMap the Game Map object.
+   * @param command the command to be processed.
+   * @return the AttackAction of the command.
+   */
+  private static AttackAction toAttackAction(GameMap gameMap, String command) {
+    String[] commandSplit = command.split(" ");
+    MapTopology topology = gameMap.getTopology();
+    int attackerId = topology.getCountryId(commandSplit[1]);
+    int defenderId = topology.getCountryId(commandSplit[2]);
+    if (command.contains("-allout")) {
+      return AttackAction.allOut(attackerId, defenderId);
+    }
+    return AttackAction.withDice(attackerId, defenderId, Integer.parseInt(commandSplit[3]));
   }
 
   /**
@@ -145,7 +167,8 @@ public class BattleController {
   }
 
   /**
-   * This is a utility method that compares the dice rolls according to the Risk rules.
+   * This is a utility method that compares the dice rolls according to the Risk rules, kept as a
+   * list based adapter of the dice kernel.
    *
    * @param attackerDiceRoll the rolls for the attacker
    * @param defenderDiceRoll the rolls for the defender
@@ -153,34 +176,129 @@ public class BattleController {
    */
   public ArrayList<Boolean> compareDiceRolls(
       ArrayList<Integer> attackerDiceRoll, ArrayList<Integer> defenderDiceRoll) {
-    Iterator<Integer> attackerDiceIterator =
-        attackerDiceRoll.stream().sorted(reverseOrder()).iterator();
-    Iterator<Integer> defenderDiceIterator =
-        defenderDiceRoll.stream().sorted(reverseOrder()).iterator();
+    int numOfAttackerDice = Math.min(attackerDiceRoll.size(), attackerDice.length);
+    int numOfDefenderDice = Math.min(defenderDiceRoll.size(), defenderDice.length);
+    for (int i = 0; i < numOfAttackerDice; i++) {
+      attackerDice[i] = attackerDiceRoll.get(i);
+    }
+    for (int i = 0; i < numOfDefenderDice; i++) {
+      defenderDice[i] = defenderDiceRoll.get(i);
+    }
+    sortDescending(attackerDice, numOfAttackerDice);
+    sortDescending(defenderDice, numOfDefenderDice);
     ArrayList<Boolean> diceComparisonResult = new ArrayList<>();
-    while (attackerDiceIterator.hasNext() && defenderDiceIterator.hasNext()) {
-      int maxAttacker = attackerDiceIterator.next();
-      int maxDefender = defenderDiceIterator.next();
-      display(
-          String.format(
-              "comparing dice %d (attacker) with %d (defender)", maxAttacker, maxDefender),
-          true);
-      boolean result = maxAttacker > maxDefender;
-      display(String.format("%s won!", result ? "Attacker" : "Defender"), true);
-      diceComparisonResult.add(result);
+    for (int i = 0; i < Math.min(numOfAttackerDice, numOfDefenderDice); i++) {
+      diceComparisonResult.add(compareDice(i));
     }
     return diceComparisonResult;
   }
 
   /**
-   * Rolls multiple dice.
+   * Compares the i-th highest dice of the last roll.
+   *
+   * @param i index of the comparison
+   * @return true if the attacker wins the comparison.
+   */
+  private boolean compareDice(int i) {
+    int maxAttacker = attackerDice[i];
+    int maxDefender = defenderDice[i];
+    display(
+        () ->
+            String.format(
+                "comparing dice %d (attacker) with %d (defender)", maxAttacker, maxDefender),
+        true);
+    boolean result = maxAttacker > maxDefender;
+    display(() -> String.format("%s won!", result ? "Attacker" : "Defender"), true);
+    return result;
+  }
+
+  /**
+   * Rolls multiple dice, kept as a list based adapter of the dice kernel.
    *
    * @param numOfDice number of dice to roll
    * @return result of each dice roll
    */
   public ArrayList<Integer> rollDice(int numOfDice) {
-    Supplier<Integer> roll = () -> (int) (Math.random() * 6) + 1;
-    return Stream.generate(roll).limit(numOfDice).collect(toCollection(ArrayList::new));
+    int[] dice = new int[numOfDice];
+    rollDice(gameMap.getSession().getRandomGenerator(), dice, numOfDice);
+    ArrayList<Integer> diceRoll = new ArrayList<>();
+    for (int die : dice) {
+      diceRoll.add(die);
+    }
+    return diceRoll;
+  }
+
+  /**
+   * Rolls dice into the first slots of an array, sorted highest first.
+   *
+   * @param randomGenerator the generator of the game
+   * @param dice the array to roll into
+   * @param numOfDice number of dice to roll
+   */
+  public static void rollDice(Random randomGenerator, int[] dice, int numOfDice) {
+    for (int i = 0; i < numOfDice; i++) {
+      dice[i] = randomGenerator.nextInt(6) + 1;
+    }
+    sortDescending(dice, numOfDice);
+  }
+
+  /**
+   * Sorts up to three dice highest first with a sorting network, larger rolls are sorted normally.
+   *
+   * @param dice the dice to sort
+   * @param numOfDice number of dice in the array
+   */
+  public static void sortDescending(int[] dice, int numOfDice) {
+    if (numOfDice > 3) {
+      Arrays.sort(dice, 0, numOfDice);
+      for (int i = 0, j = numOfDice - 1; i < j; i++, j--) {
+        swap(dice, i, j);
+      }
+      return;
+    }
+    if (numOfDice == 3 && dice[1] < dice[2]) {
+      swap(dice, 1, 2);
+    }
+    if (numOfDice >= 2 && dice[0] < dice[1]) {
+      swap(dice, 0, 1);
+    }
+    if (numOfDice == 3 && dice[1] < dice[2]) {
+      swap(dice, 1, 2);
+    }
+  }
+
+  /**
+   * Swaps two dice.
+   *
+   * @param dice the dice
+   * @param i index of a die
+   * @param j index of the other die
+   */
+  private static void swap(int[] dice, int i, int j) {
+    int die = dice[i];
+    dice[i] = dice[j];
+    dice[j] = die;
+  }
+
+  /**
+   * Counts the comparisons won by the attacker, i.e the armies lost by the defender. The attacker
+   * loses the remaining comparisons, min(numOfAttackerDice, numOfDefenderDice) minus this count.
+   *
+   * @param attackerDice the attacker's dice sorted highest first
+   * @param numOfAttackerDice number of dice rolled by the attacker
+   * @param defenderDice the defender's dice sorted highest first
+   * @param numOfDefenderDice number of dice rolled by the defender
+   * @return number of armies lost by the defender.
+   */
+  public static int countDefenderLosses(
+      int[] attackerDice, int numOfAttackerDice, int[] defenderDice, int numOfDefenderDice) {
+    int defenderLosses = 0;
+    for (int i = 0; i < Math.min(numOfAttackerDice, numOfDefenderDice); i++) {
+      if (attackerDice[i] > defenderDice[i]) {
+        defenderLosses++;
+      }
+    }
+    return defenderLosses;
   }
 
   /**
@@ -189,20 +307,31 @@ public class BattleController {
    * @return true when the attack finishes.
    */
   public boolean startBattle() {
+    gameMap.getSession().getStatistics().recordBattle();
     gameMap.setCurrentContext(Context.GAME_ATTACK_BATTLE_DEFENDER);
     if (isNoInputEnabled) {
       display(
-          String.format(
-              "%s owned by %s declared an attack on %s owned by %s",
-              attackingCountry.getName(), attackerName, defendingCountry.getName(), defenderName),
+          () ->
+              String.format(
+                  "%s owned by %s declared an attack on %s owned by %s",
+                  attackingCountry.getName(),
+                  attackerName,
+                  defendingCountry.getName(),
+                  defenderName),
           true);
     }
     if (isAllOutEnabled) {
       display("Attacker enabled allout, will always choose max dice", true);
+      if (gameMap.getSession().isAllOutSampled()) {
+        resolveAllOut();
+        if (gameMap.getSession().isTournament() && gameMap.getSession().isGameOver()) {
+          return true;
+        }
+      }
       while (gameMap.getCurrentContext() != Context.GAME_ATTACK
           && attackingCountry.getNumberOfArmies() > 1) {
         attemptAttack();
-        if (GameController.isTournament && GameMap.isGameOver) {
+        if (gameMap.getSession().isTournament() && gameMap.getSession().isGameOver()) {
           return true;
         }
       }
@@ -215,7 +344,7 @@ public class BattleController {
     if (attackingCountry.getNumberOfArmies() == 1
         && !isAttackOrFortifyMovePossible(attackerName, gameMap)) {
       display("Moving to next phase, No attack move possible", true);
-      GameController.assignedCard = false;
+      gameMap.getSession().setCardAssigned(false);
       PlayerStrategy strategy = gameMap.getCurrentPlayer().getStrategy();
       if (strategy instanceof PlayerHuman) {
         GameController.changeToNextPhase(gameMap);
@@ -224,6 +353,36 @@ public class BattleController {
     return true;
   }
 
+  /**
+   * Resolves an all-out battle with a single draw from its outcome distribution, the battle ends
+   * the same way the last round rolled by attemptAttack would end it.
+   */
+  private void resolveAllOut() {
+    int attackers = attackingCountry.getNumberOfArmies() - 1;
+    int defenders = defendingCountry.getNumberOfArmies();
+    if (attackers < 1 || defenders < 1) {
+      return;
+    }
+    int outcome =
+        BattleOutcomeTable.sample(attackers, defenders, gameMap.getSession().getRandomGenerator());
+    GameStatistics statistics = gameMap.getSession().getStatistics();
+    if (outcome > 0) {
+      // successfulAttack counts the last army of the defender
+      statistics.recordArmiesDestroyed(attackers - outcome + defenders - 1);
+      // the capturing round never costs the attacker an army
+      attackingCountry.setNumberOfArmies(outcome + 1);
+      defendingCountry.setNumberOfArmies(1);
+      numOfDiceAttacker = Math.min(3, outcome);
+      successfulAttack();
+    } else {
+      // successfulDefence counts the last army the attacker loses
+      statistics.recordArmiesDestroyed(attackers - 1 + defenders + outcome);
+      attackingCountry.setNumberOfArmies(2);
+      defendingCountry.setNumberOfArmies(-outcome);
+      successfulDefence();
+    }
+  }
+
   /**
    * Returns the number of dice for the attacker.
    *
@@ -255,31 +414,32 @@ public class BattleController {
       return numOfDiceDefender;
     }
     while (true) {
-      display(String.format("%s(defender)'s turn", defenderName), true);
+      display(() -> String.format("%s(defender)'s turn", defenderName), true);
       display(
-          String.format(
-              "DefendingCountry %s owned by %s has %d armies",
-              defendingCountry.getName(), defenderName, defendingCountry.getNumberOfArmies()),
+          () ->
+              String.format(
+                  "DefendingCountry %s owned by %s has %d armies",
+                  defendingCountry.getName(), defenderName, defendingCountry.getNumberOfArmies()),
           true);
       display(
-          String.format(
-              "AttackingCountry %s owned by %s has %d armies",
-              attackingCountry.getName(), attackerName, attackingCountry.getNumberOfArmies()),
+          () ->
+              String.format(
+                  "AttackingCountry %s owned by %s has %d armies",
+                  attackingCountry.getName(), attackerName, attackingCountry.getNumberOfArmies()),
           true);
 
-      String inputCommand = CLI.input.nextLine().trim();
+      String inputCommand = CLI.nextLine().trim();
 
-      Optional<Command> matchedCommand =
-          Context.GAME_ATTACK_BATTLE_DEFENDER.getMatchedCommand(inputCommand);
+      Optional<ParsedCommand> parsedCommand =
+          Context.GAME_ATTACK_BATTLE_DEFENDER.parse(inputCommand);
 
-      if (!matchedCommand.isPresent()) {
+      if (!parsedCommand.isPresent()) {
         display("Invalid command, use help to check the list of available commands", false);
         continue;
       }
 
-      if (matchedCommand.get() == Command.DEFEND) {
-        String[] commandSplit = inputCommand.split(" ");
-        numOfDiceDefender = Integer.parseInt(commandSplit[1]);
+      if (parsedCommand.get().getCommand() == Command.DEFEND) {
+        numOfDiceDefender = parsedCommand.get().intGroup(1);
         // Defender can only use 1 or 2 dice
         if (numOfDiceDefender != 1 && numOfDiceDefender != 2) {
           display("Error: Defender can only defend with 1 or 2 Dice", false);
@@ -292,7 +452,7 @@ public class BattleController {
         }
         return numOfDiceDefender;
       } else {
-        matchedCommand.ifPresent(command -> command.runOperation(gameMap, inputCommand));
+        parsedCommand.get().getCommand().runOperation(gameMap, inputCommand);
       }
     }
   }
@@ -303,23 +463,30 @@ public class BattleController {
     numOfDiceAttacker = getNumOfDiceFromAttacker();
 
     // Simulate Dice Roll
-    display(String.format("Rolling %d dice for attacker", numOfDiceAttacker), false);
-    ArrayList<Integer> attackerDiceRoll = rollDice(numOfDiceAttacker);
-    display(String.format("Rolling %d dice for defender", numOfDiceDefender), false);
-    ArrayList<Integer> defenderDiceRoll = rollDice(numOfDiceDefender);
+    Random randomGenerator = gameMap.getSession().getRandomGenerator();
+    display(() -> String.format("Rolling %d dice for attacker", numOfDiceAttacker), false);
+    rollDice(randomGenerator, attackerDice, numOfDiceAttacker);
+    display(() -> String.format("Rolling %d dice for defender", numOfDiceDefender), false);
+    rollDice(randomGenerator, defenderDice, numOfDiceDefender);
+    gameMap.getSession().getStatistics().recordDice(numOfDiceAttacker + numOfDiceDefender);
     display(
-        String.format("%s (attacker) rolled : %s", attackerName, attackerDiceRoll.toString()),
+        () ->
+            String.format(
+                "%s (attacker) rolled : %s",
+                attackerName, Arrays.toString(Arrays.copyOf(attackerDice, numOfDiceAttacker))),
         true);
     display(
-        String.format("%s (defender) rolled : %s", defenderName, defenderDiceRoll.toString()),
+        () ->
+            String.format(
+                "%s (defender) rolled : %s",
+                defenderName, Arrays.toString(Arrays.copyOf(defenderDice, numOfDiceDefender))),
         true);
 
     // Compare diceRoll results
-    ArrayList<Boolean> results = compareDiceRolls(attackerDiceRoll, defenderDiceRoll);
-    for (boolean result : results) {
-      if (result) {
+    for (int i = 0; i < Math.min(numOfDiceAttacker, numOfDiceDefender); i++) {
+      if (compareDice(i)) {
         successfulAttack();
-        if (GameController.isTournament && GameMap.isGameOver) {
+        if (gameMap.getSession().isTournament() && gameMap.getSession().isGameOver()) {
           return;
         }
       } else {
@@ -351,36 +518,37 @@ public class BattleController {
     }
     while (true) {
       display(
-          String.format(
-              "%s has %d armies, Choose numOfArmiesToMove to move to new territory %s",
-              attackingCountry.getName(),
-              attackingCountry.getNumberOfArmies(),
-              defendingCountry.getName()),
+          () ->
+              String.format(
+                  "%s has %d armies, Choose numOfArmiesToMove to move to new territory %s",
+                  attackingCountry.getName(),
+                  attackingCountry.getNumberOfArmies(),
+                  defendingCountry.getName()),
           true);
-      display(String.format("%s(attacker)'s turn", attackerName), true);
-      String inputCommand = CLI.input.nextLine().trim();
-      Optional<Command> matchedCommand =
-          Context.GAME_ATTACK_BATTLE_VICTORY.getMatchedCommand(inputCommand);
-      if (!matchedCommand.isPresent()) {
+      display(() -> String.format("%s(attacker)'s turn", attackerName), true);
+      String inputCommand = CLI.nextLine().trim();
+      Optional<ParsedCommand> parsedCommand =
+          Context.GAME_ATTACK_BATTLE_VICTORY.parse(inputCommand);
+      if (!parsedCommand.isPresent()) {
         display("Invalid command, use help to check the list of available commands", false);
         continue;
       }
-      if (matchedCommand.get() == Command.ATTACK_MOVE) {
-        String[] commandSplit = inputCommand.split(" ");
-        numOfArmiesToMove = Integer.parseInt(commandSplit[1]);
+      if (parsedCommand.get().getCommand() == Command.ATTACK_MOVE) {
+        numOfArmiesToMove = parsedCommand.get().intGroup(1);
         // num of armies should be > 0 and < available armies
         if (numOfArmiesToMove < numOfDiceAttacker
             || numOfArmiesToMove >= attackingCountry.getNumberOfArmies()) {
           display(
-              String.format(
-                  "Error: Num of armies to move should be >= %d (num of dice used in attack) and < available armies",
-                  numOfDiceAttacker),
+              () ->
+                  String.format(
+                      "Error: Num of armies to move should be >= %d (num of dice used in attack) and < available armies",
+                      numOfDiceAttacker),
               false);
           continue;
         }
         return numOfArmiesToMove;
       } else {
-        matchedCommand.ifPresent(command -> command.runOperation(gameMap, inputCommand));
+        parsedCommand.get().getCommand().runOperation(gameMap, inputCommand);
       }
     }
   }
@@ -392,9 +560,10 @@ public class BattleController {
     attackingCountry.removeArmies(numOfArmiesToMove);
     defendingCountry.setNumberOfArmies(numOfArmiesToMove);
     display(
-        String.format(
-            "Moved %d armies from %s to %s",
-            numOfArmiesToMove, attackingCountry.getName(), defendingCountry.getName()),
+        () ->
+            String.format(
+                "Moved %d armies from %s to %s",
+                numOfArmiesToMove, attackingCountry.getName(), defendingCountry.getName()),
         false);
   }
 
@@ -402,18 +571,24 @@ public class BattleController {
   public void successfulDefence() {
     if (attackingCountry.getNumberOfArmies() > 2) {
       attackingCountry.removeArmies(1);
+      gameMap.getSession().getStatistics().recordArmiesDestroyed(1);
+      display(
+          () ->
+              String.format(
+                  "Defend successful: Removed 1 army from %s (attackingCountry)",
+                  attackingCountry.getName()),
+          true);
       display(
-          String.format(
-              "Defend successful: Removed 1 army from %s (attackingCountry)",
-              attackingCountry.getName()),
+          () -> "Remaining armies in defendingCountry " + defendingCountry.getNumberOfArmies(),
           true);
-      display("Remaining armies in defendingCountry " + defendingCountry.getNumberOfArmies(), true);
     } else if (attackingCountry.getNumberOfArmies() == 2) {
       attackingCountry.removeArmies(1);
+      gameMap.getSession().getStatistics().recordArmiesDestroyed(1);
       display(
-          String.format(
-              "Defend successful: %s(attackingCountry) has only one army and can't attack",
-              attackingCountry.getName()),
+          () ->
+              String.format(
+                  "Defend successful: %s(attackingCountry) has only one army and can't attack",
+                  attackingCountry.getName()),
           true);
       display("Ending battle, choose another attack move", true);
       gameMap.setCurrentContext(Context.GAME_ATTACK);
@@ -429,64 +604,75 @@ public class BattleController {
             .collect(Collectors.toCollection(ArrayList::new));
     if (defendingCountry.getNumberOfArmies() > 1) {
       defendingCountry.removeArmies(1);
+      gameMap.getSession().getStatistics().recordArmiesDestroyed(1);
       display(
-          String.format(
-              "Attack successful: Removed 1 army from %s (defendingCountry)",
-              defendingCountry.getName()),
+          () ->
+              String.format(
+                  "Attack successful: Removed 1 army from %s (defendingCountry)",
+                  defendingCountry.getName()),
+          true);
+      display(
+          () -> "Remaining armies in defendingCountry " + defendingCountry.getNumberOfArmies(),
           true);
-      display("Remaining armies in defendingCountry " + defendingCountry.getNumberOfArmies(), true);
 
     } else if (defendingCountry.getNumberOfArmies() == 1) {
+      gameMap.getSession().getStatistics().recordArmiesDestroyed(1);
       display(
-          String.format(
-              "Attack successful: Attacker Won the battle and conquered the country %s",
-              defendingCountry.getName()),
+          () ->
+              String.format(
+                  "Attack successful: Attacker Won the battle and conquered the country %s",
+                  defendingCountry.getName()),
           true);
       defendingCountry.setOwnerName(attackerName);
       display(
-          String.format(
-              "Changing ownership of %s from %s to %s",
-              defendingCountry.getName(), defenderName, attackerName),
+          () ->
+              String.format(
+                  "Changing ownership of %s from %s to %s",
+                  defendingCountry.getName(), defenderName, attackerName),
           true);
       // Change context to Battle victory
       gameMap.setCurrentContext(Context.GAME_ATTACK_BATTLE_VICTORY);
 
       // Move armies to the new territory
       successfulBattle();
-      if (!GameController.assignedCard) {
+      if (!gameMap.getSession().isCardAssigned()) {
         gameMap.assignCard();
-        GameController.assignedCard = true;
+        gameMap.getSession().setCardAssigned(true);
         PlayerStrategy strategy = gameMap.getCurrentPlayer().getStrategy();
         display(
-            strategy.getPlayerName()
-                + " currently has "
-                + strategy.getCardsInHand().stream()
-                    .map(Card::getName)
-                    .collect(Collectors.joining(" "))
-                + " card(s).",
+            () ->
+                strategy.getPlayerName()
+                    + " currently has "
+                    + strategy.getCardsInHand().stream()
+                        .map(Card::getName)
+                        .collect(Collectors.joining(" "))
+                    + " card(s).",
             false);
       }
 
       boolean isDefenderHavingCountries =
           Player.checkPlayerOwnsAtleastOneCountry(defenderName, gameMap);
       if (!isDefenderHavingCountries) {
-        display(String.format("Removing %s from the game due to no ownership", defenderName), true);
+        display(
+            () -> String.format("Removing %s from the game due to no ownership", defenderName),
+            true);
         if (!losingPlayer.isEmpty()) {
           ArrayList<Card> losingPlayerCards = losingPlayer.get(0).getStrategy().getCardsInHand();
           for (Card losingPlayerCard : losingPlayerCards) {
             winningPlayer.addCard(losingPlayerCard);
           }
-          display(String.format("%s now owns %s's cards", attackerName, defenderName), true);
+          display(() -> String.format("%s now owns %s's cards", attackerName, defenderName), true);
         }
         gameMap.removeGamePlayer(defenderName);
+        gameMap.getSession().getStatistics().recordElimination(defenderName);
       }
 
       // Check Game Victory condition
       if (Player.checkPlayerOwnsAllTheCountries(attackerName, gameMap)) {
         // Player Won the Game, Exit
-        display(String.format("%s(attacker) won the game!", attackerName), true);
-        GameMap.isGameOver = true;
-        if (GameController.isTournament) {
+        display(() -> String.format("%s(attacker) won the game!", attackerName), true);
+        gameMap.getSession().setGameOver(true);
+        if (gameMap.getSession().isTournament()) {
           return;
         } else System.exit(0);
       } else {
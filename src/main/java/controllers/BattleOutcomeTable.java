@@ -0,0 +1,161 @@
+package controllers;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Outcome distributions of all-out battles. An all-out battle is a Markov chain over the armies
+ * left on both sides, every round rolls max dice and removes one or two armies. The distribution of
+ * its final state is computed once per (attackers, defenders) pair, so a battle is resolved by a
+ * single draw instead of a roll per round.
+ *
+ * @version 1.0
+ */
+public class BattleOutcomeTable {
+
+  /** Largest army count on either side whose outcomes are cached. */
+  private static final int MAX_CACHED_ARMIES = 100;
+
+  /**
+   * Probabilities of a single round, indexed by attacker dice, defender dice and the number of
+   * armies lost by the defender.
+   */
+  private static final double[][][] roundProbabilities = computeRoundProbabilities();
+
+  /** Cumulative outcome distributions by (attackers, defenders). */
+  private static final Map<Long, double[]> outcomes = new ConcurrentHashMap<>();
+
+  /**
+   * Enumerates every roll of a round to compute its probabilities, the rolls are compared by the
+   * same dice kernel the BattleController rolls with.
+   *
+   * @return the round probabilities.
+   */
+  private static double[][][] computeRoundProbabilities() {
+    double[][][] probabilities = new double[4][3][3];
+    for (int attackerDice = 1; attackerDice <= 3; attackerDice++) {
+      for (int defenderDice = 1; defenderDice <= 2; defenderDice++) {
+        int numOfDice = attackerDice + defenderDice;
+        int numOfRolls = (int) Math.pow(6, numOfDice);
+        int[] attackerRoll = new int[attackerDice];
+        int[] defenderRoll = new int[defenderDice];
+        for (int roll = 0; roll < numOfRolls; roll++) {
+          int rest = roll;
+          for (int die = 0; die < attackerDice; die++, rest /= 6) {
+            attackerRoll[die] = rest % 6;
+          }
+          for (int die = 0; die < defenderDice; die++, rest /= 6) {
+            defenderRoll[die] = rest % 6;
+          }
+          BattleController.sortDescending(attackerRoll, attackerDice);
+          BattleController.sortDescending(defenderRoll, defenderDice);
+          int defenderLosses =
+              BattleController.countDefenderLosses(
+                  attackerRoll, attackerDice, defenderRoll, defenderDice);
+          probabilities[attackerDice][defenderDice][defenderLosses] += 1.0 / numOfRolls;
+        }
+      }
+    }
+    return probabilities;
+  }
+
+  /**
+   * Returns the outcome distribution of an all-out battle. Index i < attackers is the attacker
+   * capturing the country with i + 1 armies left to attack with, index attackers + j is the
+   * defender holding with j + 1 armies.
+   *
+   * @param attackers armies that can attack, i.e the armies of the attacking country minus one
+   * @param defenders armies of the defending country
+   * @return the probability of each outcome.
+   */
+  public static double[] getOutcomeDistribution(int attackers, int defenders) {
+    double[] cumulative = getCumulativeOutcomes(attackers, defenders);
+    double[] distribution = new double[cumulative.length];
+    for (int i = 0; i < cumulative.length; i++) {
+      distribution[i] = cumulative[i] - (i > 0 ? cumulative[i - 1] : 0);
+    }
+    return distribution;
+  }
+
+  /**
+   * Samples the final state of an all-out battle.
+   *
+   * @param attackers armies that can attack, i.e the armies of the attacking country minus one
+   * @param defenders armies of the defending country
+   * @param randomGenerator the generator of the game
+   * @return armies left to attack with if the attacker captures the country, otherwise the negated
+   *     armies left to the defender.
+   */
+  public static int sample(int attackers, int defenders, Random randomGenerator) {
+    double[] cumulative = getCumulativeOutcomes(attackers, defenders);
+    int index = Arrays.binarySearch(cumulative, randomGenerator.nextDouble());
+    if (index < 0) {
+      index = -index - 1;
+    }
+    index = Math.min(index, cumulative.length - 1);
+    return index < attackers ? index + 1 : attackers - index - 1;
+  }
+
+  /**
+   * Gets the cumulative outcome distribution of a battle, cached for small armies.
+   *
+   * @param attackers armies that can attack
+   * @param defenders armies of the defending country
+   * @return the cumulative probability of each outcome.
+   */
+  private static double[] getCumulativeOutcomes(int attackers, int defenders) {
+    if (attackers > MAX_CACHED_ARMIES || defenders > MAX_CACHED_ARMIES) {
+      return computeCumulativeOutcomes(attackers, defenders);
+    }
+    long key = ((long) attackers << 32) | defenders;
+    return outcomes.computeIfAbsent(key, k -> computeCumulativeOutcomes(attackers, defenders));
+  }
+
+  /**
+   * Propagates the probability of every state of the battle round by round, each round removes at
+   * least one army so the states are visited in decreasing order of total armies.
+   *
+   * @param attackers armies that can attack
+   * @param defenders armies of the defending country
+   * @return the cumulative probability of each outcome.
+   */
+  private static double[] computeCumulativeOutcomes(int attackers, int defenders) {
+    double[][] states = new double[attackers + 1][defenders + 1];
+    double[] distribution = new double[attackers + defenders];
+    states[attackers][defenders] = 1;
+    for (int total = attackers + defenders; total > 0; total--) {
+      for (int a = Math.min(attackers, total); a >= 0 && total - a <= defenders; a--) {
+        int d = total - a;
+        double probability = states[a][d];
+        if (probability == 0) {
+          continue;
+        }
+        if (d == 0) {
+          distribution[a - 1] += probability;
+          continue;
+        }
+        if (a == 0) {
+          distribution[attackers + d - 1] += probability;
+          continue;
+        }
+        int attackerDice = Math.min(3, a);
+        int defenderDice = Math.min(2, d);
+        int comparisons = Math.min(attackerDice, defenderDice);
+        double[] round = roundProbabilities[attackerDice][defenderDice];
+        for (int defenderLosses = 0; defenderLosses <= comparisons; defenderLosses++) {
+          int attackerLosses = comparisons - defenderLosses;
+          states[a - attackerLosses][d - defenderLosses] += probability * round[defenderLosses];
+        }
+      }
+    }
+    double[] cumulative = new double[distribution.length];
+    double sum = 0;
+    for (int i = 0; i < distribution.length; i++) {
+      sum += distribution[i];
+      cumulative[i] = sum;
+    }
+    return cumulative;
+  }
+}
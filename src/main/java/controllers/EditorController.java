@@ -1,11 +1,13 @@
 package controllers;
 
+import models.Command;
 import models.Context;
 import models.GameMap;
 import utils.MapAdaptor;
 import utils.MapValidator;
 
 import java.util.Arrays;
+import java.util.List;
 
 import static views.ConsoleView.display;
 
@@ -135,13 +137,16 @@ public class EditorController {
    * @return boolean to indicate map validity
    */
   public static boolean processValidateMapCommand(GameMap gameMap, String command) {
-    boolean result = MapValidator.validateMap(gameMap);
-    if (result) {
+    List<String> violations = MapValidator.findViolations(gameMap);
+    if (violations.isEmpty()) {
       display("Game map is valid", false);
     } else {
       display("Game map is invalid", false);
+      for (String violation : violations) {
+        display("\t" + violation, false);
+      }
     }
-    return result;
+    return violations.isEmpty();
   }
 
   /**
@@ -152,7 +157,7 @@ public class EditorController {
    * @return boolean to indicate the status
    */
   public static boolean processSaveMapCommand(GameMap gameMap, String command) {
-    String fileLocation = command.split(" ", 2)[1];
+    String fileLocation = Command.SAVE_MAP.parseValidated(command).group(1);
     boolean result = false;
     boolean isMapValid = processValidateMapCommand(gameMap, command);
     if (isMapValid) {
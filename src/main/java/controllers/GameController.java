@@ -1,15 +1,21 @@
 package controllers;
 
+import models.Command;
 import models.Context;
 import models.Country;
 import models.GameMap;
+import models.GameSession;
+import models.MapTopology;
+import models.OwnershipIndex;
+import models.ParsedCommand;
+import models.action.AttackAction;
+import models.action.FortifyAction;
+import models.action.ReinforceAction;
 import models.player.Player;
 import models.player.PlayerHuman;
 import models.player.PlayerStrategy;
 import utils.GamePersistenceHandler;
 
-import java.util.ArrayList;
-
 import static controllers.BattleController.isAttackOrFortifyMovePossible;
 import static views.ConsoleView.display;
 
@@ -21,12 +27,6 @@ import static views.ConsoleView.display;
  */
 public class GameController {
 
-  /** This boolean is false if a card hasn't been assigned to the current player. */
-  public static boolean assignedCard = false;
-
-  /** This boolean is false for normal gameplay and true for tournament mode. */
-  public static boolean isTournament = false;
-
   /**
    * Processes reinforce command from the cli
    *
@@ -35,9 +35,10 @@ public class GameController {
    * @return true if successfully reinforced
    */
   public static boolean processReinforceCommand(GameMap gameMap, String command) {
-    if (validateReinforce(gameMap, command)) {
+    ReinforceAction action = parseReinforce(gameMap, command);
+    if (action != null && validateReinforce(gameMap, action)) {
       gameMap.setIsSavePossible(false);
-      return performReinforce(gameMap, command);
+      return performReinforce(gameMap, action);
     } else {
       return false;
     }
@@ -58,7 +59,7 @@ public class GameController {
           true);
       return false;
     }
-    String fileLocation = command.split(" ", 2)[1];
+    String fileLocation = Command.SAVE_GAME.parseValidated(command).group(1);
     try {
       return GamePersistenceHandler.saveState(fileLocation);
     } catch (Exception e) {
@@ -79,7 +80,30 @@ public class GameController {
     if (command.contains("-noattack")) {
       return performAttackNone(gameMap);
     }
-    return validateAttack(gameMap, command) && performAttack(gameMap, command);
+    AttackAction action = parseAttack(gameMap, command);
+    return action != null && validateAttack(gameMap, action) && performAttack(gameMap, action);
+  }
+
+  /**
+   * Parses an attack command, the names of the countries are resolved to their ids, -1 for a
+   * country that isn't on the map.
+   *
+   * @param gameMap contains game state
+   * @param command cli command from the user
+   * @return the AttackAction, null if the command names no countries.
+   */
+  private static AttackAction parseAttack(GameMap gameMap, String command) {
+    ParsedCommand parsedCommand = Command.ATTACK.parse(command).orElse(null);
+    if (parsedCommand == null || parsedCommand.group(2) == null) {
+      return null;
+    }
+    MapTopology topology = gameMap.getTopology();
+    int attackerId = topology.getCountryId(parsedCommand.group(2));
+    int defenderId = topology.getCountryId(parsedCommand.group(3));
+    if (parsedCommand.group(4).equals("-allout")) {
+      return AttackAction.allOut(attackerId, defenderId);
+    }
+    return AttackAction.withDice(attackerId, defenderId, parsedCommand.intGroup(4));
   }
 
   /**
@@ -93,7 +117,45 @@ public class GameController {
     if (command.contains("-none")) {
       return performFortifyNone(gameMap);
     }
-    return validateFortify(gameMap, command) && performFortify(gameMap, command);
+    FortifyAction action = parseFortify(gameMap, command);
+    return action != null && validateFortify(gameMap, action) && performFortify(gameMap, action);
+  }
+
+  /**
+   * Parses a fortify command, the names of the countries are resolved to their ids, -1 for a
+   * country that isn't on the map.
+   *
+   * @param gameMap contains game state
+   * @param command cli command from the user
+   * @return the FortifyAction, null if the command names no countries.
+   */
+  private static FortifyAction parseFortify(GameMap gameMap, String command) {
+    ParsedCommand parsedCommand = Command.FORTIFY.parse(command).orElse(null);
+    if (parsedCommand == null || parsedCommand.group(2) == null) {
+      return null;
+    }
+    MapTopology topology = gameMap.getTopology();
+    return new FortifyAction(
+        topology.getCountryId(parsedCommand.group(2)),
+        topology.getCountryId(parsedCommand.group(3)),
+        parsedCommand.intGroup(4));
+  }
+
+  /**
+   * Parses a reinforce command, the name of the country is resolved to its id, -1 for a country
+   * that isn't on the map.
+   *
+   * @param gameMap contains game state
+   * @param command cli command from the user
+   * @return the ReinforceAction, null if the command doesn't match.
+   */
+  private static ReinforceAction parseReinforce(GameMap gameMap, String command) {
+    ParsedCommand parsedCommand = Command.REINFORCE.parse(command).orElse(null);
+    if (parsedCommand == null) {
+      return null;
+    }
+    return new ReinforceAction(
+        gameMap.getTopology().getCountryId(parsedCommand.group(1)), parsedCommand.intGroup(2));
   }
 
   /**
@@ -106,43 +168,45 @@ public class GameController {
   public static boolean processExchangeCardsCommand(GameMap gameMap, String command) {
     PlayerStrategy strategy = gameMap.getCurrentPlayer().getStrategy();
     if (command.contains("-none")) {
-      display(String.format("%s doesn't want to exchange cards", strategy.getPlayerName()), true);
+      display(
+          () -> String.format("%s doesn't want to exchange cards", strategy.getPlayerName()), true);
       return true;
     }
-    String[] commandSplit = command.split(" ");
+    ParsedCommand parsedCommand = Command.EXCHANGE_CARDS.parseValidated(command);
     int[] positionOfCards = new int[3];
-    for (int i = 1; i < commandSplit.length; i++) {
-      positionOfCards[i - 1] = Integer.parseInt(commandSplit[i]);
+    for (int i = 0; i < positionOfCards.length; i++) {
+      positionOfCards[i] = parsedCommand.intGroup(i + 2);
     }
     // exchange cards method implementation
-    strategy.exchangeCardsForArmies(positionOfCards);
+    strategy.exchangeCardsForArmies(gameMap, positionOfCards);
     return true;
   }
 
   /**
-   * Performs the reinforce command.
+   * Performs a reinforcement.
    *
    * @param gameMap the Game Map instance.
-   * @param command the command entered by the user.
+   * @param action the validated reinforcement.
    * @return the result of reinforcement.
    */
-  public static boolean performReinforce(GameMap gameMap, String command) {
+  public static boolean performReinforce(GameMap gameMap, ReinforceAction action) {
     Player currentPlayer = gameMap.getCurrentPlayer();
-    String[] commandSplit = command.split(" ");
-    String countryName = commandSplit[1];
-    int armiesToPlace = Integer.parseInt(commandSplit[2]);
-    boolean result = new PlayerHuman(null).reinforce(gameMap, countryName, armiesToPlace);
+    String countryName = gameMap.getTopology().getCountryName(action.getCountryId());
+    int armiesToPlace = action.getNumOfArmies();
+    boolean result = gameMap.placeArmy(countryName, armiesToPlace);
     if (result) {
       display(
-          String.format(
-              "%s has placed %d army(s) in %s",
-              currentPlayer.getStrategy().getPlayerName(), armiesToPlace, countryName),
+          () ->
+              String.format(
+                  "%s has placed %d army(s) in %s",
+                  currentPlayer.getStrategy().getPlayerName(), armiesToPlace, countryName),
           true);
     } else {
       display(
-          String.format(
-              "%s doesnt own %s or it does not exist",
-              currentPlayer.getStrategy().getPlayerName(), countryName),
+          () ->
+              String.format(
+                  "%s doesnt own %s or it does not exist",
+                  currentPlayer.getStrategy().getPlayerName(), countryName),
           false);
     }
     if (currentPlayer.getStrategy().getNumberOfArmies() == 0) {
@@ -151,17 +215,19 @@ public class GameController {
         changeToNextPhase(gameMap);
       } else {
         display(
-            String.format(
-                "%s has more than 5 cards. Please exchange cards to continue.",
-                currentPlayer.getStrategy().getPlayerName()),
+            () ->
+                String.format(
+                    "%s has more than 5 cards. Please exchange cards to continue.",
+                    currentPlayer.getStrategy().getPlayerName()),
             true);
       }
     } else {
       display(
-          String.format(
-              "%s has %d army(s) to reinforce",
-              currentPlayer.getStrategy().getPlayerName(),
-              currentPlayer.getStrategy().getNumberOfArmies()),
+          () ->
+              String.format(
+                  "%s has %d army(s) to reinforce",
+                  currentPlayer.getStrategy().getPlayerName(),
+                  currentPlayer.getStrategy().getNumberOfArmies()),
           true);
     }
     return result;
@@ -171,46 +237,46 @@ public class GameController {
    * Checks whether fortification is valid.
    *
    * @param gameMap The Game Map instance.
-   * @param command The command entered by the user.
+   * @param action The fortification of the current player.
    * @return true if the fortification is valid.
    */
-  public static boolean validateFortify(GameMap gameMap, String command) {
+  public static boolean validateFortify(GameMap gameMap, FortifyAction action) {
     Player currentPlayer = gameMap.getCurrentPlayer();
-    String[] commandSplit = command.split(" ");
-    if (commandSplit.length == 1) {
-      return false;
-    }
-
-    String fromCountry = commandSplit[1];
-    String toCountry = commandSplit[2];
-    int armyToMove = Integer.parseInt(commandSplit[3]);
+    int armyToMove = action.getNumOfArmies();
     if (armyToMove < 1) {
       display("Army(s) count is invalid", false);
       return false;
     }
 
-    ArrayList<Country> playerOwnedCountries =
-        Player.getCountriesByOwnership(currentPlayer.getStrategy().getPlayerName(), gameMap);
-
-    boolean isOwnershipValid =
-        playerOwnedCountries.stream().anyMatch(c -> c.getName().equals(fromCountry))
-            && playerOwnedCountries.stream().anyMatch(c -> c.getName().equals(toCountry));
-    if (!isOwnershipValid) {
+    String playerName = currentPlayer.getStrategy().getPlayerName();
+    int fromId = action.getFromId();
+    int toId = action.getToId();
+    OwnershipIndex ownership = gameMap.getOwnership();
+    if (fromId < 0 || toId < 0) {
+      display(
+          () -> String.format("%s doesnt own the country(s) or they do not exist", playerName),
+          false);
+      return false;
+    }
+    MapTopology topology = gameMap.getTopology();
+    String fromCountry = topology.getCountryName(fromId);
+    String toCountry = topology.getCountryName(toId);
+    if (!ownership.owns(playerName, fromId) || !ownership.owns(playerName, toId)) {
       display(
-          String.format(
-              "%s doesnt own the country(s) %s, %s or does not exist",
-              currentPlayer.getStrategy().getPlayerName(), fromCountry, toCountry),
+          () ->
+              String.format(
+                  "%s doesnt own the country(s) %s, %s or does not exist",
+                  playerName, fromCountry, toCountry),
           false);
       return false;
     }
 
-    boolean isAdjacent = gameMap.getBorders().get(fromCountry).contains(toCountry);
-    if (!isAdjacent) {
-      display(String.format("%s, %s are not adjacent", fromCountry, toCountry), false);
+    if (!topology.areNeighbors(fromId, toId)) {
+      display(() -> String.format("%s, %s are not adjacent", fromCountry, toCountry), false);
       return false;
     }
 
-    if (armyToMove >= gameMap.getCountries().get(fromCountry).getNumberOfArmies()) {
+    if (armyToMove >= gameMap.getCountry(fromId).getNumberOfArmies()) {
       display("Error: entered fortify army count is greater than available armies", false);
       return false;
     }
@@ -222,29 +288,33 @@ public class GameController {
    * This method performs the fortification.
    *
    * @param gameMap The Game Map instance.
-   * @param command The command entered by the user.
+   * @param action The validated fortification.
    * @return the boolean result of the fortification.
    */
-  public static boolean performFortify(GameMap gameMap, String command) {
+  public static boolean performFortify(GameMap gameMap, FortifyAction action) {
     Player currentPlayer = gameMap.getCurrentPlayer();
-
-    String[] commandSplit = command.split(" ");
-    String fromCountry = commandSplit[1];
-    String toCountry = commandSplit[2];
-    int armyToMove = Integer.parseInt(commandSplit[3]);
-    boolean result = new PlayerHuman(null).fortify(gameMap, fromCountry, toCountry, armyToMove);
+    Country from = gameMap.getCountry(action.getFromId());
+    Country to = gameMap.getCountry(action.getToId());
+    String fromCountry = from.getName();
+    String toCountry = to.getName();
+    int armyToMove = action.getNumOfArmies();
+    boolean result = from.removeArmies(armyToMove);
     if (result) {
+      to.addArmies(armyToMove);
       display(
-          String.format(
-              "%s Fortified %s with %d army(s) from %s",
-              currentPlayer.getStrategy().getPlayerName(), toCountry, armyToMove, fromCountry),
+          () ->
+              String.format(
+                  "%s Fortified %s with %d army(s) from %s",
+                  currentPlayer.getStrategy().getPlayerName(), toCountry, armyToMove, fromCountry),
           true);
       if (currentPlayer.getStrategy() instanceof PlayerHuman) {
         changeToNextPhase(gameMap);
       }
     } else {
       display(
-          String.format("unable to fortify %s country with armies from %s", toCountry, fromCountry),
+          () ->
+              String.format(
+                  "unable to fortify %s country with armies from %s", toCountry, fromCountry),
           false);
     }
     return result;
@@ -256,10 +326,10 @@ public class GameController {
    * @param gameMap The Game Map instance
    * @return the result of the command.
    */
-  private static boolean performFortifyNone(GameMap gameMap) {
+  public static boolean performFortifyNone(GameMap gameMap) {
     Player currentPlayer = gameMap.getCurrentPlayer();
     display(
-        String.format("%s chose not to fortify", currentPlayer.getStrategy().getPlayerName()),
+        () -> String.format("%s chose not to fortify", currentPlayer.getStrategy().getPlayerName()),
         true);
     if (currentPlayer.getStrategy() instanceof PlayerHuman) {
       changeToNextPhase(gameMap);
@@ -288,24 +358,28 @@ public class GameController {
     Context currentContext = gameMap.getCurrentContext();
     Player player = gameMap.getCurrentPlayer();
     PlayerStrategy currentPlayerStrategy = player.getStrategy();
+    GameSession session = gameMap.getSession();
     switch (currentContext) {
       case GAME_END_OF_TURN:
-        if (GameMap.numOfTurns % (gameMap.playersList.size()) == 0) {
-          display(String.format("[Start Round - %d]", GameMap.numberOfRounds + 1), true);
+        if (session.getNumOfTurns() % (gameMap.playersList.size()) == 0) {
+          display(() -> String.format("[Start Round - %d]", session.getNumberOfRounds() + 1), true);
         }
-        display(String.format("[Start Turn - %d]", GameMap.numOfTurns + 1), false);
+        display(() -> String.format("[Start Turn - %d]", session.getNumOfTurns() + 1), false);
         currentPlayerStrategy.setNumberOfArmies(Player.calculateReinforcements(gameMap));
         display(
-            String.format(
-                "<%s's (%s) turn>",
-                currentPlayerStrategy.getPlayerName(), currentPlayerStrategy.getStrategyType()),
+            () ->
+                String.format(
+                    "<%s's (%s) turn>",
+                    currentPlayerStrategy.getPlayerName(), currentPlayerStrategy.getStrategyType()),
             true);
         gameMap.setCurrentContext(Context.GAME_REINFORCE);
         display("[Reinforce]", false);
         display(
-            String.format(
-                "%s has %d armies left to reinforce",
-                currentPlayerStrategy.getPlayerName(), currentPlayerStrategy.getNumberOfArmies()),
+            () ->
+                String.format(
+                    "%s has %d armies left to reinforce",
+                    currentPlayerStrategy.getPlayerName(),
+                    currentPlayerStrategy.getNumberOfArmies()),
             false);
         break;
       case GAME_REINFORCE:
@@ -322,16 +396,17 @@ public class GameController {
         break;
       case GAME_FORTIFY:
         display(
-            String.format(
-                "<End of %s's (%s) turn>",
-                currentPlayerStrategy.getPlayerName(), currentPlayerStrategy.getStrategyType()),
+            () ->
+                String.format(
+                    "<End of %s's (%s) turn>",
+                    currentPlayerStrategy.getPlayerName(), currentPlayerStrategy.getStrategyType()),
             true);
-        display(String.format("[End Turn - %d]", GameMap.numOfTurns + 1), false);
+        display(() -> String.format("[End Turn - %d]", session.getNumOfTurns() + 1), false);
         gameMap.updatePlayerIndex();
-        if (GameMap.numOfTurns % (gameMap.playersList.size())
+        if (session.getNumOfTurns() % (gameMap.playersList.size())
             == gameMap.getPlayersList().size() - 1) {
-          display(String.format("[End Round - %d]", GameMap.numberOfRounds + 1), true);
-          GameMap.numberOfRounds++;
+          display(() -> String.format("[End Round - %d]", session.getNumberOfRounds() + 1), true);
+          session.setNumberOfRounds(session.getNumberOfRounds() + 1);
         }
         gameMap.setCurrentContext(Context.GAME_END_OF_TURN);
         break;
@@ -364,7 +439,7 @@ public class GameController {
     // Perform Attack and change to Fortify
 
     currentPlayerStrategy.attack(gameMap, null);
-    if (GameController.isTournament && GameMap.isGameOver) {
+    if (gameMap.getSession().isTournament() && gameMap.getSession().isGameOver()) {
       return;
     }
     gameMap.setCurrentContext(Context.GAME_ATTACK);
@@ -385,34 +460,30 @@ public class GameController {
    * Validates the attack method.
    *
    * @param gameMap The Game Map instance.
-   * @param command The command entered by the user.
+   * @param action The attack of the current player.
    * @return true if the attack is valid, false otherwise.
    */
-  public static boolean validateAttack(GameMap gameMap, String command) {
+  public static boolean validateAttack(GameMap gameMap, AttackAction action) {
     Player currentPlayer = gameMap.getCurrentPlayer();
 
-    // Validate country names
-    String[] commandSplit = command.split(" ");
-    if (commandSplit.length == 1) {
-      return false;
-    }
-    if (!gameMap.getCountries().containsKey(commandSplit[1])
-        || !gameMap.getCountries().containsKey(commandSplit[2])) {
+    // Validate country ids
+    if (action.getAttackerId() < 0 || action.getDefenderId() < 0) {
       display("Error: One or both the countries do not exist", false);
       return false;
     }
 
     // Get Country object and their owners
-    Country attackingCountry = gameMap.getCountries().get(commandSplit[1]);
+    Country attackingCountry = gameMap.getCountry(action.getAttackerId());
     String attackerName = attackingCountry.getOwnerName();
-    Country defendingCountry = gameMap.getCountries().get(commandSplit[2]);
+    Country defendingCountry = gameMap.getCountry(action.getDefenderId());
     String defenderName = defendingCountry.getOwnerName();
     // Current Player should be owner of the from country
     if (!attackerName.equals(currentPlayer.getStrategy().getPlayerName())) {
       display(
-          String.format(
-              "Error: Current player %s should be owner of %s to attack",
-              currentPlayer, attackingCountry.getName()),
+          () ->
+              String.format(
+                  "Error: Current player %s should be owner of %s to attack",
+                  currentPlayer, attackingCountry.getName()),
           false);
       return false;
     }
@@ -424,21 +495,19 @@ public class GameController {
     }
 
     // Both from , to country must be adjacent
-    if (!gameMap
-        .getBorders()
-        .get(attackingCountry.getName())
-        .contains(defendingCountry.getName())) {
+    if (!gameMap.getTopology().areNeighbors(action.getAttackerId(), action.getDefenderId())) {
       display(
-          String.format(
-              "Error: %s and %s need to be adjacent for attack",
-              attackingCountry.getName(), defendingCountry.getName()),
+          () ->
+              String.format(
+                  "Error: %s and %s need to be adjacent for attack",
+                  attackingCountry.getName(), defendingCountry.getName()),
           false);
       return false;
     }
 
     // Validate dice of Attacker if allout mode is not enabled
-    if (!command.contains("-allout")) {
-      int numOfDiceAttacker = Integer.parseInt(commandSplit[3]);
+    if (!action.isAllOut()) {
+      int numOfDiceAttacker = action.getNumOfDice();
       // numOfDice for attacker can't be > 3
       if (numOfDiceAttacker > 3 || numOfDiceAttacker < 1) {
         display("Error: numOfDice must be between 1-3", false);
@@ -464,23 +533,22 @@ public class GameController {
    * This method performs the attack.
    *
    * @param gameMap The Game Map instance.
-   * @param command The command entered by the user.
+   * @param action The validated attack.
    * @return The boolean result of the attack command.
    */
-  public static boolean performAttack(GameMap gameMap, String command) {
-    Player currentPlayer = gameMap.getCurrentPlayer();
-    String[] commandSplit = command.split(" ");
-    Country attackingCountry = gameMap.getCountries().get(commandSplit[1]);
+  public static boolean performAttack(GameMap gameMap, AttackAction action) {
+    Country attackingCountry = gameMap.getCountry(action.getAttackerId());
     String attackerName = attackingCountry.getOwnerName();
-    Country defendingCountry = gameMap.getCountries().get(commandSplit[2]);
+    Country defendingCountry = gameMap.getCountry(action.getDefenderId());
     String defenderName = defendingCountry.getOwnerName();
     // Start battle
     display(
-        String.format(
-            "%s owned by %s declared an attack on %s owned by %s",
-            attackingCountry.getName(), attackerName, defendingCountry.getName(), defenderName),
+        () ->
+            String.format(
+                "%s owned by %s declared an attack on %s owned by %s",
+                attackingCountry.getName(), attackerName, defendingCountry.getName(), defenderName),
         true);
-    return new PlayerHuman(null).attack(gameMap, command);
+    return new BattleController(gameMap, action).startBattle();
   }
 
   /**
@@ -492,9 +560,10 @@ public class GameController {
   public static boolean performAttackNone(GameMap gameMap) {
     Player currentPlayer = gameMap.getCurrentPlayer();
     display(
-        String.format("%s chose not to attack", currentPlayer.getStrategy().getPlayerName()), true);
-    if (GameController.assignedCard) {
-      GameController.assignedCard = false;
+        () -> String.format("%s chose not to attack", currentPlayer.getStrategy().getPlayerName()),
+        true);
+    if (gameMap.getSession().isCardAssigned()) {
+      gameMap.getSession().setCardAssigned(false);
     }
     if (currentPlayer.getStrategy() instanceof PlayerHuman) {
       changeToNextPhase(gameMap);
@@ -503,22 +572,20 @@ public class GameController {
   }
 
   /**
-   * Validates the reinforcement command.
+   * Validates a reinforcement.
    *
    * @param gameMap The Game Map instance.
-   * @param command The command entered by the user.
+   * @param action The reinforcement of the current player.
    * @return the result of the validation
    */
-  public static boolean validateReinforce(GameMap gameMap, String command) {
+  public static boolean validateReinforce(GameMap gameMap, ReinforceAction action) {
     Player currentPlayer = gameMap.getCurrentPlayer();
+    int armiesToPlace = action.getNumOfArmies();
 
-    String[] commandSplit = command.split(" ");
-    String countryName = commandSplit[1];
-    int armiesToPlace = Integer.parseInt(commandSplit[2]);
-
-    if (Player.getCountriesByOwnership(currentPlayer.getStrategy().getPlayerName(), gameMap)
-        .stream()
-        .noneMatch(c -> c.getName().equals(countryName))) {
+    if (action.getCountryId() < 0
+        || !gameMap
+            .getOwnership()
+            .owns(currentPlayer.getStrategy().getPlayerName(), action.getCountryId())) {
       display("Player doesnt own the country or it doesnt exist", false);
       return false;
     }
@@ -6,7 +6,7 @@ import models.GameMap;
 import models.WorldDomination;
 import utils.GamePersistenceHandler;
 import utils.MapAdaptor;
-import utils.MapValidator;
+import views.HeadlessRunner;
 import views.Runner;
 
 import java.io.FileNotFoundException;
@@ -31,7 +31,7 @@ public class MainController {
    * @return true if loaded map successfully
    */
   public static boolean processEditMapCommand(GameMap gameMap, String command) {
-    String fileLocation = command.split(" ", 2)[1];
+    String fileLocation = Command.EDIT_MAP.parseValidated(command).group(1);
     boolean result = false;
     boolean newFile = false;
     GameMap newGameMap = null;
@@ -41,7 +41,7 @@ public class MainController {
       newGameMap = mapAdaptor.autoLoadMap(fileLocation);
       result = true;
     } catch (FileNotFoundException e) {
-      newGameMap = GameMap.getGameMap();
+      newGameMap = gameMap;
       result = true;
       newFile = true;
     } catch (Exception e) {
@@ -55,7 +55,7 @@ public class MainController {
         display("Map loaded successfully", false);
       }
       GameMap.modifyInstance(newGameMap);
-      GameMap.getGameMap().setCurrentContext(Context.MAP_EDITOR);
+      newGameMap.setCurrentContext(Context.MAP_EDITOR);
     }
     return result;
   }
@@ -68,30 +68,37 @@ public class MainController {
    * @return true if loaded map successfully
    */
   public static boolean processLoadMapCommand(GameMap gameMap, String command) {
-    String fileLocation = command.split(" ", 2)[1];
+    String fileLocation = Command.LOAD_MAP.parseValidated(command).group(1);
+    return loadMap(gameMap, fileLocation) != null;
+  }
+
+  /**
+   * Loads a validated map file for the players of a game, makes it the game of the current thread
+   * and changes context to start the game
+   *
+   * @param gameMap contains game state, i.e the players
+   * @param fileLocation path of the map file
+   * @return the game on the loaded map, null if the map is invalid
+   */
+  static GameMap loadMap(GameMap gameMap, String fileLocation) {
     GameMap newGameMap = null;
-    boolean result = false;
     try {
       MapAdaptor mapAdaptor = new MapAdaptor();
-      newGameMap = mapAdaptor.autoLoadMap(fileLocation);
-      if (MapValidator.validateMap(gameMap)) {
-        result = true;
-      }
-
+      newGameMap = mapAdaptor.loadValidatedMap(fileLocation);
     } catch (Exception e) {
       display(e.getMessage(), false);
     }
-    if (result) {
-      display("Map loaded successfully", false);
-      if (gameMap.getPlayersList().size() != 0) {
-        newGameMap.setPlayersList(gameMap.getPlayersList());
-      }
-      GameMap.modifyInstance(newGameMap);
-      GameMap.getGameMap().setCurrentContext(Context.GAME_SETUP);
-    } else {
+    if (newGameMap == null) {
       display("Invalid map", false);
+      return null;
     }
-    return result;
+    display("Map loaded successfully", false);
+    if (gameMap.getPlayersList().size() != 0) {
+      newGameMap.setPlayersList(gameMap.getPlayersList());
+    }
+    GameMap.modifyInstance(newGameMap);
+    newGameMap.setCurrentContext(Context.GAME_SETUP);
+    return newGameMap;
   }
 
   /**
@@ -165,16 +172,19 @@ public class MainController {
    * @return true to indicate status
    */
   public static boolean processLoadGameCommand(GameMap gameMap, String command) {
-    String fileLocation = command.split(" ", 2)[1];
+    String fileLocation = Command.LOAD_GAME.parseValidated(command).group(1);
     try {
-      GamePersistenceHandler.loadState(fileLocation);
-      // add back observers
-      WorldDomination.destroyInstance();
-      GameMap.getGameMap().addObserver(Runner.phaseViewRef);
-      WorldDomination.getInstance().addObserver(Runner.wdViewRef);
-      Runner.phaseViewRef.update(GameMap.getGameMap(), "CURRENT_PLAYER");
-      Runner.phaseViewRef.update(GameMap.getGameMap(), "CURRENT_CONTEXT");
-      Runner.wdViewRef.update(WorldDomination.getInstance(), null);
+      GameMap loadedGameMap = GamePersistenceHandler.loadState(fileLocation);
+      // add back observers, there are none when running headlessly
+      loadedGameMap.getSession().resetWorldDomination();
+      if (!HeadlessRunner.isHeadless()) {
+        WorldDomination worldDomination = loadedGameMap.getSession().getWorldDomination();
+        loadedGameMap.addObserver(Runner.phaseViewRef);
+        worldDomination.addObserver(Runner.wdViewRef);
+        Runner.phaseViewRef.update(loadedGameMap, "CURRENT_PLAYER");
+        Runner.phaseViewRef.update(loadedGameMap, "CURRENT_CONTEXT");
+        Runner.wdViewRef.update(worldDomination, null);
+      }
       // finish
       return true;
     } catch (Exception e) {
@@ -0,0 +1,282 @@
+package controllers;
+
+import models.Card;
+import models.Command;
+import models.Country;
+import models.GameMap;
+import models.GameSession;
+import models.player.Player;
+import models.player.PlayerStrategy;
+import utils.GameRecording;
+import utils.GameRecording.Checkpoint;
+import views.ConsoleView;
+import views.LogLevel;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Objects;
+import java.util.Observable;
+import java.util.Observer;
+
+import static views.ConsoleView.display;
+
+/**
+ * This is the Controller for the replays of computer games. A game is recorded as its seed and
+ * settings followed by a checkpoint after every phase (see GameRecording), and is played again
+ * headlessly from them: to get the game at the start of any turn, or to check that the current code
+ * still plays the recorded game and find the first phase where it doesn't.
+ *
+ * @version 1.0
+ */
+public class ReplayController {
+
+  /** Offset basis of the FNV-1a hash the digest is computed with. */
+  private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+
+  /** Prime of the FNV-1a hash the digest is computed with. */
+  private static final long FNV_PRIME = 0x100000001b3L;
+
+  /**
+   * Processes the replay command, plays a recorded game again and shows whether it still matches
+   * the recording
+   *
+   * @param gameMap contains game state
+   * @param command cli command from the user
+   * @return true if the recording could be read
+   */
+  public static boolean processReplayCommand(GameMap gameMap, String command) {
+    String fileLocation = Command.REPLAY_GAME.parseValidated(command).group(1);
+    GameRecording recording;
+    try {
+      recording = GameRecording.load(fileLocation);
+    } catch (IOException | RuntimeException e) {
+      display("Invalid recording or file does not exist", true);
+      display(e.getMessage(), false);
+      return false;
+    }
+    Checkpoint divergence = findDivergence(recording);
+    if (divergence == null) {
+      display(
+          String.format("The replay matches the recording, winner %s", recording.getWinner()),
+          true);
+    } else {
+      display("The replay diverges from the recording at " + divergence, true);
+    }
+    return true;
+  }
+
+  /**
+   * Plays and records a game of computer players on the calling thread.
+   *
+   * @param map the map file to play on
+   * @param strategies the strategies of the players
+   * @param seed the seed of the game
+   * @param maxNumberOfRounds the number of rounds after which the game is a draw
+   * @param isAllOutSampled true to resolve all-out battles in one step
+   * @return the recording, null if the map is invalid.
+   */
+  public static GameRecording record(
+      String map, String[] strategies, long seed, int maxNumberOfRounds, boolean isAllOutSampled) {
+    GameRecording recording =
+        new GameRecording(map, strategies, seed, maxNumberOfRounds, isAllOutSampled);
+    return simulate(recording, Integer.MAX_VALUE, recording) == null ? null : recording;
+  }
+
+  /**
+   * Plays a recorded game again up to the start of a turn.
+   *
+   * @param recording the recording of the game
+   * @param turn number of turns to play, the game stops earlier if it is over
+   * @return the game, null if the map is invalid.
+   */
+  public static GameMap seek(GameRecording recording, int turn) {
+    return simulate(recording, turn, null);
+  }
+
+  /**
+   * Plays a recorded game again and finds the first checkpoint where it differs from the recording.
+   *
+   * @param recording the recording of the game
+   * @return the first checkpoint that differs, from the recording unless the recording ends there,
+   *     null if the game is played the same way.
+   */
+  public static Checkpoint findDivergence(GameRecording recording) {
+    GameRecording rerun = recording.rerun();
+    simulate(recording, Integer.MAX_VALUE, rerun);
+    List<Checkpoint> expected = recording.getCheckpoints();
+    List<Checkpoint> actual = rerun.getCheckpoints();
+    for (int i = 0; i < Math.max(expected.size(), actual.size()); i++) {
+      if (i >= expected.size()) {
+        return actual.get(i);
+      }
+      if (i >= actual.size() || !expected.get(i).equals(actual.get(i))) {
+        return expected.get(i);
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Checks that a recorded game is played the same way at least up to a turn, e.g the turn a change
+   * to a strategy is expected to make a difference.
+   *
+   * @param recording the recording of the game
+   * @param turn the number of turns expected to be played the same way
+   * @return true if the game diverges at the start of the turn or later.
+   */
+  public static boolean matchesUntil(GameRecording recording, int turn) {
+    Checkpoint divergence = findDivergence(recording);
+    return divergence == null || divergence.getTurn() >= turn;
+  }
+
+  /**
+   * Plays a game set up by TournamentController.setUpGame to its end and records it.
+   *
+   * @param gameMap the game
+   * @param recording the recording the checkpoints and the winner are added to
+   */
+  static void record(GameMap gameMap, GameRecording recording) {
+    Recorder recorder = new Recorder(recording);
+    gameMap.addObserver(recorder);
+    try {
+      recording.setWinner(
+          TournamentController.playTurns(
+              gameMap, recording.getMaxNumberOfRounds(), Integer.MAX_VALUE));
+    } finally {
+      gameMap.deleteObserver(recorder);
+    }
+  }
+
+  /**
+   * Plays a recorded game again on the calling thread without writing any message.
+   *
+   * @param recording the recording of the game
+   * @param turn number of turns to play
+   * @param rerun the recording the checkpoints are added to, null to not record them
+   * @return the game, null if the map is invalid.
+   */
+  private static GameMap simulate(GameRecording recording, int turn, GameRecording rerun) {
+    LogLevel previousLogLevel = ConsoleView.getLogLevel();
+    ConsoleView.setLogLevel(LogLevel.OFF);
+    GameMap gameMap = new GameMap();
+    GameSession.bindToCurrentThread(gameMap.getSession());
+    try {
+      gameMap =
+          TournamentController.setUpGame(
+              gameMap,
+              recording.getMapFile(),
+              recording.getStrategies(),
+              recording.getSeed(),
+              recording.isAllOutSampled());
+      if (gameMap == null) {
+        return null;
+      }
+      if (rerun == null) {
+        TournamentController.playTurns(gameMap, recording.getMaxNumberOfRounds(), turn);
+      } else {
+        record(gameMap, rerun);
+      }
+      return gameMap;
+    } finally {
+      GameSession.unbindFromCurrentThread();
+      ConsoleView.setLogLevel(previousLogLevel);
+    }
+  }
+
+  /**
+   * Computes a digest of the owners and armies of the countries, the armies and cards of the
+   * players, the deck and the card counters of a game.
+   *
+   * @param gameMap the game
+   * @return the digest.
+   */
+  static long digest(GameMap gameMap) {
+    long digest = FNV_OFFSET_BASIS;
+    for (int id = 0; id < gameMap.getTopology().getNumberOfCountries(); id++) {
+      Country country = gameMap.getCountry(id);
+      digest = mix(digest, Objects.hashCode(country.getOwnerName()));
+      digest = mix(digest, country.getNumberOfArmies());
+    }
+    for (Player player : gameMap.getPlayersList()) {
+      PlayerStrategy strategy = player.getStrategy();
+      digest = mix(digest, strategy.getPlayerName().hashCode());
+      digest = mix(digest, strategy.getNumberOfArmies());
+      digest = mixCards(digest, strategy.getCardsInHand());
+    }
+    digest = mixCards(digest, gameMap.getDeck());
+    GameSession session = gameMap.getSession();
+    digest = mix(digest, session.getNumberOfTradedSet());
+    digest = mix(digest, session.getArmiesTradedForSet());
+    return mix(digest, session.getCardCount());
+  }
+
+  /**
+   * Mixes cards into a digest.
+   *
+   * @param digest the digest so far
+   * @param cards the cards, null for none
+   * @return the new digest.
+   */
+  private static long mixCards(long digest, List<Card> cards) {
+    if (cards == null) {
+      return mix(digest, 0);
+    }
+    digest = mix(digest, cards.size());
+    for (Card card : cards) {
+      digest = mix(digest, Objects.hashCode(card.getCountry()));
+      digest = mix(digest, card.getType().ordinal());
+    }
+    return digest;
+  }
+
+  /**
+   * Mixes the bytes of an integer into a digest.
+   *
+   * @param digest the digest so far
+   * @param value the integer
+   * @return the new digest.
+   */
+  private static long mix(long digest, int value) {
+    for (int shift = 0; shift < Integer.SIZE; shift += Byte.SIZE) {
+      digest ^= (value >>> shift) & 0xFF;
+      digest *= FNV_PRIME;
+    }
+    return digest;
+  }
+
+  /** Adds a checkpoint to a recording every time the game changes phase. */
+  private static final class Recorder implements Observer {
+
+    /** The recording the checkpoints are added to. */
+    private final GameRecording recording;
+
+    /**
+     * The constructor for a Recorder.
+     *
+     * @param recording the recording the checkpoints are added to
+     */
+    private Recorder(GameRecording recording) {
+      this.recording = recording;
+    }
+
+    /**
+     * Adds a checkpoint when the game changes phase.
+     *
+     * @param observable the game
+     * @param arg what changed
+     */
+    @Override
+    public void update(Observable observable, Object arg) {
+      if (!"CURRENT_CONTEXT".equals(arg)) {
+        return;
+      }
+      GameMap gameMap = (GameMap) observable;
+      recording.addCheckpoint(
+          new Checkpoint(
+              gameMap.getSession().getNumOfTurns(),
+              gameMap.getCurrentContext(),
+              gameMap.getCurrentPlayer().getStrategy().getPlayerName(),
+              digest(gameMap)));
+    }
+  }
+}
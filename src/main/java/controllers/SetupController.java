@@ -32,7 +32,7 @@ public class SetupController {
     if (result) {
       display("Populated countries randomly", false);
       gameMap.setCurrentContext(Context.GAME_STARTUP);
-      if (!GameController.isTournament
+      if (!gameMap.getSession().isTournament()
           && gameMap.getPlayersList().stream()
               .anyMatch(player -> !(player.getStrategy() instanceof PlayerHuman))) {
         display("Executing 'placeall' since there exists an AI player!", true);
@@ -41,14 +41,16 @@ public class SetupController {
         display("[Game Startup Phase]", false);
         Player currentPlayer = gameMap.getCurrentPlayer();
         display(
-            String.format(
-                "%s's turn to place an army", currentPlayer.getStrategy().getPlayerName()),
+            () ->
+                String.format(
+                    "%s's turn to place an army", currentPlayer.getStrategy().getPlayerName()),
             false);
         display(
-            String.format(
-                "%s has %d armies left to place",
-                currentPlayer.getStrategy().getPlayerName(),
-                currentPlayer.getStrategy().getNumberOfArmies()),
+            () ->
+                String.format(
+                    "%s has %d armies left to place",
+                    currentPlayer.getStrategy().getPlayerName(),
+                    currentPlayer.getStrategy().getNumberOfArmies()),
             false);
       }
     } else {
@@ -1,5 +1,6 @@
 package controllers;
 
+import models.Command;
 import models.GameMap;
 import models.player.Player;
 import models.player.PlayerStrategy;
@@ -23,13 +24,13 @@ public class StartUpController {
    * @return true if successfully placed an army
    */
   public static boolean processPlaceArmyCommand(GameMap gameMap, String command) {
-    String[] commandSplit = command.split(" ");
-    String countryName = commandSplit[1];
+    String countryName = Command.PLACE_ARMY.parseValidated(command).group(1);
     boolean result = gameMap.placeArmy(countryName, 1);
     PlayerStrategy strategy = gameMap.getCurrentPlayer().getStrategy();
     if (result) {
       display(
-          String.format("%s placed an army in %s", strategy.getPlayerName(), countryName), true);
+          () -> String.format("%s placed an army in %s", strategy.getPlayerName(), countryName),
+          true);
       if (gameMap.checkGameReady()) {
         startPhaseLoop(gameMap);
         return true;
@@ -37,21 +38,24 @@ public class StartUpController {
         gameMap.updatePlayerIndex();
         Player currentPlayer = gameMap.getCurrentPlayer();
         display(
-            String.format(
-                "%s's turn to place an army", currentPlayer.getStrategy().getPlayerName()),
+            () ->
+                String.format(
+                    "%s's turn to place an army", currentPlayer.getStrategy().getPlayerName()),
             false);
         display(
-            String.format(
-                "%s has %d armies left to place",
-                currentPlayer.getStrategy().getPlayerName(),
-                currentPlayer.getStrategy().getNumberOfArmies()),
+            () ->
+                String.format(
+                    "%s has %d armies left to place",
+                    currentPlayer.getStrategy().getPlayerName(),
+                    currentPlayer.getStrategy().getNumberOfArmies()),
             false);
       }
     } else {
       display(
-          String.format(
-              "%s does not own %s to place armies or it does not exist",
-              strategy.getPlayerName(), countryName),
+          () ->
+              String.format(
+                  "%s does not own %s to place armies or it does not exist",
+                  strategy.getPlayerName(), countryName),
           false);
     }
     return result;
@@ -67,7 +71,7 @@ public class StartUpController {
   public static boolean processPlaceAllCommand(GameMap gameMap, String command) {
     gameMap.placeAll();
     display("Placed player armies randomly in countries that they own", true);
-    if (!GameController.isTournament) {
+    if (!gameMap.getSession().isTournament()) {
       startPhaseLoop(gameMap);
     }
     return true;
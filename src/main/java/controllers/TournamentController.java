@@ -1,13 +1,28 @@
 package controllers;
 
-import models.Context;
 import models.GameMap;
+import models.GameSession;
+import models.GameStatistics;
 import models.player.PlayerStrategy;
+import utils.GameRecording;
+import utils.GameResult;
+import utils.TournamentStatistics;
+import views.ConsoleView;
+import views.LogLevel;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static views.ConsoleView.display;
 
@@ -22,13 +37,37 @@ public class TournamentController {
   /** a property holding the max. number of turns for each game */
   public static int maxNumberOfTurnsProperty;
 
+  /** a property holding the max. number of games played concurrently */
+  public static int numberOfWorkersProperty = Runtime.getRuntime().availableProcessors();
+
+  /** a property holding the level of the messages written while the games are played */
+  public static LogLevel logLevelProperty = LogLevel.SUMMARY;
+
+  /** a property enabling one step resolution of all-out battles, see BattleOutcomeTable */
+  public static boolean allOutSampledProperty = false;
+
+  /** a property holding the directory every game is recorded to, null to not record the games */
+  public static String recordDirectoryProperty = null;
+
+  /** a property holding the directory the log of every game is spilled to, null to not keep it */
+  public static String logDirectoryProperty = null;
+
+  /**
+   * a property holding the file the result of every game is written to as it finishes, CSV for a
+   * .csv file and JSON lines otherwise, null to not write the results
+   */
+  public static String resultFileProperty = null;
+
   /**
    * a map that holds the results table
    */
-  public static Map<String, ArrayList<String>> resultTable = new HashMap<>();
+  public static Map<String, ArrayList<String>> resultTable = new LinkedHashMap<>();
 
   /**
-   * starts the tournament based on command
+   * starts the tournament based on command, every (map, game) pair is played on its own worker
+   * thread and the winners are merged into the results table in command order. The games are seeded
+   * from the -S seed (a random one if omitted), the same seed replays the same tournament. The
+   * result of every game is added to the statistics of the tournament as soon as it finishes
    *
    * @param gameMap the GameMap instance / the reference to game map
    * @param command the command
@@ -41,57 +80,356 @@ public class TournamentController {
 
     String[] listOfMapFiles = commandSplitTwo[0].split(" ");
     String[] listOfPlayerStrategies = commandSplitThree[0].split(" ");
-    int numberOfGames = Integer.parseInt(commandSplitThree[1].split(" -D ")[0]);
-    maxNumberOfTurnsProperty = Integer.parseInt(commandSplitThree[1].split(" -D ")[1]);
-    for (String map : listOfMapFiles) {
+    String[] commandSplitFour = commandSplitThree[1].split(" -D ");
+    String[] commandSplitFive = commandSplitFour[1].split(" -S ");
+    int numberOfGames = Integer.parseInt(commandSplitFour[0]);
+    maxNumberOfTurnsProperty = Integer.parseInt(commandSplitFive[0]);
+    long seed =
+        commandSplitFive.length > 1
+            ? Long.parseLong(commandSplitFive[1])
+            : new SplittableRandom().nextLong();
+
+    if (!createDirectory(recordDirectoryProperty) || !createDirectory(logDirectoryProperty)) {
+      return false;
+    }
+    TournamentStatistics statistics;
+    try {
+      statistics = new TournamentStatistics(resultFileProperty);
+    } catch (IOException e) {
+      reportError(
+          String.format(
+              "Results couldn't be written to %s: %s", resultFileProperty, e.getMessage()));
+      return false;
+    }
+    int numberOfWorkers =
+        Math.max(1, Math.min(numberOfWorkersProperty, listOfMapFiles.length * numberOfGames));
+    LogLevel previousLogLevel = ConsoleView.getLogLevel();
+    ConsoleView.setLogLevel(logLevelProperty);
+    ExecutorService executor = Executors.newFixedThreadPool(numberOfWorkers);
+    Map<String, List<Future<String>>> gamesByMap = new LinkedHashMap<>();
+    // every map and every game gets its own branch of the seed tree
+    SplittableRandom tournamentRandom = new SplittableRandom(seed);
+    for (int mapIndex = 0; mapIndex < listOfMapFiles.length; mapIndex++) {
+      String map = listOfMapFiles[mapIndex];
+      List<Future<String>> games = gamesByMap.computeIfAbsent(map, key -> new ArrayList<>());
+      SplittableRandom mapRandom = tournamentRandom.split();
       for (int gameIndex = 0; gameIndex < numberOfGames; gameIndex++) {
-        gameMap = GameMap.getGameMap();
-        GameController.isTournament = true;
-        // set players
-        // Add index to game player names to make them unique
-        StringBuilder stringBuilder = new StringBuilder("gameplayer");
-        for (int idx = 0; idx < listOfPlayerStrategies.length; idx++) {
-          String strategy = listOfPlayerStrategies[idx];
-          stringBuilder.append(
-              String.format(" -add %s-%d %s", strategy.toUpperCase(), idx, strategy));
-        }
-        String gamePlayerCmd = stringBuilder.toString();
-        MainController.processGamePlayerCommand(gameMap, gamePlayerCmd);
-        // load map
-        String loadMapCmd = String.format("loadmap %s", map);
-        if (!MainController.processLoadMapCommand(gameMap, loadMapCmd)) {
-          GameMap.destroyGameMap();
+        long gameSeed = mapRandom.split().nextLong();
+        String recordFile =
+            gameFile(recordDirectoryProperty, mapIndex, map, gameIndex, ".replay");
+        String logFile = gameFile(logDirectoryProperty, mapIndex, map, gameIndex, ".log.gz");
+        int gameNumber = gameIndex + 1;
+        games.add(
+            executor.submit(
+                () ->
+                    playGame(
+                        map,
+                        gameNumber,
+                        listOfPlayerStrategies,
+                        gameSeed,
+                        recordFile,
+                        logFile,
+                        statistics)));
+      }
+    }
+    executor.shutdown();
+
+    // save the winners name
+    for (Map.Entry<String, List<Future<String>>> entry : gamesByMap.entrySet()) {
+      String map = entry.getKey();
+      for (Future<String> game : entry.getValue()) {
+        String winner;
+        try {
+          winner = game.get();
+        } catch (InterruptedException | ExecutionException e) {
+          reportError(String.format("Game on %s failed: %s", map, e.getMessage()));
+          statistics.addFailedGame();
           continue;
         }
-        SetupController.processPopulateCountriesCommand(gameMap, null);
-        StartUpController.processPlaceAllCommand(gameMap, null);
-        GameMap.numberOfRounds = 0;
-        GameMap.numOfTurns = 0;
-        while (!GameMap.isGameOver && GameMap.numberOfRounds < maxNumberOfTurnsProperty) {
-          GameController.startPhaseLoop(GameMap.getGameMap());
-          GameMap.numOfTurns++;
-        }
-        String winner;
-        if (GameMap.numberOfRounds >= TournamentController.maxNumberOfTurnsProperty) {
-          display("Turns Exceeded! Ending the current game", true);
-          winner = "Draw";
-        } else {
-          PlayerStrategy strategy = gameMap.getCurrentPlayer().getStrategy();
-          winner = strategy.getPlayerName();
+        if (winner == null) {
+          reportError(String.format("Game on %s failed: the map is invalid", map));
+          statistics.addFailedGame();
+          continue;
         }
-        // save the winners name
         if (!resultTable.containsKey(map)) {
           resultTable.put(map, new ArrayList<String>());
         }
         resultTable.get(map).add(winner);
-        GameMap.destroyGameMap();
       }
     }
+    ConsoleView.setLogLevel(previousLogLevel);
+    try {
+      statistics.close();
+    } catch (IOException e) {
+      reportError(
+          String.format(
+              "Results couldn't be written to %s: %s", resultFileProperty, e.getMessage()));
+    }
     // pretty print the results
-    System.out.println("RESULTS TABLE");
+    System.out.println(String.format("RESULTS TABLE (seed %d)", seed));
     for(Map.Entry<String, ArrayList<String>> entry:resultTable.entrySet()){
       System.out.println(String.format("%s -> %s",entry.getKey(), String.join(" ", entry.getValue())));
     }
+    System.out.println("STATISTICS");
+    for (String line : statistics.getSummary()) {
+      System.out.println(line);
+    }
     return true;
   }
+
+  /**
+   * Plays one tournament game on the calling thread, the game is bound to the thread so it shares
+   * no state with games played on other workers
+   *
+   * @param map the map file to play on
+   * @param gameNumber the number of the game on the map, from 1
+   * @param listOfPlayerStrategies the strategies of the players
+   * @param seed the seed of the game, every random decision of the game is drawn from it
+   * @param recordFile the file the game is recorded to, null to not record it
+   * @param logFile the file the log of the game is spilled to, null to not keep it
+   * @param statistics the statistics of the tournament the result of the game is added to
+   * @return name of the winner, Draw if turns are exceeded or null if the map is invalid
+   */
+  private static String playGame(
+      String map,
+      int gameNumber,
+      String[] listOfPlayerStrategies,
+      long seed,
+      String recordFile,
+      String logFile,
+      TournamentStatistics statistics) {
+    long startNanos = System.nanoTime();
+    GameMap gameMap = new GameMap();
+    GameSession.bindToCurrentThread(gameMap.getSession());
+    String winner = null;
+    boolean isWritten = true;
+    try {
+      gameMap = setUpGame(gameMap, map, listOfPlayerStrategies, seed, allOutSampledProperty);
+      if (gameMap == null) {
+        return null;
+      }
+      if (logFile != null) {
+        try {
+          gameMap.getPhaseLogEntries().spillTo(logFile);
+        } catch (IOException e) {
+          reportError(String.format("Log couldn't be kept in %s: %s", logFile, e.getMessage()));
+          isWritten = false;
+        }
+      }
+      if (recordFile == null) {
+        winner = playTurns(gameMap, maxNumberOfTurnsProperty, Integer.MAX_VALUE);
+      } else {
+        GameRecording recording =
+            new GameRecording(
+                map, listOfPlayerStrategies, seed, maxNumberOfTurnsProperty, allOutSampledProperty);
+        ReplayController.record(gameMap, recording);
+        try {
+          recording.save(recordFile);
+        } catch (IOException e) {
+          reportError(
+              String.format("Game couldn't be recorded to %s: %s", recordFile, e.getMessage()));
+          isWritten = false;
+        }
+        winner = recording.getWinner();
+      }
+      GameResult result =
+          createResult(
+              gameMap,
+              map,
+              gameNumber,
+              listOfPlayerStrategies,
+              seed,
+              winner,
+              TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+      try {
+        statistics.add(result);
+      } catch (IOException e) {
+        reportError(
+            String.format(
+                "Result couldn't be written to %s: %s", resultFileProperty, e.getMessage()));
+        isWritten = false;
+      }
+      return winner;
+    } finally {
+      if (gameMap != null) {
+        try {
+          gameMap.getPhaseLogEntries().closeSpill();
+        } catch (IOException e) {
+          reportError(String.format("Log couldn't be kept in %s: %s", logFile, e.getMessage()));
+          isWritten = false;
+        }
+      }
+      if (!isWritten) {
+        statistics.addUnwrittenGame();
+      }
+      GameSession.unbindFromCurrentThread();
+    }
+  }
+
+  /**
+   * Reports an error of the tournament on the error stream whatever the log level, the errors are
+   * about the files of the games and the games themselves so they are kept out of the phase logs
+   *
+   * @param message the error
+   */
+  private static void reportError(String message) {
+    System.err.println(message);
+  }
+
+  /**
+   * Creates the result of a finished game from its session, the strategy of the winner is found
+   * from the index in the name of the player, see setUpGame
+   *
+   * @param gameMap the game
+   * @param map the map file the game was played on
+   * @param gameNumber the number of the game on the map, from 1
+   * @param listOfPlayerStrategies the strategies of the players
+   * @param seed the seed of the game
+   * @param winner name of the winner, Draw if turns are exceeded
+   * @param wallTimeMillis the time taken by the game in milliseconds
+   * @return the result of the game
+   */
+  static GameResult createResult(
+      GameMap gameMap,
+      String map,
+      int gameNumber,
+      String[] listOfPlayerStrategies,
+      long seed,
+      String winner,
+      long wallTimeMillis) {
+    String winnerStrategy = null;
+    if (!GameResult.DRAW.equals(winner)) {
+      int idx = Integer.parseInt(winner.substring(winner.lastIndexOf('-') + 1));
+      winnerStrategy = listOfPlayerStrategies[idx];
+    }
+    GameSession session = gameMap.getSession();
+    GameStatistics gameStatistics = session.getStatistics();
+    return new GameResult(
+        map,
+        gameNumber,
+        seed,
+        listOfPlayerStrategies,
+        winner,
+        winnerStrategy,
+        session.getNumOfTurns(),
+        session.getNumberOfRounds(),
+        gameStatistics.getBattlesFought(),
+        gameStatistics.getDiceRolled(),
+        gameStatistics.getArmiesDestroyed(),
+        gameStatistics.getEliminationOrder(),
+        wallTimeMillis);
+  }
+
+  /**
+   * Creates a directory the files of the games are kept in, with its parents, if it doesn't exist
+   *
+   * @param directory the directory, null if the files aren't kept
+   * @return true if the directory exists or isn't needed, false if it couldn't be created
+   */
+  private static boolean createDirectory(String directory) {
+    if (directory == null) {
+      return true;
+    }
+    try {
+      Files.createDirectories(Paths.get(directory));
+      return true;
+    } catch (IOException e) {
+      reportError(String.format("Directory %s couldn't be created: %s", directory, e));
+      return false;
+    }
+  }
+
+  /**
+   * Gets the file of a game of the tournament in a directory, named after the position of the map
+   * in the command, the map file and the game so maps with the same file name don't share files,
+   * e.g 1-risk.map-2.replay
+   *
+   * @param directory the directory, null if the files aren't kept
+   * @param mapIndex the index of the map in the command
+   * @param map the map file the game is played on
+   * @param gameIndex the index of the game on the map
+   * @param extension the extension of the file
+   * @return the path of the file, null if the directory is null
+   */
+  private static String gameFile(
+      String directory, int mapIndex, String map, int gameIndex, String extension) {
+    if (directory == null) {
+      return null;
+    }
+    return Paths.get(
+            directory,
+            String.format(
+                "%d-%s-%d%s", mapIndex + 1, Paths.get(map).getFileName(), gameIndex + 1, extension))
+        .toString();
+  }
+
+  /**
+   * Sets up a game of computer players on the calling thread: adds the players, loads the map,
+   * seeds the game, populates the countries and places the armies
+   *
+   * @param gameMap the game bound to the calling thread, the players are added to it
+   * @param map the map file to play on
+   * @param listOfPlayerStrategies the strategies of the players
+   * @param seed the seed of the game, every random decision of the game is drawn from it
+   * @param isAllOutSampled true to resolve all-out battles in one step
+   * @return the game ready for its first turn, null if the map is invalid
+   */
+  static GameMap setUpGame(
+      GameMap gameMap,
+      String map,
+      String[] listOfPlayerStrategies,
+      long seed,
+      boolean isAllOutSampled) {
+    gameMap.getSession().setTournament(true);
+    // set players
+    // Add index to game player names to make them unique
+    StringBuilder stringBuilder = new StringBuilder("gameplayer");
+    for (int idx = 0; idx < listOfPlayerStrategies.length; idx++) {
+      String strategy = listOfPlayerStrategies[idx];
+      stringBuilder.append(
+          String.format(" -add %s-%d %s", strategy.toUpperCase(), idx, strategy));
+    }
+    String gamePlayerCmd = stringBuilder.toString();
+    MainController.processGamePlayerCommand(gameMap, gamePlayerCmd);
+    // load map
+    gameMap = MainController.loadMap(gameMap, map);
+    if (gameMap == null) {
+      return null;
+    }
+    GameSession session = gameMap.getSession();
+    session.setTournament(true);
+    session.setRandomGenerator(seed);
+    session.setAllOutSampled(isAllOutSampled);
+    SetupController.processPopulateCountriesCommand(gameMap, null);
+    StartUpController.processPlaceAllCommand(gameMap, null);
+    session.setNumberOfRounds(0);
+    session.setNumOfTurns(0);
+    return gameMap;
+  }
+
+  /**
+   * Plays the turns of a game set up by setUpGame until it is over, drawn or has played a number
+   * of turns
+   *
+   * @param gameMap the game
+   * @param maxNumberOfRounds the number of rounds after which the game is a draw
+   * @param untilTurn the number of turns to stop at
+   * @return name of the winner, Draw if turns are exceeded or null if stopped at untilTurn
+   */
+  static String playTurns(GameMap gameMap, int maxNumberOfRounds, int untilTurn) {
+    GameSession session = gameMap.getSession();
+    while (!session.isGameOver() && session.getNumberOfRounds() < maxNumberOfRounds) {
+      if (session.getNumOfTurns() >= untilTurn) {
+        return null;
+      }
+      GameController.startPhaseLoop(gameMap);
+      session.setNumOfTurns(session.getNumOfTurns() + 1);
+    }
+    if (session.getNumberOfRounds() >= maxNumberOfRounds) {
+      display("Turns Exceeded! Ending the current game", true);
+      return "Draw";
+    }
+    PlayerStrategy strategy = gameMap.getCurrentPlayer().getStrategy();
+    return strategy.getPlayerName();
+  }
 }
@@ -0,0 +1,258 @@
+package models;
+
+import models.player.Player;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * BoardState is a snapshot of the board of one game in primitive arrays, the owner and the armies
+ * of every country by its id in the MapTopology of the map. It is the board format of the binary
+ * saves and of the journal snapshots, see BinarySaveFormat and GameJournal. The running game keeps
+ * its owners and armies in its Country objects, a snapshot is captured from them and restored into
+ * them. Owners are stored as indices into the names of the players.
+ *
+ * <pre>
+ *   BoardState saved = BoardState.capture(gameMap);
+ *   // ... play on
+ *   saved.restore(gameMap);
+ * </pre>
+ *
+ * @version 1.0
+ */
+public final class BoardState {
+
+  /** Owner index of a country without owner. */
+  public static final int NO_OWNER = -1;
+
+  /** The topology the ids belong to. */
+  private final MapTopology topology;
+
+  /** Names of the players, by owner index. */
+  private final String[] playerNames;
+
+  /** Owner index of each country, NO_OWNER if it has none. */
+  private final int[] owners;
+
+  /** Number of armies in each country. */
+  private final int[] armies;
+
+  /**
+   * The constructor for a BoardState, see capture.
+   *
+   * @param topology the topology the ids belong to
+   * @param playerNames names of the players, by owner index
+   * @param owners owner index of each country
+   * @param armies number of armies in each country
+   */
+  public BoardState(MapTopology topology, String[] playerNames, int[] owners, int[] armies) {
+    if (owners.length != topology.getNumberOfCountries()
+        || armies.length != topology.getNumberOfCountries()) {
+      throw new IllegalArgumentException("The board doesn't match the countries of the map");
+    }
+    this.topology = topology;
+    this.playerNames = playerNames;
+    this.owners = owners;
+    this.armies = armies;
+  }
+
+  /**
+   * Captures the board of a game, players are indexed in the order of the players list and owners
+   * that aren't players any more come after them.
+   *
+   * @param gameMap the game to capture
+   * @return a new BoardState.
+   */
+  public static BoardState capture(GameMap gameMap) {
+    MapTopology topology = gameMap.getTopology();
+    List<String> playerNames = new ArrayList<>();
+    for (Player player : gameMap.getPlayersList()) {
+      playerNames.add(player.getStrategy().getPlayerName());
+    }
+    int[] owners = new int[topology.getNumberOfCountries()];
+    int[] armies = new int[topology.getNumberOfCountries()];
+    for (int id = 0; id < owners.length; id++) {
+      Country country = gameMap.getCountry(id);
+      String ownerName = country.getOwnerName();
+      if (ownerName == null) {
+        owners[id] = NO_OWNER;
+      } else {
+        int ownerIndex = playerNames.indexOf(ownerName);
+        if (ownerIndex < 0) {
+          ownerIndex = playerNames.size();
+          playerNames.add(ownerName);
+        }
+        owners[id] = ownerIndex;
+      }
+      armies[id] = country.getNumberOfArmies();
+    }
+    return new BoardState(topology, playerNames.toArray(new String[0]), owners, armies);
+  }
+
+  /**
+   * Sets the owners and armies of the countries of a game to this board, only countries that differ
+   * are changed.
+   *
+   * @param gameMap a game on the same map
+   */
+  public void restore(GameMap gameMap) {
+    if (!isBoardOf(gameMap.getTopology())) {
+      throw new IllegalArgumentException("The board doesn't match the countries of the map");
+    }
+    for (int id = 0; id < owners.length; id++) {
+      Country country = gameMap.getCountry(id);
+      String ownerName = getOwnerName(id);
+      if (!Objects.equals(ownerName, country.getOwnerName())) {
+        country.setOwnerName(ownerName);
+      }
+      if (armies[id] != country.getNumberOfArmies()) {
+        country.setNumberOfArmies(armies[id]);
+      }
+    }
+  }
+
+  /**
+   * Copies the board, the topology and the player names are shared.
+   *
+   * @return a new BoardState.
+   */
+  public BoardState copy() {
+    return new BoardState(topology, playerNames, owners.clone(), armies.clone());
+  }
+
+  /**
+   * Checks if the board has the countries of a topology, either the same topology or one compiled
+   * from the same countries.
+   *
+   * @param otherTopology the topology to check
+   * @return true if the ids of the board are the ids of the topology.
+   */
+  public boolean isBoardOf(MapTopology otherTopology) {
+    if (otherTopology == topology) {
+      return true;
+    }
+    if (otherTopology.getNumberOfCountries() != topology.getNumberOfCountries()) {
+      return false;
+    }
+    for (int id = 0; id < owners.length; id++) {
+      if (!otherTopology.getCountryName(id).equals(topology.getCountryName(id))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Gets the topology the ids belong to.
+   *
+   * @return the MapTopology.
+   */
+  public MapTopology getTopology() {
+    return topology;
+  }
+
+  /**
+   * Gets the number of players that can own a country.
+   *
+   * @return An integer.
+   */
+  public int getNumberOfPlayers() {
+    return playerNames.length;
+  }
+
+  /**
+   * Gets the name of a player.
+   *
+   * @param ownerIndex owner index of the player
+   * @return the name of the player.
+   */
+  public String getPlayerName(int ownerIndex) {
+    return playerNames[ownerIndex];
+  }
+
+  /**
+   * Gets the owner index of a country.
+   *
+   * @param countryId id of the country
+   * @return the owner index, NO_OWNER if the country has none.
+   */
+  public int getOwner(int countryId) {
+    return owners[countryId];
+  }
+
+  /**
+   * Gets the name of the owner of a country.
+   *
+   * @param countryId id of the country
+   * @return the name of the owner, null if the country has none.
+   */
+  public String getOwnerName(int countryId) {
+    return owners[countryId] == NO_OWNER ? null : playerNames[owners[countryId]];
+  }
+
+  /**
+   * Sets the owner of a country.
+   *
+   * @param countryId id of the country
+   * @param ownerIndex owner index of the player, NO_OWNER for none
+   */
+  public void setOwner(int countryId, int ownerIndex) {
+    if (ownerIndex < NO_OWNER || ownerIndex >= playerNames.length) {
+      throw new IllegalArgumentException("Unknown owner index " + ownerIndex);
+    }
+    owners[countryId] = ownerIndex;
+  }
+
+  /**
+   * Gets the number of armies in a country.
+   *
+   * @param countryId id of the country
+   * @return An integer.
+   */
+  public int getArmies(int countryId) {
+    return armies[countryId];
+  }
+
+  /**
+   * Sets the number of armies in a country.
+   *
+   * @param countryId id of the country
+   * @param numberOfArmies the new number of armies
+   */
+  public void setArmies(int countryId, int numberOfArmies) {
+    armies[countryId] = numberOfArmies;
+  }
+
+  /**
+   * Checks if two boards have the same players, owners and armies.
+   *
+   * @param o the other board
+   * @return true if the boards are equal.
+   */
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    BoardState boardState = (BoardState) o;
+    return Arrays.equals(playerNames, boardState.playerNames)
+        && Arrays.equals(owners, boardState.owners)
+        && Arrays.equals(armies, boardState.armies);
+  }
+
+  /**
+   * Hashes the players, owners and armies.
+   *
+   * @return the hash code.
+   */
+  @Override
+  public int hashCode() {
+    return 31 * (31 * Arrays.hashCode(playerNames) + Arrays.hashCode(owners))
+        + Arrays.hashCode(armies);
+  }
+}
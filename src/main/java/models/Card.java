@@ -8,9 +8,6 @@ package models;
  */
 public class Card {
 
-  /** Total cards introduced in the game */
-  private static int cardCount = 0;
-
   /** Stores the typeOfCard enum */
   private typeOfCard type;
 
@@ -21,30 +18,12 @@ public class Card {
    * The constructor for a Card object.
    *
    * @param country Country associated with the card
+   * @param type the type of the card, see GameSession.nextCardType
    */
-  public Card(String country) {
+  public Card(String country, typeOfCard type) {
     super();
     this.country = country;
-    this.type = typeOfCard.values()[cardCount % 3];
-    cardCount++;
-  }
-
-  /**
-   * Gets the number of cards.
-   *
-   * @return An integer representing the count.
-   */
-  public static int getCardCount() {
-    return cardCount;
-  }
-
-  /**
-   * Sets the number of cards.
-   *
-   * @param cardCount An integer representing the count.
-   */
-  public static void setCardCount(int cardCount) {
-    Card.cardCount = cardCount;
+    this.type = type;
   }
 
   /**
@@ -0,0 +1,72 @@
+package models;
+
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * ChangeBatcher coalesces the notifications of the models of a game. A model that changes only
+ * marks itself dirty, and the batcher flushes every dirty model at once, at most once per frame
+ * while the game runs and at every phase boundary. So an all-out battle that logs thousands of
+ * lines and moves armies thousands of times notifies the views a handful of times, with what
+ * changed since the last flush instead of the whole state.
+ *
+ * @version 1.0
+ */
+public final class ChangeBatcher {
+
+  /** Time between two flushes while the game runs, one frame at 60 frames per second. */
+  public static final long FRAME_NANOS = 1_000_000_000L / 60;
+
+  /** The models with changes not notified yet, in the order they changed first. */
+  private final Set<Source> dirtySources = new LinkedHashSet<>();
+
+  /** Time of the last flush, see System.nanoTime. */
+  private long lastFlushNanos = System.nanoTime();
+
+  /**
+   * True while the changes are flushed, a model changed by an observer is flushed in the same go.
+   */
+  private boolean isFlushing = false;
+
+  /**
+   * Marks a model dirty, the changes are flushed right away if the last flush is a frame old.
+   *
+   * @param source the model that changed
+   */
+  void markDirty(Source source) {
+    dirtySources.add(source);
+    if (!isFlushing && System.nanoTime() - lastFlushNanos >= FRAME_NANOS) {
+      flush();
+    }
+  }
+
+  /**
+   * Notifies the observers of every dirty model, called at phase boundaries and before waiting for
+   * the user.
+   */
+  public void flush() {
+    lastFlushNanos = System.nanoTime();
+    if (isFlushing) {
+      return;
+    }
+    isFlushing = true;
+    try {
+      while (!dirtySources.isEmpty()) {
+        Iterator<Source> iterator = dirtySources.iterator();
+        Source source = iterator.next();
+        iterator.remove();
+        source.flushChanges();
+      }
+    } finally {
+      isFlushing = false;
+    }
+  }
+
+  /** A model whose notifications are coalesced. */
+  interface Source {
+
+    /** Notifies the observers of the changes since the last flush. */
+    void flushChanges();
+  }
+}
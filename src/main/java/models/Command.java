@@ -2,7 +2,10 @@ package models;
 
 import controllers.*;
 
+import java.util.Optional;
 import java.util.function.BiPredicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * Enum to store command regex pattern, mapping function and usage Can be used command validation
@@ -31,10 +34,10 @@ public enum Command {
   VALIDATE_MAP("^validatemap$", EditorController::processValidateMapCommand, "validatemap"),
   SAVE_MAP("^savemap (.+)$", EditorController::processSaveMapCommand, "savemap <fileLocation>"),
   START_TOURNAMENT(
-      "^tournament -M (([\\S]+) ){1,5}-P ((aggressive|random|benevolent|cheater) ){2,4}-G [1-5] -D ([1-4][0-9]|50)$",
+      "^tournament -M (([\\S]+) ){1,5}-P ((aggressive|random|benevolent|cheater) ){2,4}-G [1-5] -D ([1-4][0-9]|50)( -S -?[0-9]{1,18})?$",
       TournamentController::startTournament,
       "tournament -M <list of map files> -P <list of player strategies> -G <number of games> -D"
-          + " <max number of turns>"),
+          + " <max number of turns> [-S <seed>]"),
   GAME_PLAYER(
       "^gameplayer( -(add ([^ ]+) (aggressive|random|benevolent|cheater|human)|remove ([^ ]+)))+$",
       MainController::processGamePlayerCommand,
@@ -66,11 +69,18 @@ public enum Command {
   SHOW_MAP("^showmap$", EditorController::processShowMapCommand, "showmap"),
   SHOW_MAP_OWNERSHIP("^showmap$", GameController::processShowMapCommand, "showmap"),
   SAVE_GAME("^savegame (.+)$", GameController::processSaveGameCommand, "savegame <fileName>"),
-  LOAD_GAME("^loadgame (.+)$", MainController::processLoadGameCommand, "loadgame <fileName>");
+  LOAD_GAME("^loadgame (.+)$", MainController::processLoadGameCommand, "loadgame <fileName>"),
+  REPLAY_GAME("^replay (.+)$", ReplayController::processReplayCommand, "replay <fileName>");
 
   /** Holds the Regex for the command. */
   String regex;
 
+  /** Holds the Regex compiled once for the command. */
+  Pattern pattern;
+
+  /** Holds the first word of the command, the key it is looked up with in a Context. */
+  String keyword;
+
   /** Holds the operation for the command (the signature remains the same for every command). */
   BiPredicate<GameMap, String> operation;
 
@@ -86,6 +96,8 @@ public enum Command {
    */
   Command(String regex, BiPredicate<GameMap, String> operation, String usage) {
     this.regex = regex;
+    this.pattern = Pattern.compile(regex);
+    this.keyword = regex.substring(1).split("[ $(]", 2)[0];
     this.operation = operation;
     this.usage = usage;
   }
@@ -99,6 +111,15 @@ public enum Command {
     return regex;
   }
 
+  /**
+   * Getter for the first word of the command
+   *
+   * @return the keyword, e.g attack
+   */
+  public String getKeyword() {
+    return keyword;
+  }
+
   /**
    * getter for operation
    *
@@ -115,7 +136,37 @@ public enum Command {
    * @return boolean to indicate status
    */
   public boolean validate(String riskCommand) {
-    return riskCommand.matches(regex);
+    return pattern.matcher(riskCommand).matches();
+  }
+
+  /**
+   * Matches a command and returns its capture groups
+   *
+   * @param riskCommand command to parse
+   * @return the parsed command, empty if the command doesn't match
+   */
+  public Optional<ParsedCommand> parse(String riskCommand) {
+    Matcher matcher = pattern.matcher(riskCommand);
+    if (!matcher.matches()) {
+      return Optional.empty();
+    }
+    String[] groups = new String[matcher.groupCount() + 1];
+    for (int i = 0; i < groups.length; i++) {
+      groups[i] = matcher.group(i);
+    }
+    return Optional.of(new ParsedCommand(this, groups));
+  }
+
+  /**
+   * Parses a command already validated by its context, e.g in the controller of the command
+   *
+   * @param riskCommand command to parse
+   * @return the parsed command
+   * @throws IllegalArgumentException if the command doesn't match
+   */
+  public ParsedCommand parseValidated(String riskCommand) {
+    return parse(riskCommand)
+        .orElseThrow(() -> new IllegalArgumentException("Invalid command: " + riskCommand));
   }
 
   /**
@@ -1,6 +1,10 @@
 package models;
 
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -15,7 +19,7 @@ import static models.Command.*;
  */
 public enum Context {
   /** Creates the phases for the Game. */
-  MAIN_MENU(EDIT_MAP, GAME_PLAYER, LOAD_MAP, LOAD_GAME, START_TOURNAMENT),
+  MAIN_MENU(EDIT_MAP, GAME_PLAYER, LOAD_MAP, LOAD_GAME, START_TOURNAMENT, REPLAY_GAME),
   MAP_EDITOR(SHOW_MAP, EDIT_CONTINENT, EDIT_COUNTRY, EDIT_NEIGHBOR, VALIDATE_MAP, SAVE_MAP),
   GAME_SETUP(GAME_HELP, SHOW_MAP, EXIT_GAME, GAME_PLAYER, POPULATE_COUNTRIES),
   GAME_STARTUP(SHOW_MAP_OWNERSHIP, PLACE_ARMY, PLACE_ALL),
@@ -32,6 +36,9 @@ public enum Context {
   /** An array of default commands, available everywhere. */
   Command[] defaultCommands = {GAME_HELP, EXIT_GAME};
 
+  /** The valid commands by their first word, in the order of validCommands. */
+  Map<String, List<Command>> commandsByKeyword = new HashMap<>();
+
   /**
    * The constructor for the Context enum.
    *
@@ -40,6 +47,21 @@ public enum Context {
   Context(Command... validCommands) {
     this.validCommands =
         Stream.of(validCommands, defaultCommands).flatMap(Stream::of).toArray(Command[]::new);
+    for (Command command : this.validCommands) {
+      commandsByKeyword.computeIfAbsent(command.getKeyword(), k -> new ArrayList<>()).add(command);
+    }
+  }
+
+  /**
+   * Gets the valid commands starting with the same word as a command.
+   *
+   * @param riskCommand The command string.
+   * @return the candidate Command objects, empty if none.
+   */
+  private List<Command> getCandidates(String riskCommand) {
+    int end = riskCommand.indexOf(' ');
+    String keyword = end < 0 ? riskCommand : riskCommand.substring(0, end);
+    return commandsByKeyword.getOrDefault(keyword, Collections.emptyList());
   }
 
   /**
@@ -49,7 +71,7 @@ public enum Context {
    * @return boolean result of the validation.
    */
   public boolean validate(String riskCommand) {
-    return Arrays.stream(validCommands).map(Command::getRegex).anyMatch(riskCommand::matches);
+    return getMatchedCommand(riskCommand).isPresent();
   }
 
   /**
@@ -59,7 +81,28 @@ public enum Context {
    * @return the Command object.
    */
   public Optional<Command> getMatchedCommand(String riskCommand) {
-    return Arrays.stream(validCommands).filter(c -> c.validate(riskCommand)).findFirst();
+    for (Command command : getCandidates(riskCommand)) {
+      if (command.validate(riskCommand)) {
+        return Optional.of(command);
+      }
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * Returns the matching command with its capture groups.
+   *
+   * @param riskCommand the command String.
+   * @return the parsed command, empty if no valid command matches.
+   */
+  public Optional<ParsedCommand> parse(String riskCommand) {
+    for (Command command : getCandidates(riskCommand)) {
+      Optional<ParsedCommand> parsedCommand = command.parse(riskCommand);
+      if (parsedCommand.isPresent()) {
+        return parsedCommand;
+      }
+    }
+    return Optional.empty();
   }
 
   /**
@@ -70,12 +113,9 @@ public enum Context {
    * @return boolean result of execution.
    */
   public boolean runCommand(GameMap gameMap, String riskCommand) {
-    for (Command commandValidator : validCommands) {
-      if (commandValidator.validate(riskCommand)) {
-        return commandValidator.runOperation(gameMap, riskCommand);
-      }
-    }
-    return false;
+    Optional<Command> matchedCommand = getMatchedCommand(riskCommand);
+    return matchedCommand.isPresent()
+        && matchedCommand.get().getOperation().test(gameMap, riskCommand);
   }
 
   /**
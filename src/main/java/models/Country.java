@@ -30,6 +30,9 @@ public class Country {
   /** Joins the cards to the countries */
   private Card card;
 
+  /** The ownership index of the map this country is on, told of every change of owner. */
+  private transient OwnershipIndex ownershipIndex;
+
   /**
    * The constructor for the Country class.
    *
@@ -155,13 +158,39 @@ public class Country {
   }
 
   /**
-   * Sets the name of the owner of the country.
+   * Sets the name of the owner of the country, every change of owner goes through here so the
+   * ownership index of the map stays up to date.
    *
    * @param ownerName String with the name.
    */
   public void setOwnerName(String ownerName) {
-    WorldDomination.getInstance().recomputeAttributes();
+    String previousOwner = this.ownerName;
     this.ownerName = ownerName;
+    if (ownershipIndex != null) {
+      ownershipIndex.changeOwner(this, previousOwner, ownerName);
+    }
+    markChanged(previousOwner, ownerName);
+  }
+
+  /**
+   * Sets the ownership index to update when the owner changes.
+   *
+   * @param ownershipIndex the index of the map this country is on.
+   */
+  void setOwnershipIndex(OwnershipIndex ownershipIndex) {
+    this.ownershipIndex = ownershipIndex;
+  }
+
+  /**
+   * Marks the figures of players out of date in the World Domination model of the game this country
+   * is on, a country of no game (being parsed, loaded or copied) marks nothing.
+   *
+   * @param playerNames names of the players
+   */
+  private void markChanged(String... playerNames) {
+    if (ownershipIndex != null) {
+      ownershipIndex.markChanged(playerNames);
+    }
   }
 
   /** Pretty prints the Country object. */
@@ -192,7 +221,7 @@ public class Country {
    */
   public void setNumberOfArmies(int numberOfArmies) {
     this.numberOfArmies = numberOfArmies;
-    WorldDomination.getInstance().recomputeAttributes();
+    markChanged(ownerName);
   }
 
   /**
@@ -204,7 +233,7 @@ public class Country {
   public boolean addArmies(int count) {
     if (numberOfArmies + count > 0) {
       this.numberOfArmies += count;
-      WorldDomination.getInstance().recomputeAttributes();
+      markChanged(ownerName);
       return true;
     }
     return false;
@@ -219,7 +248,7 @@ public class Country {
   public boolean removeArmies(int count) {
     if (numberOfArmies - count > 0) {
       this.numberOfArmies -= count;
-      WorldDomination.getInstance().recomputeAttributes();
+      markChanged(ownerName);
       return true;
     }
     return false;
@@ -8,36 +8,23 @@ import java.util.*;
 import static java.util.stream.Collectors.*;
 
 /**
- * GameMap stores map data i.e borders, countries, files, continents The class is a singleton.
+ * GameMap stores map data i.e borders, countries, files, continents. Each game owns a GameMap and
+ * its GameSession, the game in play is reached through getGameMap.
  *
  * @author Vijay
  * @author Siddhant
  * @version 1.0
  */
-public class GameMap extends Observable {
-
-  /** The singleton instance of the game's state */
-  public static GameMap gameMap = null;
-
-  /** number of rounds in a game */
-  public static int numberOfRounds = 0;
-
-  /** check if the game finishes */
-  public static boolean isGameOver = false;
-  /** variable to store number of turns */
-  public static int numOfTurns = 0;
-  /** Maintains whose turn it is (index). */
-  private static int currentPlayerIndex = 0;
-  /** Maintains the number of sets traded in game */
-  private static int numberOfTradedSet = 0;
-  /** Number of armies traded in for each set */
-  private static int armiesTradedForSet = 0;
-  /** random Generator for the game */
-  private static Random randomGenerator = new Random();
+public class GameMap extends Observable implements ChangeBatcher.Source {
+
+  /** The session of this game, i.e turn counters, card trading and the random generator. */
+  private final GameSession session;
   /** This maintains a list of players currently in the game. */
   public ArrayList<Player> playersList = new ArrayList<>();
-  /** This maintains a log of phase-wise activity in the game */
-  public StringBuilder phaseLog = new StringBuilder();
+  /** This maintains a log of phase-wise activity in the game, the latest entries only. */
+  private final PhaseLog phaseLog = new PhaseLog(PhaseLog.capacityProperty);
+  /** True if the phase log changed since the observers were last notified of it. */
+  private boolean isPhaseLogChanged = false;
   /** This maintains a list of RISK cards in the deck. */
   public ArrayList<Card> deck = null;
   /** Contains the information in the [File] section. */
@@ -48,8 +35,18 @@ public class GameMap extends Observable {
   private Map<String, Continent> continents;
   /** Stores a map of all countries. */
   private Map<String, Country> countries;
+  /** The compiled borders, compiled again on first use after the map is edited. */
+  private MapTopology topology;
+  /** The countries indexed by their id in the topology. */
+  private Country[] countriesById;
+  /** The countries owned by each player, built with the topology. */
+  private OwnershipIndex ownership;
   /** The name of the map file. */
   private String fileName;
+  /** Canonical path of the file the map was loaded from, null if it isn't known. */
+  private String mapFile;
+  /** Hash of the content of the map file when the map was loaded. */
+  private long mapFileHash;
   /** The current phase of the game. */
   private Context currentContext;
   /** The type of the map, true if domination false for conquest */
@@ -65,96 +62,16 @@ public class GameMap extends Observable {
     this.countries = new HashMap<>();
     this.continents = new HashMap<>();
     this.fileName = "";
+    this.session = new GameSession(this);
   }
 
   /**
-   * Returns the number of card sets traded in.
-   *
-   * @return An integer.
-   */
-  public static int getNumberOfTradedSet() {
-    return numberOfTradedSet;
-  }
-
-  /**
-   * Sets the number of card sets traded in.
-   *
-   * @param numberOfTradedSet An integer.
-   */
-  public static void setNumberOfTradedSet(int numberOfTradedSet) {
-    GameMap.numberOfTradedSet = numberOfTradedSet;
-  }
-
-  /**
-   * Gets the number of armies traded for a card set.
-   *
-   * @return An integer.
-   */
-  public static int getArmiesTradedForSet() {
-    return armiesTradedForSet;
-  }
-
-  /**
-   * Sets the number of armies traded for a card set.
-   *
-   * @param armiesTradedForSet An integer.
-   */
-  public static void setArmiesTradedForSet(int armiesTradedForSet) {
-    GameMap.armiesTradedForSet = armiesTradedForSet;
-  }
-
-  /**
-   * Gets the current player's index in the list.
-   *
-   * @return An integer representing the index.
-   */
-  public static int getCurrentPlayerIndex() {
-    return currentPlayerIndex;
-  }
-
-  /**
-   * Setter for currentPlayerIndex
+   * Gets the session of this game.
    *
-   * @param currentPlayerIndex index of the player to set to
+   * @return the GameSession object.
    */
-  public static void setCurrentPlayerIndex(int currentPlayerIndex) {
-    GameMap.currentPlayerIndex = currentPlayerIndex;
-  }
-
-  /**
-   * getter for number of turns
-   *
-   * @return int number of turns
-   */
-  public static int getNumOfTurns() {
-    return numOfTurns;
-  }
-
-  /**
-   * Setter for numOfTurns
-   *
-   * @param numOfTurns int to set the number of turns to
-   */
-  public void setNumOfTurns(int numOfTurns) {
-    GameMap.numOfTurns = numOfTurns;
-  }
-
-  /**
-   * getter for random generator
-   *
-   * @return Random object
-   */
-  public static Random getRandomGenerator() {
-    return randomGenerator;
-  }
-
-  /**
-   * Setter for random generator seed
-   *
-   * @param randomGeneratorSeed Random object generator seed
-   */
-  public static void setRandomGenerator(long randomGeneratorSeed) {
-    randomGenerator.setSeed(randomGeneratorSeed);
+  public GameSession getSession() {
+    return session;
   }
 
   /**
@@ -166,29 +83,24 @@ public class GameMap extends Observable {
     ArrayList<Country> countriesInMap = new ArrayList<>(gameMap.getCountries().values());
     ArrayList<Card> cardsInDeck = new ArrayList<>();
     for (Country country : countriesInMap) {
-      cardsInDeck.add(new Card(country.getName()));
+      cardsInDeck.add(new Card(country.getName(), gameMap.getSession().nextCardType()));
     }
-    Collections.shuffle(cardsInDeck);
+    Collections.shuffle(cardsInDeck, gameMap.getSession().getRandomGenerator());
     gameMap.setDeck(cardsInDeck);
   }
 
   /**
-   * A method to get the existing instance of gameMap, or creating one if it doesn't exist.
+   * A method to get the game of the current session, or creating one if it doesn't exist.
    *
    * @return The instance of the gameMap.
    */
   public static GameMap getGameMap() {
-    if (gameMap == null) {
-      gameMap = new GameMap();
-    }
-    return gameMap;
+    return GameSession.getCurrentSession().getGameMap();
   }
 
   /** Destroys the GameMap object resetting the state. */
   public static void destroyGameMap() {
-    gameMap = null;
-    GameMap.numberOfRounds = 0;
-    isGameOver = false;
+    GameSession.setCurrentSession(null);
   }
 
   /**
@@ -197,7 +109,7 @@ public class GameMap extends Observable {
    * @param gameMap contains game state
    */
   public static void modifyInstance(GameMap gameMap) {
-    GameMap.gameMap = gameMap;
+    GameSession.setCurrentSession(gameMap == null ? null : gameMap.getSession());
   }
 
   /**
@@ -248,6 +160,101 @@ public class GameMap extends Observable {
     this.continents = continents;
     this.countries = countries;
     this.fileName = fileName;
+    compileTopology();
+  }
+
+  /**
+   * Populates the GameMap with a map whose topology is already compiled, used when the map is
+   * loaded from the cache of parsed maps.
+   *
+   * @param fileSectionData Contains the information in the [File] section.
+   * @param borders Stores an adjacency list of all borders.
+   * @param continents Stores a map of all continents.
+   * @param countries Stores a map of all countries.
+   * @param fileName contains map name
+   * @param topology the compiled topology of the same countries, continents and borders
+   */
+  public void populateGameMap(
+      ArrayList<String> fileSectionData,
+      Map<String, Set<String>> borders,
+      Map<String, Continent> continents,
+      Map<String, Country> countries,
+      String fileName,
+      MapTopology topology) {
+    this.fileSectionData = fileSectionData;
+    this.borders = borders;
+    this.continents = continents;
+    this.countries = countries;
+    this.fileName = fileName;
+    attachTopology(topology);
+  }
+
+  /**
+   * Gets the compiled topology of the map, the string maps remain the editable view of it.
+   *
+   * @return the MapTopology of the current borders.
+   */
+  public MapTopology getTopology() {
+    if (topology == null) {
+      compileTopology();
+    }
+    return topology;
+  }
+
+  /**
+   * Gets a country by its id in the topology.
+   *
+   * @param countryId id of the country
+   * @return the Country object.
+   */
+  public Country getCountry(int countryId) {
+    if (topology == null) {
+      compileTopology();
+    }
+    return countriesById[countryId];
+  }
+
+  /**
+   * Gets the index of the countries owned by each player.
+   *
+   * @return the OwnershipIndex of the map.
+   */
+  public OwnershipIndex getOwnership() {
+    if (topology == null) {
+      compileTopology();
+    }
+    return ownership;
+  }
+
+  /** Compiles the topology of the current borders and indexes the owners of the countries. */
+  private void compileTopology() {
+    attachTopology(MapTopology.compile(countries, borders, continents));
+  }
+
+  /**
+   * Uses a compiled topology of the map and indexes the countries and their owners by its ids.
+   *
+   * @param topology the topology of the current countries, continents and borders
+   */
+  private void attachTopology(MapTopology topology) {
+    this.topology = topology;
+    countriesById = new Country[topology.getNumberOfCountries()];
+    for (int id = 0; id < countriesById.length; id++) {
+      countriesById[id] = countries.get(topology.getCountryName(id));
+    }
+    ownership = new OwnershipIndex(topology, countriesById, session);
+    // the changes made while no index was attached were not marked
+    session.getWorldDomination().markOutdated();
+  }
+
+  /** Drops the compiled topology after the map is edited. */
+  private void invalidateTopology() {
+    if (ownership != null) {
+      ownership.detach();
+    }
+    topology = null;
+    countriesById = null;
+    ownership = null;
   }
 
   /**
@@ -270,7 +277,8 @@ public class GameMap extends Observable {
 
   /** Updates the current player index (round robin fashion) */
   public void updatePlayerIndex() {
-    currentPlayerIndex = (currentPlayerIndex + 1) % playersList.size();
+    session.setCurrentPlayerIndex((session.getCurrentPlayerIndex() + 1) % playersList.size());
+    session.getChangeBatcher().flush();
     setChanged();
     notifyObservers("CURRENT_PLAYER");
   }
@@ -281,7 +289,7 @@ public class GameMap extends Observable {
    * @return Player object, for the player whose turn it is.
    */
   public Player getCurrentPlayer() {
-    return playersList.get(currentPlayerIndex);
+    return playersList.get(session.getCurrentPlayerIndex());
   }
 
   /**
@@ -343,6 +351,7 @@ public class GameMap extends Observable {
   public boolean addContinent(String continentName, int value) {
     Continent continent = new Continent(continentName, value);
     this.continents.put(continentName, continent);
+    invalidateTopology();
     return true;
   }
 
@@ -358,6 +367,7 @@ public class GameMap extends Observable {
     }
     getCountriesByContinent(continentName).forEach(this::removeCountry);
     this.continents.remove(continentName);
+    invalidateTopology();
     return true;
   }
 
@@ -375,6 +385,7 @@ public class GameMap extends Observable {
     Country country = new Country(countryName, continentName);
     this.countries.put(countryName, country);
     this.borders.put(countryName, new HashSet<>());
+    invalidateTopology();
     return true;
   }
 
@@ -390,6 +401,7 @@ public class GameMap extends Observable {
     }
     removeCountryBorders(countryName);
     this.countries.remove(countryName);
+    invalidateTopology();
     return true;
   }
 
@@ -411,6 +423,7 @@ public class GameMap extends Observable {
     }
     this.borders.get(country1).add(country2);
     this.borders.get(country2).add(country1);
+    invalidateTopology();
     return true;
   }
 
@@ -430,6 +443,7 @@ public class GameMap extends Observable {
     }
     this.borders.get(country1).remove(country2);
     this.borders.get(country2).remove(country1);
+    invalidateTopology();
     return true;
   }
 
@@ -449,6 +463,7 @@ public class GameMap extends Observable {
       System.out.println("Removed border: " + neighbor + " - " + countryName);
     }
     this.borders.remove(countryName);
+    invalidateTopology();
   }
 
   /** Pretty prints the game map. */
@@ -508,7 +523,7 @@ public class GameMap extends Observable {
 
     if (p1.isPresent()) {
       playersList.remove(p1.get());
-      currentPlayerIndex = playersList.indexOf(current_player);
+      session.setCurrentPlayerIndex(playersList.indexOf(current_player));
       return true;
     }
     return false;
@@ -530,6 +545,7 @@ public class GameMap extends Observable {
    */
   public void setBorders(Map<String, Set<String>> borders) {
     this.borders = borders;
+    invalidateTopology();
   }
 
   /**
@@ -548,6 +564,7 @@ public class GameMap extends Observable {
    */
   public void setContinents(Map<String, Continent> continents) {
     this.continents = continents;
+    invalidateTopology();
   }
 
   /**
@@ -568,6 +585,35 @@ public class GameMap extends Observable {
     this.fileSectionData = fileSectionData;
   }
 
+  /**
+   * Gets the file the map was loaded from, saves refer to it instead of copying the map.
+   *
+   * @return the canonical path of the map file, null if it isn't known.
+   */
+  public String getMapFile() {
+    return mapFile;
+  }
+
+  /**
+   * Gets the hash of the content of the map file when the map was loaded.
+   *
+   * @return the CRC-32 of the file.
+   */
+  public long getMapFileHash() {
+    return mapFileHash;
+  }
+
+  /**
+   * Sets the file the map was loaded from.
+   *
+   * @param mapFile the canonical path of the map file, null if it isn't known
+   * @param mapFileHash the hash of the content of the file
+   */
+  public void setMapFile(String mapFile, long mapFileHash) {
+    this.mapFile = mapFile;
+    this.mapFileHash = mapFileHash;
+  }
+
   /**
    * Returns the name of the file.
    *
@@ -596,12 +642,35 @@ public class GameMap extends Observable {
   }
 
   /**
-   * Sets the countries instance variable for the GameMap
+   * Sets the countries instance variable for the GameMap, the compiled topology is kept when the
+   * map holds the same Country objects, e.g the countries populated for a game
    *
    * @param countries a Map object of country names and Country objects.
    */
   public void setCountries(Map<String, Country> countries) {
+    boolean isSameCountries = isSameCountries(countries);
     this.countries = countries;
+    if (!isSameCountries) {
+      invalidateTopology();
+    }
+  }
+
+  /**
+   * Checks if a map of countries holds the very Country objects of this map under the same names.
+   *
+   * @param countries a Map object of country names and Country objects
+   * @return true if the compiled topology still indexes the countries.
+   */
+  private boolean isSameCountries(Map<String, Country> countries) {
+    if (this.countries == null || countries.size() != this.countries.size()) {
+      return false;
+    }
+    for (Map.Entry<String, Country> entry : countries.entrySet()) {
+      if (this.countries.get(entry.getKey()) != entry.getValue()) {
+        return false;
+      }
+    }
+    return true;
   }
 
   /**
@@ -631,7 +700,7 @@ public class GameMap extends Observable {
    */
   public Map<String, Country> populateCountries(ArrayList<Player> playerList) {
     ArrayList<Country> countries = new ArrayList<>(this.countries.values());
-    Collections.shuffle(countries);
+    Collections.shuffle(countries, session.getRandomGenerator());
     int countrySize = countries.size();
     int playerCount = playerList.size();
 
@@ -737,7 +806,7 @@ public class GameMap extends Observable {
     for (int turn = 0; turn < playersList.size(); turn++) {
       ArrayList<Country> countriesForPlayer =
           Player.getCountriesByOwnership(getCurrentPlayer().getStrategy().getPlayerName(), this);
-      Random randomGen = new Random();
+      Random randomGen = session.getRandomGenerator();
       while (getCurrentPlayer().getStrategy().getNumberOfArmies() > 0) {
         int randomIndexCountry = randomGen.nextInt(countriesForPlayer.size());
         placeArmy(countriesForPlayer.get(randomIndexCountry).getName(), 1);
@@ -854,6 +923,7 @@ public class GameMap extends Observable {
    */
   public void setCurrentContext(Context currentContext) {
     this.currentContext = currentContext;
+    session.getChangeBatcher().flush();
     setChanged();
     notifyObservers("CURRENT_CONTEXT");
   }
@@ -864,21 +934,44 @@ public class GameMap extends Observable {
    * @return A string with the log.
    */
   public String getPhaseLog() {
-    return phaseLog.toString();
+    return phaseLog.getText();
+  }
+
+  /**
+   * Returns the log itself, to read it through a cursor or spill it.
+   *
+   * @return the PhaseLog of the game.
+   */
+  public PhaseLog getPhaseLogEntries() {
+    return phaseLog;
   }
 
   /**
-   * Sets the log.
+   * Sets the log, the observers are notified with PHASE_LOG when the changes are flushed.
    *
    * @param phaseLog the String to append to the log.
    * @param flushLog whether the log should be cleared.
    */
   public void setPhaseLog(String phaseLog, boolean flushLog) {
     if (flushLog) {
-      this.phaseLog = new StringBuilder();
+      this.phaseLog.clear();
     } else {
-      this.phaseLog.append(phaseLog).append("\n");
+      this.phaseLog.append(session.getNumOfTurns(), currentContext, phaseLog);
+    }
+    if (countObservers() == 0) {
+      return;
+    }
+    isPhaseLogChanged = true;
+    session.getChangeBatcher().markDirty(this);
+  }
+
+  /** Notifies the observers once of the changes of the log since they were last notified. */
+  @Override
+  public void flushChanges() {
+    if (!isPhaseLogChanged) {
+      return;
     }
+    isPhaseLogChanged = false;
     setChanged();
     notifyObservers("PHASE_LOG");
   }
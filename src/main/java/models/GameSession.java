@@ -0,0 +1,400 @@
+package models;
+
+import java.util.Observer;
+import java.util.Random;
+
+/**
+ * GameSession owns everything about one game that is not the board itself, i.e turn and round
+ * counters, card trading state and the random generator. Every GameMap has its own session, so any
+ * number of games can be played in the same JVM without sharing state.
+ *
+ * @version 1.0
+ */
+public class GameSession {
+
+  /** The session of the interactive game. */
+  private static GameSession session = null;
+
+  /** The session bound to the current thread, tournament workers each play their own game. */
+  private static final ThreadLocal<GameSession> threadSession = new ThreadLocal<>();
+
+  /** The game map played in this session. */
+  private final GameMap gameMap;
+
+  /** The World Domination model of this session, created on first use. */
+  private WorldDomination worldDomination = null;
+
+  /** Coalesces the notifications of the game and its World Domination model. */
+  private final ChangeBatcher changeBatcher = new ChangeBatcher();
+
+  /** What happened in the battles of the game. */
+  private final GameStatistics statistics = new GameStatistics();
+
+  /** random Generator for the game */
+  private Random randomGenerator = new Random();
+
+  /** number of rounds in a game */
+  private int numberOfRounds = 0;
+
+  /** check if the game finishes */
+  private boolean isGameOver = false;
+
+  /** true if the game is played as part of a tournament */
+  private boolean isTournament = false;
+
+  /** true if all-out battles are resolved in one step, see BattleOutcomeTable */
+  private boolean isAllOutSampled = false;
+
+  /** variable to store number of turns */
+  private int numOfTurns = 0;
+
+  /** Maintains whose turn it is (index). */
+  private int currentPlayerIndex = 0;
+
+  /** Maintains the number of sets traded in game */
+  private int numberOfTradedSet = 0;
+
+  /** Number of armies traded in for each set */
+  private int armiesTradedForSet = 0;
+
+  /** Total cards introduced in the game */
+  private int cardCount = 0;
+
+  /** This boolean is false if a card hasn't been assigned to the current player. */
+  private boolean isCardAssigned = false;
+
+  /** The observer that journals the game, null if the game isn't journaled. */
+  private Observer journal = null;
+
+  /**
+   * The constructor for a session, only a GameMap creates its session.
+   *
+   * @param gameMap the game map played in this session
+   */
+  GameSession(GameMap gameMap) {
+    this.gameMap = gameMap;
+  }
+
+  /**
+   * Returns the session of the current thread, or the session of the interactive game if no session
+   * is bound to the thread.
+   *
+   * @return the current session.
+   */
+  public static GameSession getCurrentSession() {
+    GameSession boundSession = threadSession.get();
+    if (boundSession != null) {
+      return boundSession;
+    }
+    if (session == null) {
+      session = new GameMap().getSession();
+    }
+    return session;
+  }
+
+  /**
+   * Makes a session the current one, for the calling thread if it has a bound session.
+   *
+   * @param gameSession the session to make current, null to reset it.
+   */
+  public static void setCurrentSession(GameSession gameSession) {
+    if (threadSession.get() != null) {
+      threadSession.set(gameSession == null ? new GameMap().getSession() : gameSession);
+    } else {
+      session = gameSession;
+    }
+  }
+
+  /**
+   * Binds a session to the calling thread, getCurrentSession returns it instead of the interactive
+   * session until the thread is unbound.
+   *
+   * @param gameSession the session to be played on the calling thread
+   */
+  public static void bindToCurrentThread(GameSession gameSession) {
+    threadSession.set(gameSession);
+  }
+
+  /** Releases the session bound to the calling thread. */
+  public static void unbindFromCurrentThread() {
+    threadSession.remove();
+  }
+
+  /**
+   * Gets the game map played in this session.
+   *
+   * @return the GameMap object.
+   */
+  public GameMap getGameMap() {
+    return gameMap;
+  }
+
+  /**
+   * Gets the World Domination model of this session.
+   *
+   * @return the WorldDomination object.
+   */
+  public WorldDomination getWorldDomination() {
+    if (worldDomination == null) {
+      worldDomination = new WorldDomination(gameMap);
+    }
+    return worldDomination;
+  }
+
+  /**
+   * Gets the batcher the notifications of this session are coalesced by.
+   *
+   * @return the ChangeBatcher.
+   */
+  public ChangeBatcher getChangeBatcher() {
+    return changeBatcher;
+  }
+
+  /**
+   * Gets the statistics of the battles of this session.
+   *
+   * @return the GameStatistics.
+   */
+  public GameStatistics getStatistics() {
+    return statistics;
+  }
+
+  /** Discards the World Domination model, a new one is created on next use. */
+  public void resetWorldDomination() {
+    worldDomination = null;
+  }
+
+  /**
+   * getter for random generator
+   *
+   * @return Random object
+   */
+  public Random getRandomGenerator() {
+    return randomGenerator;
+  }
+
+  /**
+   * Setter for random generator seed
+   *
+   * @param randomGeneratorSeed Random object generator seed
+   */
+  public void setRandomGenerator(long randomGeneratorSeed) {
+    randomGenerator.setSeed(randomGeneratorSeed);
+  }
+
+  /**
+   * getter for number of rounds
+   *
+   * @return int number of rounds
+   */
+  public int getNumberOfRounds() {
+    return numberOfRounds;
+  }
+
+  /**
+   * Setter for numberOfRounds
+   *
+   * @param numberOfRounds int to set the number of rounds to
+   */
+  public void setNumberOfRounds(int numberOfRounds) {
+    this.numberOfRounds = numberOfRounds;
+  }
+
+  /**
+   * Checks if the game is over
+   *
+   * @return true if a player has conquered the whole map
+   */
+  public boolean isGameOver() {
+    return isGameOver;
+  }
+
+  /**
+   * Setter for isGameOver
+   *
+   * @param isGameOver true when a player has conquered the whole map
+   */
+  public void setGameOver(boolean isGameOver) {
+    this.isGameOver = isGameOver;
+  }
+
+  /**
+   * Checks if the game is played as part of a tournament
+   *
+   * @return true for tournament games, false for normal gameplay
+   */
+  public boolean isTournament() {
+    return isTournament;
+  }
+
+  /**
+   * Setter for isTournament
+   *
+   * @param isTournament true for tournament games, false for normal gameplay
+   */
+  public void setTournament(boolean isTournament) {
+    this.isTournament = isTournament;
+  }
+
+  /**
+   * Checks if all-out battles are resolved in one step
+   *
+   * @return true if the outcome of an all-out battle is sampled instead of rolled round by round
+   */
+  public boolean isAllOutSampled() {
+    return isAllOutSampled;
+  }
+
+  /**
+   * Setter for isAllOutSampled
+   *
+   * @param isAllOutSampled true to sample the outcome of all-out battles
+   */
+  public void setAllOutSampled(boolean isAllOutSampled) {
+    this.isAllOutSampled = isAllOutSampled;
+  }
+
+  /**
+   * getter for number of turns
+   *
+   * @return int number of turns
+   */
+  public int getNumOfTurns() {
+    return numOfTurns;
+  }
+
+  /**
+   * Setter for numOfTurns
+   *
+   * @param numOfTurns int to set the number of turns to
+   */
+  public void setNumOfTurns(int numOfTurns) {
+    this.numOfTurns = numOfTurns;
+  }
+
+  /**
+   * Gets the current player's index in the list.
+   *
+   * @return An integer representing the index.
+   */
+  public int getCurrentPlayerIndex() {
+    return currentPlayerIndex;
+  }
+
+  /**
+   * Setter for currentPlayerIndex
+   *
+   * @param currentPlayerIndex index of the player to set to
+   */
+  public void setCurrentPlayerIndex(int currentPlayerIndex) {
+    this.currentPlayerIndex = currentPlayerIndex;
+  }
+
+  /**
+   * Returns the number of card sets traded in.
+   *
+   * @return An integer.
+   */
+  public int getNumberOfTradedSet() {
+    return numberOfTradedSet;
+  }
+
+  /**
+   * Sets the number of card sets traded in.
+   *
+   * @param numberOfTradedSet An integer.
+   */
+  public void setNumberOfTradedSet(int numberOfTradedSet) {
+    this.numberOfTradedSet = numberOfTradedSet;
+  }
+
+  /**
+   * Gets the number of armies traded for a card set.
+   *
+   * @return An integer.
+   */
+  public int getArmiesTradedForSet() {
+    return armiesTradedForSet;
+  }
+
+  /**
+   * Sets the number of armies traded for a card set.
+   *
+   * @param armiesTradedForSet An integer.
+   */
+  public void setArmiesTradedForSet(int armiesTradedForSet) {
+    this.armiesTradedForSet = armiesTradedForSet;
+  }
+
+  /**
+   * Gets the number of cards.
+   *
+   * @return An integer representing the count.
+   */
+  public int getCardCount() {
+    return cardCount;
+  }
+
+  /**
+   * Sets the number of cards.
+   *
+   * @param cardCount An integer representing the count.
+   */
+  public void setCardCount(int cardCount) {
+    this.cardCount = cardCount;
+  }
+
+  /**
+   * Returns the type of the next card introduced in the game, types are dealt in turns.
+   *
+   * @return the type of the card.
+   */
+  public Card.typeOfCard nextCardType() {
+    Card.typeOfCard type = Card.typeOfCard.values()[cardCount % 3];
+    cardCount++;
+    return type;
+  }
+
+  /**
+   * Checks if a card was assigned to the current player this turn.
+   *
+   * @return true if a card was assigned.
+   */
+  public boolean isCardAssigned() {
+    return isCardAssigned;
+  }
+
+  /**
+   * Setter for isCardAssigned
+   *
+   * @param isCardAssigned true once a card is assigned to the current player.
+   */
+  public void setCardAssigned(boolean isCardAssigned) {
+    this.isCardAssigned = isCardAssigned;
+  }
+
+  /**
+   * Gets the observer that journals the game.
+   *
+   * @return the journal, null if the game isn't journaled.
+   */
+  public Observer getJournal() {
+    return journal;
+  }
+
+  /**
+   * Sets the observer that journals the game, it replaces the previous journal as observer of the
+   * game map.
+   *
+   * @param journal the journal, null to stop journaling
+   */
+  public void setJournal(Observer journal) {
+    if (this.journal != null) {
+      gameMap.deleteObserver(this.journal);
+    }
+    this.journal = journal;
+    if (journal != null) {
+      gameMap.addObserver(journal);
+    }
+  }
+}
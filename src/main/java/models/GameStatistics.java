@@ -0,0 +1,95 @@
+package models;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * GameStatistics counts what happens in the battles of a game and the order the players are
+ * eliminated in, for the results of tournament games. Every GameSession has its own statistics,
+ * counted from the start of the session.
+ *
+ * @version 1.0
+ */
+public final class GameStatistics {
+
+  /** Number of battles fought, an all-out battle is one battle. */
+  private int battlesFought = 0;
+
+  /** Number of dice rolled by attackers and defenders, a sampled all-out battle rolls none. */
+  private long diceRolled = 0;
+
+  /** Number of armies destroyed in battles and captures. */
+  private long armiesDestroyed = 0;
+
+  /** Names of the players eliminated, in order. */
+  private final List<String> eliminationOrder = new ArrayList<>();
+
+  /** Counts a battle. */
+  public void recordBattle() {
+    battlesFought++;
+  }
+
+  /**
+   * Counts dice rolled.
+   *
+   * @param numOfDice number of dice rolled
+   */
+  public void recordDice(int numOfDice) {
+    diceRolled += numOfDice;
+  }
+
+  /**
+   * Counts armies destroyed.
+   *
+   * @param numOfArmies number of armies destroyed
+   */
+  public void recordArmiesDestroyed(int numOfArmies) {
+    armiesDestroyed += numOfArmies;
+  }
+
+  /**
+   * Records the elimination of a player.
+   *
+   * @param playerName name of the player eliminated
+   */
+  public void recordElimination(String playerName) {
+    eliminationOrder.add(playerName);
+  }
+
+  /**
+   * Gets the number of battles fought.
+   *
+   * @return An integer.
+   */
+  public int getBattlesFought() {
+    return battlesFought;
+  }
+
+  /**
+   * Gets the number of dice rolled.
+   *
+   * @return the number of dice.
+   */
+  public long getDiceRolled() {
+    return diceRolled;
+  }
+
+  /**
+   * Gets the number of armies destroyed.
+   *
+   * @return the number of armies.
+   */
+  public long getArmiesDestroyed() {
+    return armiesDestroyed;
+  }
+
+  /**
+   * Gets the players eliminated.
+   *
+   * @return the names of the players, in the order they were eliminated.
+   */
+  public List<String> getEliminationOrder() {
+    return Collections.unmodifiableList(eliminationOrder);
+  }
+}
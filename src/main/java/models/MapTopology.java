@@ -0,0 +1,260 @@
+package models;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * MapTopology is the compiled, immutable form of the borders of a map. Countries and continents are
+ * numbered 0..n-1 in name order and the neighbors of every country are stored in one array
+ * (compressed sparse rows), so the neighbors of a country are iterated by index without hashing.
+ *
+ * <pre>
+ *   for (int k = topology.neighborStart(id); k &lt; topology.neighborEnd(id); k++) {
+ *     int neighborId = topology.neighbor(k);
+ *   }
+ * </pre>
+ *
+ * @version 1.0
+ */
+public final class MapTopology {
+
+  /** Names of the countries by id. */
+  private final String[] countryNames;
+
+  /** Ids of the countries by name. */
+  private final Map<String, Integer> countryIds;
+
+  /** Start of the neighbors of each country in neighbors, the last entry is its length. */
+  private final int[] offsets;
+
+  /** Ids of the neighbors of every country, sorted by id for each country. */
+  private final int[] neighbors;
+
+  /** Continent id of each country. */
+  private final int[] continentOfCountry;
+
+  /** Names of the continents by id. */
+  private final String[] continentNames;
+
+  /** Control values of the continents by id. */
+  private final int[] continentValues;
+
+  /**
+   * The constructor for a MapTopology, see compile.
+   *
+   * @param countryNames names of the countries by id
+   * @param countryIds ids of the countries by name
+   * @param offsets start of the neighbors of each country
+   * @param neighbors ids of the neighbors of every country
+   * @param continentOfCountry continent id of each country
+   * @param continentNames names of the continents by id
+   * @param continentValues control values of the continents by id
+   */
+  private MapTopology(
+      String[] countryNames,
+      Map<String, Integer> countryIds,
+      int[] offsets,
+      int[] neighbors,
+      int[] continentOfCountry,
+      String[] continentNames,
+      int[] continentValues) {
+    this.countryNames = countryNames;
+    this.countryIds = countryIds;
+    this.offsets = offsets;
+    this.neighbors = neighbors;
+    this.continentOfCountry = continentOfCountry;
+    this.continentNames = continentNames;
+    this.continentValues = continentValues;
+  }
+
+  /**
+   * Compiles the topology of a map, borders to unknown countries are left out.
+   *
+   * @param countries the countries of the map
+   * @param borders the adjacency list of the map
+   * @param continents the continents of the map
+   * @return the compiled topology.
+   */
+  public static MapTopology compile(
+      Map<String, Country> countries,
+      Map<String, Set<String>> borders,
+      Map<String, Continent> continents) {
+    String[] continentNames = continents.keySet().stream().sorted().toArray(String[]::new);
+    Map<String, Integer> continentIds = new HashMap<>();
+    int[] continentValues = new int[continentNames.length];
+    for (int id = 0; id < continentNames.length; id++) {
+      continentIds.put(continentNames[id], id);
+      continentValues[id] = continents.get(continentNames[id]).getValue();
+    }
+
+    String[] countryNames = countries.keySet().stream().sorted().toArray(String[]::new);
+    Map<String, Integer> countryIds = new HashMap<>();
+    for (int id = 0; id < countryNames.length; id++) {
+      countryIds.put(countryNames[id], id);
+    }
+
+    int[] offsets = new int[countryNames.length + 1];
+    int[] continentOfCountry = new int[countryNames.length];
+    List<Integer> neighborList = new ArrayList<>();
+    for (int id = 0; id < countryNames.length; id++) {
+      offsets[id] = neighborList.size();
+      Integer continentId = continentIds.get(countries.get(countryNames[id]).getContinent());
+      continentOfCountry[id] = continentId == null ? -1 : continentId;
+      List<Integer> countryNeighbors = new ArrayList<>();
+      for (String neighbor : borders.getOrDefault(countryNames[id], Collections.emptySet())) {
+        Integer neighborId = countryIds.get(neighbor);
+        if (neighborId != null) {
+          countryNeighbors.add(neighborId);
+        }
+      }
+      Collections.sort(countryNeighbors);
+      neighborList.addAll(countryNeighbors);
+    }
+    offsets[countryNames.length] = neighborList.size();
+    int[] neighbors = neighborList.stream().mapToInt(Integer::intValue).toArray();
+    return new MapTopology(
+        countryNames,
+        Collections.unmodifiableMap(countryIds),
+        offsets,
+        neighbors,
+        continentOfCountry,
+        continentNames,
+        continentValues);
+  }
+
+  /**
+   * Gets the number of countries.
+   *
+   * @return An integer.
+   */
+  public int getNumberOfCountries() {
+    return countryNames.length;
+  }
+
+  /**
+   * Gets the id of a country.
+   *
+   * @param countryName name of the country
+   * @return the id of the country, -1 if it isn't on the map.
+   */
+  public int getCountryId(String countryName) {
+    Integer id = countryIds.get(countryName);
+    return id == null ? -1 : id;
+  }
+
+  /**
+   * Gets the name of a country.
+   *
+   * @param countryId id of the country
+   * @return the name of the country.
+   */
+  public String getCountryName(int countryId) {
+    return countryNames[countryId];
+  }
+
+  /**
+   * Gets the ids of the countries by name, a read only view.
+   *
+   * @return A map from country name to id.
+   */
+  public Map<String, Integer> getCountryIds() {
+    return countryIds;
+  }
+
+  /**
+   * Gets the position of the first neighbor of a country.
+   *
+   * @param countryId id of the country
+   * @return position to pass to neighbor.
+   */
+  public int neighborStart(int countryId) {
+    return offsets[countryId];
+  }
+
+  /**
+   * Gets the position after the last neighbor of a country.
+   *
+   * @param countryId id of the country
+   * @return the end position, exclusive.
+   */
+  public int neighborEnd(int countryId) {
+    return offsets[countryId + 1];
+  }
+
+  /**
+   * Gets the neighbor at a position.
+   *
+   * @param position a position between neighborStart and neighborEnd of a country
+   * @return the id of the neighbor.
+   */
+  public int neighbor(int position) {
+    return neighbors[position];
+  }
+
+  /**
+   * Gets the number of neighbors of a country.
+   *
+   * @param countryId id of the country
+   * @return An integer.
+   */
+  public int getNumberOfNeighbors(int countryId) {
+    return offsets[countryId + 1] - offsets[countryId];
+  }
+
+  /**
+   * Checks if two countries share a border.
+   *
+   * @param countryId id of a country
+   * @param otherCountryId id of the other country
+   * @return true if the countries are adjacent.
+   */
+  public boolean areNeighbors(int countryId, int otherCountryId) {
+    return Arrays.binarySearch(
+            neighbors, offsets[countryId], offsets[countryId + 1], otherCountryId)
+        >= 0;
+  }
+
+  /**
+   * Gets the continent of a country.
+   *
+   * @param countryId id of the country
+   * @return the id of the continent, -1 if the continent isn't on the map.
+   */
+  public int getContinentId(int countryId) {
+    return continentOfCountry[countryId];
+  }
+
+  /**
+   * Gets the number of continents.
+   *
+   * @return An integer.
+   */
+  public int getNumberOfContinents() {
+    return continentNames.length;
+  }
+
+  /**
+   * Gets the name of a continent.
+   *
+   * @param continentId id of the continent
+   * @return the name of the continent.
+   */
+  public String getContinentName(int continentId) {
+    return continentNames[continentId];
+  }
+
+  /**
+   * Gets the control value of a continent.
+   *
+   * @param continentId id of the continent
+   * @return the control value.
+   */
+  public int getContinentValue(int continentId) {
+    return continentValues[continentId];
+  }
+}
@@ -0,0 +1,232 @@
+package models;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * OwnershipIndex keeps the countries owned by every player of a map, by their id in the topology of
+ * the map, and how many countries of each continent every player owns. It is built when the
+ * topology is compiled and then updated by Country.setOwnerName, the only way to change the owner
+ * of a country, so it never has to scan the countries again.
+ *
+ * @version 1.0
+ */
+public final class OwnershipIndex {
+
+  /** The topology the ids belong to. */
+  private final MapTopology topology;
+
+  /** The countries indexed by their id. */
+  private final Country[] countriesById;
+
+  /** Ids of the countries owned by each player. */
+  private final Map<String, BitSet> ownedCountries = new HashMap<>();
+
+  /** Number of countries owned by each player. */
+  private final Map<String, Integer> ownedCounts = new HashMap<>();
+
+  /** Number of countries owned by each player in every continent, by continent id. */
+  private final Map<String, int[]> ownedCountsByContinent = new HashMap<>();
+
+  /** Number of countries in every continent, by continent id. */
+  private final int[] continentSizes;
+
+  /** The session of the game of the map, its World Domination model is told of the changes. */
+  private final GameSession session;
+
+  /** False once the map is edited and a new index replaces this one. */
+  private boolean attached = true;
+
+  /**
+   * Builds the index of the current owners and attaches it to the countries.
+   *
+   * @param topology the compiled topology of the map
+   * @param countriesById the countries indexed by their id
+   * @param session the session of the game of the map
+   */
+  OwnershipIndex(MapTopology topology, Country[] countriesById, GameSession session) {
+    this.topology = topology;
+    this.countriesById = countriesById;
+    this.session = session;
+    this.continentSizes = new int[topology.getNumberOfContinents()];
+    for (int id = 0; id < countriesById.length; id++) {
+      if (topology.getContinentId(id) >= 0) {
+        continentSizes[topology.getContinentId(id)]++;
+      }
+      add(countriesById[id].getOwnerName(), id);
+      countriesById[id].setOwnershipIndex(this);
+    }
+  }
+
+  /** Stops updating this index, the map was edited and compiles a new one. */
+  void detach() {
+    attached = false;
+  }
+
+  /**
+   * Marks the figures of players out of date in the World Domination model of the game, called by
+   * the countries of the map when their owner or armies change.
+   *
+   * @param playerNames names of the players
+   */
+  void markChanged(String... playerNames) {
+    if (attached) {
+      session.getWorldDomination().markChanged(playerNames);
+    }
+  }
+
+  /**
+   * Moves a country to its new owner, called by Country.setOwnerName.
+   *
+   * @param country the country whose owner changed
+   * @param previousOwner name of the previous owner, null if it had none
+   * @param newOwner name of the new owner, null if it has none
+   */
+  void changeOwner(Country country, String previousOwner, String newOwner) {
+    if (!attached) {
+      return;
+    }
+    int id = topology.getCountryId(country.getName());
+    if (id < 0 || countriesById[id] != country) {
+      return;
+    }
+    remove(previousOwner, id);
+    add(newOwner, id);
+  }
+
+  /**
+   * Gets the countries owned by a player, in id order.
+   *
+   * @param playerName name of the player
+   * @return a new list with the countries.
+   */
+  public ArrayList<Country> getCountries(String playerName) {
+    ArrayList<Country> countries = new ArrayList<>(getNumberOfCountries(playerName));
+    BitSet owned = ownedCountries.get(playerName);
+    if (owned != null) {
+      for (int id = owned.nextSetBit(0); id >= 0; id = owned.nextSetBit(id + 1)) {
+        countries.add(countriesById[id]);
+      }
+    }
+    return countries;
+  }
+
+  /**
+   * Gets the number of countries owned by a player.
+   *
+   * @param playerName name of the player
+   * @return An integer.
+   */
+  public int getNumberOfCountries(String playerName) {
+    return ownedCounts.getOrDefault(playerName, 0);
+  }
+
+  /**
+   * Checks if a player owns a country.
+   *
+   * @param playerName name of the player
+   * @param countryId id of the country
+   * @return true if the player owns it.
+   */
+  public boolean owns(String playerName, int countryId) {
+    BitSet owned = ownedCountries.get(playerName);
+    return owned != null && owned.get(countryId);
+  }
+
+  /**
+   * Gets the number of countries a player owns in a continent.
+   *
+   * @param playerName name of the player
+   * @param continentId id of the continent
+   * @return An integer.
+   */
+  public int getNumberOfCountries(String playerName, int continentId) {
+    int[] owned = ownedCountsByContinent.get(playerName);
+    return owned == null ? 0 : owned[continentId];
+  }
+
+  /**
+   * Checks if a player owns every country of a continent.
+   *
+   * @param playerName name of the player
+   * @param continentId id of the continent
+   * @return true if the player controls the continent.
+   */
+  public boolean ownsContinent(String playerName, int continentId) {
+    return continentSizes[continentId] > 0
+        && getNumberOfCountries(playerName, continentId) == continentSizes[continentId];
+  }
+
+  /**
+   * Gets the continents controlled by a player, in id order.
+   *
+   * @param playerName name of the player
+   * @return a new list with the names of the continents.
+   */
+  public ArrayList<String> getContinents(String playerName) {
+    ArrayList<String> continents = new ArrayList<>();
+    for (int continentId = 0; continentId < continentSizes.length; continentId++) {
+      if (ownsContinent(playerName, continentId)) {
+        continents.add(topology.getContinentName(continentId));
+      }
+    }
+    return continents;
+  }
+
+  /**
+   * Gets the sum of the control values of the continents controlled by a player.
+   *
+   * @param playerName name of the player
+   * @return the bonus armies.
+   */
+  public int getContinentBonus(String playerName) {
+    int bonusArmies = 0;
+    for (int continentId = 0; continentId < continentSizes.length; continentId++) {
+      if (ownsContinent(playerName, continentId)) {
+        bonusArmies += topology.getContinentValue(continentId);
+      }
+    }
+    return bonusArmies;
+  }
+
+  /**
+   * Adds a country to the countries of a player.
+   *
+   * @param playerName name of the player, null for no owner
+   * @param id id of the country
+   */
+  private void add(String playerName, int id) {
+    if (playerName == null) {
+      return;
+    }
+    ownedCountries.computeIfAbsent(playerName, k -> new BitSet(countriesById.length)).set(id);
+    ownedCounts.merge(playerName, 1, Integer::sum);
+    int continentId = topology.getContinentId(id);
+    if (continentId >= 0) {
+      int[] owned =
+          ownedCountsByContinent.computeIfAbsent(playerName, k -> new int[continentSizes.length]);
+      owned[continentId]++;
+    }
+  }
+
+  /**
+   * Removes a country from the countries of a player.
+   *
+   * @param playerName name of the player, null for no owner
+   * @param id id of the country
+   */
+  private void remove(String playerName, int id) {
+    BitSet owned = playerName == null ? null : ownedCountries.get(playerName);
+    if (owned == null || !owned.get(id)) {
+      return;
+    }
+    owned.clear(id);
+    ownedCounts.merge(playerName, -1, Integer::sum);
+    int continentId = topology.getContinentId(id);
+    if (continentId >= 0) {
+      ownedCountsByContinent.get(playerName)[continentId]--;
+    }
+  }
+}
@@ -0,0 +1,65 @@
+package models;
+
+/**
+ * A command string matched by its Command, holds the capture groups of the match so controllers
+ * read the arguments of a command without splitting it again.
+ *
+ * @version 1.0
+ */
+public final class ParsedCommand {
+
+  /** The Command the string matched. */
+  private final Command command;
+
+  /** The capture groups, index 0 is the whole command. */
+  private final String[] groups;
+
+  /**
+   * The constructor for a ParsedCommand, see Command.parse.
+   *
+   * @param command the Command the string matched
+   * @param groups the capture groups of the match
+   */
+  ParsedCommand(Command command, String[] groups) {
+    this.command = command;
+    this.groups = groups;
+  }
+
+  /**
+   * Gets the Command the string matched.
+   *
+   * @return the Command object.
+   */
+  public Command getCommand() {
+    return command;
+  }
+
+  /**
+   * Gets a capture group of the match.
+   *
+   * @param index index of the group in the regex of the command, 0 for the whole command
+   * @return the captured text, null if the group didn't take part in the match.
+   */
+  public String group(int index) {
+    return groups[index];
+  }
+
+  /**
+   * Gets a capture group of the match as an integer.
+   *
+   * @param index index of a group matching digits
+   * @return the captured number.
+   */
+  public int intGroup(int index) {
+    return Integer.parseInt(groups[index]);
+  }
+
+  /**
+   * Gets the number of capture groups of the command.
+   *
+   * @return An integer, not counting group 0.
+   */
+  public int getGroupCount() {
+    return groups.length - 1;
+  }
+}
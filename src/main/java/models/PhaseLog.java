@@ -0,0 +1,373 @@
+package models;
+
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * PhaseLog keeps the messages logged during a game in a ring buffer of entries, so a long game
+ * played headlessly, where nothing ever clears the log, holds only the latest entries. Views read
+ * the entries incrementally through a Cursor. The entries that leave the buffer, because it is full
+ * or cleared, can be spilled to a gzip file by a background writer to keep the whole log of the
+ * game.
+ *
+ * @version 1.0
+ */
+public final class PhaseLog {
+
+  /** Number of entries kept by default. */
+  public static final int DEFAULT_CAPACITY = 1024;
+
+  /** Number of entries kept by the logs of the games created from now on. */
+  public static volatile int capacityProperty = DEFAULT_CAPACITY;
+
+  /** Number of spilled entries the writer can fall behind before the game waits for it. */
+  private static final int SPILL_QUEUE_SIZE = 4096;
+
+  /** Tells the writer no entry follows. */
+  private static final Entry END_OF_SPILL = new Entry(-1, -1, null, null);
+
+  /** The entries, the entry of a sequence number is at sequence % capacity. */
+  private final Entry[] entries;
+
+  /** Sequence number of the oldest entry kept. */
+  private long firstSequence = 0;
+
+  /** Sequence number of the next entry. */
+  private long nextSequence = 0;
+
+  /** Number of times the log was cleared. */
+  private int generation = 0;
+
+  /** The entries waiting to be spilled, null if the log isn't spilled. */
+  private BlockingQueue<Entry> spillQueue;
+
+  /** The thread writing the spilled entries. */
+  private Thread spillWriter;
+
+  /** The error the writer stopped on, null if none. */
+  private volatile IOException spillError;
+
+  /**
+   * The constructor for a PhaseLog.
+   *
+   * @param capacity the number of entries kept
+   */
+  public PhaseLog(int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("The capacity of the log must be positive: " + capacity);
+    }
+    this.entries = new Entry[capacity];
+  }
+
+  /**
+   * Appends an entry, dropping the oldest one when the log is full.
+   *
+   * @param turn number of turns played before the entry
+   * @param context the phase of the game
+   * @param text the message
+   */
+  public synchronized void append(int turn, Context context, String text) {
+    if (nextSequence - firstSequence == entries.length) {
+      evict();
+    }
+    entries[index(nextSequence)] = new Entry(nextSequence, turn, context, text);
+    nextSequence++;
+  }
+
+  /** Drops every entry, a new phase starts. */
+  public synchronized void clear() {
+    while (firstSequence < nextSequence) {
+      evict();
+    }
+    generation++;
+  }
+
+  /**
+   * Gets the messages kept, one per line.
+   *
+   * @return A string with the log.
+   */
+  public synchronized String getText() {
+    StringBuilder text = new StringBuilder();
+    for (long sequence = firstSequence; sequence < nextSequence; sequence++) {
+      text.append(entries[index(sequence)].getText()).append("\n");
+    }
+    return text.toString();
+  }
+
+  /**
+   * Gets the number of entries kept.
+   *
+   * @return An integer at most the capacity.
+   */
+  public synchronized int size() {
+    return (int) (nextSequence - firstSequence);
+  }
+
+  /**
+   * Gets the number of entries kept at most.
+   *
+   * @return An integer.
+   */
+  public int getCapacity() {
+    return entries.length;
+  }
+
+  /**
+   * Creates a cursor that reads the entries kept and then every entry appended.
+   *
+   * @return a new Cursor.
+   */
+  public synchronized Cursor cursor() {
+    return new Cursor(firstSequence, generation);
+  }
+
+  /**
+   * Starts spilling the entries that leave the log to a gzip file, one per line, on a background
+   * thread.
+   *
+   * @param fileName path of the file
+   * @throws IOException when the file can't be created
+   */
+  public synchronized void spillTo(String fileName) throws IOException {
+    if (spillQueue != null) {
+      throw new IllegalStateException("The log is already spilled");
+    }
+    Writer writer =
+        new BufferedWriter(
+            new OutputStreamWriter(
+                new GZIPOutputStream(new FileOutputStream(fileName)), StandardCharsets.UTF_8));
+    BlockingQueue<Entry> queue = new ArrayBlockingQueue<>(SPILL_QUEUE_SIZE);
+    spillQueue = queue;
+    spillWriter = new Thread(() -> writeSpill(queue, writer), "phase-log-spill");
+    spillWriter.setDaemon(true);
+    spillWriter.start();
+  }
+
+  /**
+   * Stops spilling, the entries still kept are spilled too so the file holds the whole log.
+   *
+   * @throws IOException when the file couldn't be written
+   */
+  public void closeSpill() throws IOException {
+    Thread writer;
+    synchronized (this) {
+      if (spillQueue == null) {
+        return;
+      }
+      for (long sequence = firstSequence; sequence < nextSequence; sequence++) {
+        spill(entries[index(sequence)]);
+      }
+      spill(END_OF_SPILL);
+      spillQueue = null;
+      writer = spillWriter;
+      spillWriter = null;
+    }
+    try {
+      writer.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while spilling the log", e);
+    }
+    if (spillError != null) {
+      throw spillError;
+    }
+  }
+
+  /** Drops the oldest entry, spilling it if the log is spilled. */
+  private void evict() {
+    int index = index(firstSequence);
+    if (spillQueue != null) {
+      spill(entries[index]);
+    }
+    entries[index] = null;
+    firstSequence++;
+  }
+
+  /**
+   * Hands an entry to the writer, waiting for it if it fell behind.
+   *
+   * @param entry the entry to spill
+   */
+  private void spill(Entry entry) {
+    if (spillError != null) {
+      return;
+    }
+    try {
+      spillQueue.put(entry);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Writes the spilled entries until the end of the spill, run by the writer thread.
+   *
+   * @param queue the entries to write
+   * @param writer the file
+   */
+  private void writeSpill(BlockingQueue<Entry> queue, Writer writer) {
+    try (Writer output = writer) {
+      for (Entry entry = queue.take(); entry != END_OF_SPILL; entry = queue.take()) {
+        output.write(entry.toString());
+        output.write("\n");
+      }
+    } catch (IOException e) {
+      spillError = e;
+      queue.clear();
+    } catch (InterruptedException e) {
+      spillError = new IOException("Interrupted while spilling the log", e);
+      // a game thread waiting for room in the queue holds the log, let it through
+      queue.clear();
+    }
+  }
+
+  /**
+   * Gets the index of the entry of a sequence number.
+   *
+   * @param sequence the sequence number
+   * @return the index in entries.
+   */
+  private int index(long sequence) {
+    return (int) (sequence % entries.length);
+  }
+
+  /** A message logged during a game. */
+  public static final class Entry {
+
+    /** Position of the entry in the whole log. */
+    private final long sequence;
+
+    /** Number of turns played before the entry. */
+    private final int turn;
+
+    /** The phase of the game. */
+    private final Context context;
+
+    /** The message. */
+    private final String text;
+
+    /**
+     * The constructor for an Entry.
+     *
+     * @param sequence position of the entry in the whole log
+     * @param turn number of turns played before the entry
+     * @param context the phase of the game
+     * @param text the message
+     */
+    Entry(long sequence, int turn, Context context, String text) {
+      this.sequence = sequence;
+      this.turn = turn;
+      this.context = context;
+      this.text = text;
+    }
+
+    /**
+     * Gets the position of the entry in the whole log.
+     *
+     * @return the sequence number.
+     */
+    public long getSequence() {
+      return sequence;
+    }
+
+    /**
+     * Gets the turn of the entry.
+     *
+     * @return number of turns played before the entry.
+     */
+    public int getTurn() {
+      return turn;
+    }
+
+    /**
+     * Gets the phase of the game.
+     *
+     * @return the Context.
+     */
+    public Context getContext() {
+      return context;
+    }
+
+    /**
+     * Gets the message.
+     *
+     * @return the text logged.
+     */
+    public String getText() {
+      return text;
+    }
+
+    /**
+     * Describes the entry on one line.
+     *
+     * @return the turn, the phase and the message.
+     */
+    @Override
+    public String toString() {
+      return String.format("turn %d, %s: %s", turn + 1, context, text.trim());
+    }
+  }
+
+  /** Reads the entries of a log incrementally. */
+  public final class Cursor {
+
+    /** Sequence number of the next entry to read. */
+    private long position;
+
+    /** The generation of the log when last read. */
+    private int readGeneration;
+
+    /** True if entries were dropped since the previous read. */
+    private boolean isRestarted = false;
+
+    /**
+     * The constructor for a Cursor.
+     *
+     * @param position sequence number of the first entry to read
+     * @param readGeneration the generation of the log
+     */
+    private Cursor(long position, int readGeneration) {
+      this.position = position;
+      this.readGeneration = readGeneration;
+    }
+
+    /**
+     * Reads the entries appended since the previous read. If the log was cleared or entries were
+     * dropped since, the entries kept are read from the oldest one, see isRestarted.
+     *
+     * @return the entries, in order.
+     */
+    public List<Entry> read() {
+      synchronized (PhaseLog.this) {
+        isRestarted = readGeneration != generation || position < firstSequence;
+        long from = isRestarted ? firstSequence : position;
+        List<Entry> read = new ArrayList<>((int) (nextSequence - from));
+        for (long sequence = from; sequence < nextSequence; sequence++) {
+          read.add(entries[index(sequence)]);
+        }
+        position = nextSequence;
+        readGeneration = generation;
+        return read;
+      }
+    }
+
+    /**
+     * Checks if the last read starts over, i.e the entries read before are no longer all kept.
+     *
+     * @return true if the reader should show the entries read in place of the earlier ones.
+     */
+    public boolean isRestarted() {
+      return isRestarted;
+    }
+  }
+}
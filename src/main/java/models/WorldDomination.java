@@ -5,21 +5,20 @@ import models.player.Player;
 import java.util.*;
 import java.util.stream.Collectors;
 
-import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toMap;
 
 /**
- * This model holds all the information for the World Domination view.
+ * This model holds all the information for the World Domination view. The countries mark the
+ * players whose figures they change and the figures of those players only are computed again when
+ * the changes are flushed by the ChangeBatcher of the session, the observers are notified with the
+ * names of the players that changed.
  *
  * @author Warren
  * @version 1.0
  */
-public class WorldDomination extends Observable {
-  /** Instance of the WorldDomination class. */
-  private static WorldDomination worldDomination = null;
-
+public class WorldDomination extends Observable implements ChangeBatcher.Source {
   /** Instance of the GameMap. */
-  private GameMap gameMap = GameMap.getGameMap();
+  private GameMap gameMap;
 
   /** Holds the ownership percentage. */
   private Map<String, Double> playerOwnershipPercentage = new HashMap<>();
@@ -30,76 +29,167 @@ public class WorldDomination extends Observable {
   /** Holds the continents owned by players. */
   private Map<String, ArrayList<String>> continentsOwnedByPlayers = new HashMap<>();
 
+  /** Names of the players whose figures changed since the last flush. */
+  private final Set<String> changedPlayers = new LinkedHashSet<>();
+
+  /** False until the figures of every player are computed, and again once they are out of date. */
+  private boolean isComputed = false;
+
+  /**
+   * The constructor for the WorldDomination model of a game, see GameSession.getWorldDomination.
+   *
+   * @param gameMap the game to compute the attributes for.
+   */
+  WorldDomination(GameMap gameMap) {
+    this.gameMap = gameMap;
+  }
+
   /**
-   * Gets an instance of this class.
+   * Gets the instance of the current session.
    *
    * @return The instance of WorldDomination object.
    */
   public static WorldDomination getInstance() {
-    if (worldDomination == null) {
-      worldDomination = new WorldDomination();
-    }
-    return worldDomination;
+    return GameSession.getCurrentSession().getWorldDomination();
   }
 
+  /** Discards the instance of the current session. */
   public static void destroyInstance() {
-    worldDomination = null;
+    GameSession.getCurrentSession().resetWorldDomination();
   }
 
-  /** Refreshes the attributes and notifies the observers to update the WD View. */
-  public void recomputeAttributes() {
+  /**
+   * Marks the figures of players out of date, they are computed again when the changes are flushed.
+   * Skipped when no view is observing, the getters recompute on demand.
+   *
+   * @param playerNames names of the players, null for a country without owner
+   */
+  void markChanged(String... playerNames) {
+    if (countObservers() == 0) {
+      return;
+    }
+    for (String playerName : playerNames) {
+      if (playerName != null) {
+        changedPlayers.add(playerName);
+      }
+    }
+    gameMap.getSession().getChangeBatcher().markDirty(this);
+  }
+
+  /**
+   * Marks the figures of every player out of date, they are all computed again on the next flush.
+   */
+  void markOutdated() {
+    isComputed = false;
+    if (countObservers() > 0) {
+      gameMap.getSession().getChangeBatcher().markDirty(this);
+    }
+  }
+
+  /**
+   * Computes the figures of the players that changed again and notifies the observers with their
+   * names, players no longer in the game are dropped and notified too.
+   */
+  @Override
+  public void flushChanges() {
+    if (changedPlayers.isEmpty() && isComputed) {
+      return;
+    }
     List<Context> excludedContexts =
         Arrays.asList(Context.MAIN_MENU, Context.MAP_EDITOR, Context.GAME_SETUP);
-    if (!excludedContexts.contains(gameMap.getCurrentContext())) {
-      worldDomination.computeArmyCounts();
-      worldDomination.computeContinentsOwnedByPlayers();
-      worldDomination.computeOwnershipPercentage();
-      setChanged();
-      notifyObservers();
+    if (excludedContexts.contains(gameMap.getCurrentContext())) {
+      changedPlayers.clear();
+      isComputed = false;
+      return;
     }
+    Set<String> playerNames =
+        gameMap.playersList.stream()
+            .map(player -> player.getStrategy().getPlayerName())
+            .collect(Collectors.toSet());
+    Set<String> changed = new LinkedHashSet<>(changedPlayers);
+    changedPlayers.clear();
+    if (!isComputed) {
+      changed.addAll(totalArmiesOwnedByPlayer.keySet());
+      computeArmyCounts();
+      computeContinentsOwnedByPlayers();
+      computeOwnershipPercentage();
+      changed.addAll(playerNames);
+      isComputed = true;
+    } else {
+      for (String playerName : totalArmiesOwnedByPlayer.keySet()) {
+        if (!playerNames.contains(playerName)) {
+          changed.add(playerName);
+        }
+      }
+      for (String playerName : changed) {
+        computePlayer(playerName, playerNames.contains(playerName));
+      }
+    }
+    setChanged();
+    notifyObservers(Collections.unmodifiableSet(changed));
+  }
+
+  /**
+   * Calculates the figures of one player.
+   *
+   * @param playerName name of the player
+   * @param isPlaying false if the player is no longer in the game, its figures are dropped
+   */
+  private void computePlayer(String playerName, boolean isPlaying) {
+    if (!isPlaying) {
+      totalArmiesOwnedByPlayer.remove(playerName);
+      playerOwnershipPercentage.remove(playerName);
+      continentsOwnedByPlayers.remove(playerName);
+      return;
+    }
+    OwnershipIndex ownership = gameMap.getOwnership();
+    totalArmiesOwnedByPlayer.put(
+        playerName,
+        ownership.getCountries(playerName).stream().mapToInt(Country::getNumberOfArmies).sum());
+    playerOwnershipPercentage.put(
+        playerName,
+        ((double) ownership.getNumberOfCountries(playerName) / gameMap.getCountries().size())
+            * 100);
+    continentsOwnedByPlayers.put(playerName, ownership.getContinents(playerName));
+  }
+
+  /**
+   * Gets the total armies of a player as of the last flush, without computing them again.
+   *
+   * @param playerName name of the player
+   * @return the armies, null if the player isn't in the game.
+   */
+  public Integer getTotalArmies(String playerName) {
+    return totalArmiesOwnedByPlayer.get(playerName);
+  }
+
+  /**
+   * Gets the ownership percentage of a player as of the last flush, without computing it again.
+   *
+   * @param playerName name of the player
+   * @return the percentage, null if the player isn't in the game.
+   */
+  public Double getOwnershipPercentage(String playerName) {
+    return playerOwnershipPercentage.get(playerName);
+  }
+
+  /**
+   * Gets the continents owned by a player as of the last flush, without computing them again.
+   *
+   * @param playerName name of the player
+   * @return the names of the continents, null if the player isn't in the game.
+   */
+  public ArrayList<String> getContinentsOwned(String playerName) {
+    return continentsOwnedByPlayers.get(playerName);
   }
 
   /** Calculates the continents owned by each player. */
   private void computeContinentsOwnedByPlayers() {
-    Map<String, List<Country>> mapByContinents =
-        gameMap.getCountries().values().stream().collect(groupingBy(Country::getContinent));
-    Map<String, Integer> continentsSize =
-        mapByContinents.entrySet().stream()
-            .map(e -> new AbstractMap.SimpleEntry<>(e.getKey(), e.getValue().size()))
-            .collect(toMap(AbstractMap.SimpleEntry::getKey, AbstractMap.SimpleEntry::getValue));
-
+    OwnershipIndex ownership = gameMap.getOwnership();
     continentsOwnedByPlayers =
         gameMap.playersList.stream()
-            .map(
-                player -> {
-                  ArrayList<String> continentsOwnedByPlayer = new ArrayList<>();
-
-                  Map<String, List<Country>> mapByPlayersOwnership =
-                      gameMap.getCountries().values().stream()
-                          .filter(
-                              c -> c.getOwnerName().equals(player.getStrategy().getPlayerName()))
-                          .collect(groupingBy(Country::getContinent));
-
-                  Map<String, Integer> continentsOwnership =
-                      mapByPlayersOwnership.entrySet().stream()
-                          .map(e -> new AbstractMap.SimpleEntry<>(e.getKey(), e.getValue().size()))
-                          .collect(
-                              toMap(
-                                  AbstractMap.SimpleEntry::getKey,
-                                  AbstractMap.SimpleEntry::getValue));
-
-                  for (Map.Entry<String, Integer> entry : continentsOwnership.entrySet()) {
-                    int fullOwnerShip = continentsSize.get(entry.getKey());
-                    int currentOwnerShip = entry.getValue();
-                    if (fullOwnerShip == currentOwnerShip) {
-                      continentsOwnedByPlayer.add(entry.getKey());
-                    }
-                  }
-
-                  return new AbstractMap.SimpleEntry<>(
-                      player.getStrategy().getPlayerName(), continentsOwnedByPlayer);
-                })
-            .collect(toMap(AbstractMap.SimpleEntry::getKey, AbstractMap.SimpleEntry::getValue));
+            .map(player -> player.getStrategy().getPlayerName())
+            .collect(toMap(playerName -> playerName, ownership::getContinents));
   }
 
   /**
@@ -148,9 +238,8 @@ public class WorldDomination extends Observable {
             .map(
                 player -> {
                   long ownershipCount =
-                      Player.getCountriesByOwnership(player.getStrategy().getPlayerName(), gameMap)
-                          .stream()
-                          .count();
+                      Player.getNumberOfCountriesOwned(
+                          player.getStrategy().getPlayerName(), gameMap);
                   return new AbstractMap.SimpleEntry<>(
                       player.getStrategy().getPlayerName(),
                       (ownershipCount / totalNumOfCountries) * 100);
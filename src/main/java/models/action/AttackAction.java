@@ -0,0 +1,113 @@
+package models.action;
+
+import models.MapTopology;
+
+/**
+ * An attack from one country on a neighbor, by their ids in the topology of the map. AI strategies
+ * build it directly, the attack command is parsed into it.
+ *
+ * @version 1.0
+ */
+public final class AttackAction {
+
+  /** Id of the attacking country. */
+  private final int attackerId;
+
+  /** Id of the defending country. */
+  private final int defenderId;
+
+  /** Number of dice of the attacker, unused for an all-out attack. */
+  private final int numOfDice;
+
+  /** True if the attack goes on with max dice until it is decided. */
+  private final boolean isAllOut;
+
+  /**
+   * The constructor for an AttackAction, see allOut and withDice.
+   *
+   * @param attackerId id of the attacking country
+   * @param defenderId id of the defending country
+   * @param numOfDice number of dice of the attacker
+   * @param isAllOut true for an all-out attack
+   */
+  private AttackAction(int attackerId, int defenderId, int numOfDice, boolean isAllOut) {
+    this.attackerId = attackerId;
+    this.defenderId = defenderId;
+    this.numOfDice = numOfDice;
+    this.isAllOut = isAllOut;
+  }
+
+  /**
+   * Creates an all-out attack, i.e attack with max dice until the country is captured or the
+   * attacker can't attack anymore.
+   *
+   * @param attackerId id of the attacking country
+   * @param defenderId id of the defending country
+   * @return the AttackAction.
+   */
+  public static AttackAction allOut(int attackerId, int defenderId) {
+    return new AttackAction(attackerId, defenderId, 0, true);
+  }
+
+  /**
+   * Creates an attack of a single roll.
+   *
+   * @param attackerId id of the attacking country
+   * @param defenderId id of the defending country
+   * @param numOfDice number of dice of the attacker
+   * @return the AttackAction.
+   */
+  public static AttackAction withDice(int attackerId, int defenderId, int numOfDice) {
+    return new AttackAction(attackerId, defenderId, numOfDice, false);
+  }
+
+  /**
+   * Gets the id of the attacking country.
+   *
+   * @return the id, -1 if the country isn't on the map.
+   */
+  public int getAttackerId() {
+    return attackerId;
+  }
+
+  /**
+   * Gets the id of the defending country.
+   *
+   * @return the id, -1 if the country isn't on the map.
+   */
+  public int getDefenderId() {
+    return defenderId;
+  }
+
+  /**
+   * Gets the number of dice of the attacker.
+   *
+   * @return An integer, 0 for an all-out attack.
+   */
+  public int getNumOfDice() {
+    return numOfDice;
+  }
+
+  /**
+   * Checks if the attack is all-out.
+   *
+   * @return true if the attack goes on until it is decided.
+   */
+  public boolean isAllOut() {
+    return isAllOut;
+  }
+
+  /**
+   * Formats the attack as the command a human player would enter.
+   *
+   * @param topology the topology the ids belong to
+   * @return the attack command.
+   */
+  public String toCommand(MapTopology topology) {
+    return String.format(
+        "attack %s %s %s",
+        topology.getCountryName(attackerId),
+        topology.getCountryName(defenderId),
+        isAllOut() ? "-allout" : String.valueOf(numOfDice));
+  }
+}
@@ -0,0 +1,73 @@
+package models.action;
+
+import models.MapTopology;
+
+/**
+ * A move of armies between two neighboring countries of a player, by their ids in the topology of
+ * the map. AI strategies build it directly, the fortify command is parsed into it.
+ *
+ * @version 1.0
+ */
+public final class FortifyAction {
+
+  /** Id of the country the armies move from. */
+  private final int fromId;
+
+  /** Id of the country the armies move to. */
+  private final int toId;
+
+  /** Number of armies to move. */
+  private final int numOfArmies;
+
+  /**
+   * The constructor for a FortifyAction.
+   *
+   * @param fromId id of the country the armies move from
+   * @param toId id of the country the armies move to
+   * @param numOfArmies number of armies to move
+   */
+  public FortifyAction(int fromId, int toId, int numOfArmies) {
+    this.fromId = fromId;
+    this.toId = toId;
+    this.numOfArmies = numOfArmies;
+  }
+
+  /**
+   * Gets the id of the country the armies move from.
+   *
+   * @return the id, -1 if the country isn't on the map.
+   */
+  public int getFromId() {
+    return fromId;
+  }
+
+  /**
+   * Gets the id of the country the armies move to.
+   *
+   * @return the id, -1 if the country isn't on the map.
+   */
+  public int getToId() {
+    return toId;
+  }
+
+  /**
+   * Gets the number of armies to move.
+   *
+   * @return An integer.
+   */
+  public int getNumOfArmies() {
+    return numOfArmies;
+  }
+
+  /**
+   * Formats the move as the command a human player would enter.
+   *
+   * @param topology the topology the ids belong to
+   * @return the fortify command.
+   */
+  public String toCommand(MapTopology topology) {
+    return String.format(
+        "fortify %s %s %d",
+        topology.getCountryName(fromId), topology.getCountryName(toId), numOfArmies);
+  }
+}
@@ -0,0 +1,57 @@
+package models.action;
+
+import models.MapTopology;
+
+/**
+ * A placement of reinforcement armies on a country of a player, by its id in the topology of the
+ * map. The reinforce command is parsed into it.
+ *
+ * @version 1.0
+ */
+public final class ReinforceAction {
+
+  /** Id of the country to reinforce. */
+  private final int countryId;
+
+  /** Number of armies to place. */
+  private final int numOfArmies;
+
+  /**
+   * The constructor for a ReinforceAction.
+   *
+   * @param countryId id of the country to reinforce
+   * @param numOfArmies number of armies to place
+   */
+  public ReinforceAction(int countryId, int numOfArmies) {
+    this.countryId = countryId;
+    this.numOfArmies = numOfArmies;
+  }
+
+  /**
+   * Gets the id of the country to reinforce.
+   *
+   * @return the id, -1 if the country isn't on the map.
+   */
+  public int getCountryId() {
+    return countryId;
+  }
+
+  /**
+   * Gets the number of armies to place.
+   *
+   * @return An integer.
+   */
+  public int getNumOfArmies() {
+    return numOfArmies;
+  }
+
+  /**
+   * Formats the placement as the command a human player would enter.
+   *
+   * @param topology the topology the id belongs to
+   * @return the reinforce command.
+   */
+  public String toCommand(MapTopology topology) {
+    return String.format("reinforce %s %d", topology.getCountryName(countryId), numOfArmies);
+  }
+}
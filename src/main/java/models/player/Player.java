@@ -3,11 +3,9 @@ package models.player;
 import models.Card;
 import models.Country;
 import models.GameMap;
+import models.MapTopology;
 
-import java.util.AbstractMap;
 import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
 
 import static java.util.stream.Collectors.*;
 
@@ -56,9 +54,76 @@ public class Player {
    * @return a list of countries owned by this player.
    */
   public static ArrayList<Country> getCountriesByOwnership(String playerName, GameMap gameMap) {
-    return gameMap.getCountries().values().stream()
-        .filter(c -> c.getOwnerName().equals(playerName))
-        .collect(toCollection(ArrayList::new));
+    return gameMap.getOwnership().getCountries(playerName);
+  }
+
+  /**
+   * This method returns the number of countries owned by a player.
+   *
+   * @param playerName The name of the player.
+   * @param gameMap the entire map graph
+   * @return the number of countries owned by this player.
+   */
+  public static int getNumberOfCountriesOwned(String playerName, GameMap gameMap) {
+    return gameMap.getOwnership().getNumberOfCountries(playerName);
+  }
+
+  /**
+   * Checks if a player owns a country.
+   *
+   * @param playerName The name of the player.
+   * @param countryName The name of the country.
+   * @param gameMap the entire map graph
+   * @return true if the country exists and is owned by the player.
+   */
+  public static boolean ownsCountry(String playerName, String countryName, GameMap gameMap) {
+    int countryId = gameMap.getTopology().getCountryId(countryName);
+    return countryId >= 0 && gameMap.getOwnership().owns(playerName, countryId);
+  }
+
+  /**
+   * Returns the neighbors of a country owned, or not owned, by a player. The neighbors are read
+   * from the compiled topology in id order.
+   *
+   * @param gameMap the entire map graph
+   * @param country the country whose neighbors are returned
+   * @param playerName The name of the player.
+   * @param isOwned true for the neighbors owned by the player, false for the others
+   * @return a list of neighboring countries.
+   */
+  public static ArrayList<Country> getNeighborsByOwnership(
+      GameMap gameMap, Country country, String playerName, boolean isOwned) {
+    MapTopology topology = gameMap.getTopology();
+    int countryId = topology.getCountryId(country.getName());
+    ArrayList<Country> neighbors = new ArrayList<>(topology.getNumberOfNeighbors(countryId));
+    for (int k = topology.neighborStart(countryId); k < topology.neighborEnd(countryId); k++) {
+      Country neighbor = gameMap.getCountry(topology.neighbor(k));
+      if (neighbor.getOwnerName().equals(playerName) == isOwned) {
+        neighbors.add(neighbor);
+      }
+    }
+    return neighbors;
+  }
+
+  /**
+   * Checks if a country has a neighbor owned, or not owned, by a player.
+   *
+   * @param gameMap the entire map graph
+   * @param country the country whose neighbors are checked
+   * @param playerName The name of the player.
+   * @param isOwned true to look for a neighbor owned by the player, false for the others
+   * @return true if such a neighbor exists.
+   */
+  public static boolean hasNeighborByOwnership(
+      GameMap gameMap, Country country, String playerName, boolean isOwned) {
+    MapTopology topology = gameMap.getTopology();
+    int countryId = topology.getCountryId(country.getName());
+    for (int k = topology.neighborStart(countryId); k < topology.neighborEnd(countryId); k++) {
+      if (gameMap.getCountry(topology.neighbor(k)).getOwnerName().equals(playerName) == isOwned) {
+        return true;
+      }
+    }
+    return false;
   }
 
   /**
@@ -69,7 +134,7 @@ public class Player {
    * @return boolean true if player is still in the game, false otherwise.
    */
   public static boolean checkPlayerOwnsAtleastOneCountry(String playerName, GameMap gameMap) {
-    return getCountriesByOwnership(playerName, gameMap).size() > 0;
+    return getNumberOfCountriesOwned(playerName, gameMap) > 0;
   }
 
   /**
@@ -80,7 +145,7 @@ public class Player {
    * @return boolean true if player is still in the game, false otherwise.
    */
   public static boolean checkPlayerOwnsAllTheCountries(String playerName, GameMap gameMap) {
-    return getCountriesByOwnership(playerName, gameMap).size() == gameMap.getCountries().size();
+    return getNumberOfCountriesOwned(playerName, gameMap) == gameMap.getCountries().size();
   }
 
   /**
@@ -91,30 +156,7 @@ public class Player {
    * @return bonus armies
    */
   public static int getBonusArmiesIfPlayerOwnsContinents(String playerName, GameMap gameMap) {
-    int bonusArmies = 0;
-    Map<String, List<Country>> mapByContinents =
-        gameMap.getCountries().values().stream().collect(groupingBy(Country::getContinent));
-    Map<String, List<Country>> mapByPlayersOwnership =
-        gameMap.getCountries().values().stream()
-            .filter(c -> c.getOwnerName().equals(playerName))
-            .collect(groupingBy(Country::getContinent));
-    Map<String, Integer> continentsSize =
-        mapByContinents.entrySet().stream()
-            .map(e -> new AbstractMap.SimpleEntry<String, Integer>(e.getKey(), e.getValue().size()))
-            .collect(toMap(AbstractMap.SimpleEntry::getKey, AbstractMap.SimpleEntry::getValue));
-    Map<String, Integer> continentsOwnership =
-        mapByPlayersOwnership.entrySet().stream()
-            .map(e -> new AbstractMap.SimpleEntry<String, Integer>(e.getKey(), e.getValue().size()))
-            .collect(toMap(AbstractMap.SimpleEntry::getKey, AbstractMap.SimpleEntry::getValue));
-    for (Map.Entry<String, Integer> entry : continentsOwnership.entrySet()) {
-      int fullOwnerShip = continentsSize.get(entry.getKey());
-      int currentOwnerShip = entry.getValue();
-      if (fullOwnerShip == currentOwnerShip) {
-        int controlValue = gameMap.getContinents().get(entry.getKey()).getValue();
-        bonusArmies += controlValue;
-      }
-    }
-    return bonusArmies;
+    return gameMap.getOwnership().getContinentBonus(playerName);
   }
 
   /**
@@ -125,7 +167,7 @@ public class Player {
    */
   public static int calculateReinforcements(GameMap gameMap) {
     String playerName = gameMap.getCurrentPlayer().strategy.getPlayerName();
-    int ownedCountries = getCountriesByOwnership(playerName, gameMap).size();
+    int ownedCountries = getNumberOfCountriesOwned(playerName, gameMap);
     int allReinforcementArmies = getBonusArmiesIfPlayerOwnsContinents(playerName, gameMap);
 
     if (ownedCountries < 9) {
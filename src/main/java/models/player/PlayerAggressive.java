@@ -6,6 +6,8 @@ import models.Card;
 import models.Context;
 import models.Country;
 import models.GameMap;
+import models.MapTopology;
+import models.action.AttackAction;
 import views.CardExchangeView;
 
 import java.util.*;
@@ -76,10 +78,7 @@ public class PlayerAggressive extends Observable implements PlayerStrategy {
     Optional<Country> resEntry =
         countriesOwnedByPlayer.stream()
             .filter(
-                country ->
-                    !gameMap.getBorders().get(country.getName()).stream()
-                        .map(gameMap.getCountries()::get)
-                        .allMatch(neighbor -> neighbor.getOwnerName().equals(this.playerName)))
+                country -> Player.hasNeighborByOwnership(gameMap, country, this.playerName, false))
             .findFirst();
 
     if (resEntry.isPresent())
@@ -105,12 +104,7 @@ public class PlayerAggressive extends Observable implements PlayerStrategy {
             .collect(toCollection(ArrayList::new));
     Map.Entry<String, Country> resEntry = null;
     for (Country c : countriesOwnedByPlayer) {
-      boolean noOwnedNeighbor =
-          gameMap.getBorders().get(c.getName()).stream()
-              .noneMatch(
-                  neighbor ->
-                      gameMap.getCountries().get(neighbor).getOwnerName().equals(this.playerName));
-      if (!noOwnedNeighbor) {
+      if (Player.hasNeighborByOwnership(gameMap, c, this.playerName, true)) {
         resEntry = new AbstractMap.SimpleEntry<String, Country>(c.getName(), c);
         break;
       }
@@ -127,30 +121,23 @@ public class PlayerAggressive extends Observable implements PlayerStrategy {
   private void attackUtil(GameMap gameMap, Map.Entry<String, Country> countryWithMaxArmies) {
     if (countryWithMaxArmies == null) {
       display("No strongest country left to attack", true);
-      GameController.assignedCard = false;
+      gameMap.getSession().setCardAssigned(false);
       gameMap.setCurrentContext(Context.GAME_FORTIFY);
       return;
     }
-    String countryToAttack =
-        gameMap.getBorders().get(countryWithMaxArmies.getKey()).stream()
-            .filter(
-                neighbor ->
-                    !gameMap.getCountries().get(neighbor).getOwnerName().equals(this.playerName))
-            .reduce(
-                null,
-                (minArmiesNeighbor, country) -> {
-                  if (minArmiesNeighbor == null) return country;
-                  Country minArmiesNeighborCountry = gameMap.getCountries().get(minArmiesNeighbor);
-                  Country currentCountry = gameMap.getCountries().get(country);
-                  if (currentCountry.getNumberOfArmies()
-                      < minArmiesNeighborCountry.getNumberOfArmies()) return country;
-                  return minArmiesNeighbor;
-                });
-
-    String command =
-        String.format("attack %s %s -allout", countryWithMaxArmies.getKey(), countryToAttack);
-    if (GameController.validateAttack(gameMap, command)) {
-      BattleController battleController = new BattleController(gameMap, command);
+    MapTopology topology = gameMap.getTopology();
+    int defenderId =
+        Player.getNeighborsByOwnership(
+                gameMap, countryWithMaxArmies.getValue(), this.playerName, false)
+            .stream()
+            .min(Comparator.comparingInt(Country::getNumberOfArmies))
+            .map(country -> topology.getCountryId(country.getName()))
+            .orElse(-1);
+
+    AttackAction action =
+        AttackAction.allOut(topology.getCountryId(countryWithMaxArmies.getKey()), defenderId);
+    if (GameController.validateAttack(gameMap, action)) {
+      BattleController battleController = new BattleController(gameMap, action);
       battleController.setNoInputEnabled(true);
       battleController.startBattle();
     }
@@ -167,7 +154,7 @@ public class PlayerAggressive extends Observable implements PlayerStrategy {
   public boolean attack(GameMap gameMap, String blankCommand) {
     // recursively with strongest valid country until he can't attack
     while (gameMap.getCurrentContext().name().contains("ATTACK")) {
-      if (GameController.isTournament && GameMap.isGameOver) {
+      if (gameMap.getSession().isTournament() && gameMap.getSession().isGameOver()) {
         return true;
       }
       Map.Entry<String, Country> countryWithMaxArmies =
@@ -192,14 +179,17 @@ public class PlayerAggressive extends Observable implements PlayerStrategy {
     // perform cardExchange and then reinforce
     PlayerAggressive currPlayer = (PlayerAggressive) gameMap.getCurrentPlayer().getStrategy();
     if (cardsInHand.size() >= 5) {
-      currPlayer.exchangeCardsForArmies(Player.getCardExchangeIndices(this.getCardsInHand()));
+      currPlayer.exchangeCardsForArmies(
+          gameMap, Player.getCardExchangeIndices(this.getCardsInHand()));
     }
     int armiesToReinforce = currPlayer.getNumberOfArmies();
     String countryToReinforce = getStrongestCountryAttackReinforce(gameMap, "reinforce").getKey();
     gameMap.placeArmy(countryToReinforce, armiesToReinforce);
     display(
-        String.format(
-            "%s reinforced %s with %d armies", currPlayer, countryToReinforce, armiesToReinforce),
+        () ->
+            String.format(
+                "%s reinforced %s with %d armies",
+                currPlayer, countryToReinforce, armiesToReinforce),
         true);
     return true;
   }
@@ -229,7 +219,7 @@ public class PlayerAggressive extends Observable implements PlayerStrategy {
     if (tCountry != null) {
       fCountry = findStrongestAlongDFSPath(gameMap, currPlayerName, tCountry.getName());
       if (fCountry == null) {
-        display(String.format("%s chose not to fortify", currPlayerName), true);
+        display(() -> String.format("%s chose not to fortify", currPlayerName), true);
         return true;
       }
       fCountryStr = fCountry.getName();
@@ -241,7 +231,7 @@ public class PlayerAggressive extends Observable implements PlayerStrategy {
       int armiesToMove = 0;
 
       if (fCountryArmies < 2) {
-        display(String.format("%s chose not to fortify", currPlayerName), true);
+        display(() -> String.format("%s chose not to fortify", currPlayerName), true);
         return true;
       } else {
         armiesToMove = gameMap.getCountries().get(fCountryStr).getNumberOfArmies() - 1;
@@ -260,7 +250,7 @@ public class PlayerAggressive extends Observable implements PlayerStrategy {
             true);
       }
     } else {
-      display(String.format("%s chose not to fortify", currPlayerName), true);
+      display(() -> String.format("%s chose not to fortify", currPlayerName), true);
       result = true;
     }
     return result;
@@ -276,26 +266,7 @@ public class PlayerAggressive extends Observable implements PlayerStrategy {
    */
   private Country findStrongestAlongDFSPath(
       GameMap gameMap, String currPlayerName, String maxCountry) {
-    ArrayList<Country> countriesOwnedByPlayer =
-        Player.getCountriesByOwnership(currPlayerName, gameMap);
-    ArrayList<String> countriesOwnedByPlayerStrings =
-        countriesOwnedByPlayer.stream().map(Country::getName).collect(toCollection(ArrayList::new));
-
-    Map<String, Set<String>> copyMapBorders = new HashMap<>(gameMap.getBorders());
-    Map<String, Set<String>> filteredGameMap =
-        copyMapBorders.entrySet().stream()
-            .filter(entry -> countriesOwnedByPlayerStrings.contains(entry.getKey()))
-            .map(
-                entry ->
-                    new AbstractMap.SimpleEntry<>(
-                        entry.getKey(),
-                        entry.getValue().stream()
-                            .filter(countriesOwnedByPlayerStrings::contains)
-                            .collect(toSet())))
-            .collect(toMap(Map.Entry::getKey, Map.Entry::getValue));
-
-    ArrayList<String> DFSNeighbors =
-        new ArrayList<>(DFSUtil(gameMap, filteredGameMap, new HashSet<>(), maxCountry));
+    ArrayList<String> DFSNeighbors = DFSUtil(gameMap, currPlayerName, maxCountry);
     DFSNeighbors.remove(maxCountry);
     String fromFortifyCountry =
         DFSNeighbors.isEmpty() ? "none" : getFromFortifyCountry(gameMap, DFSNeighbors);
@@ -305,27 +276,36 @@ public class PlayerAggressive extends Observable implements PlayerStrategy {
   }
 
   /**
-   * Utility to perform Depth-First Search
+   * Utility to perform Depth-First Search over the countries owned by a player, iterating the
+   * compiled topology with an explicit stack.
    *
    * @param gameMap the GameMap instance / a reference to the game map
-   * @param filteredGameMap a filtered game map containing only countries and borders owned by
-   *     current player
-   * @param visited a set containing the visited countries along DFS path
+   * @param currPlayerName the name of the player whose countries are searched
    * @param start the starting point for the depth-first search
-   * @return the set of visited countries in the DFS path
+   * @return the visited countries in the DFS path, including start
    */
-  private Set<String> DFSUtil(
-      GameMap gameMap,
-      Map<String, Set<String>> filteredGameMap,
-      Set<String> visited,
-      String start) {
-    visited.add(start);
-    for (String neighbor : filteredGameMap.get(start)) {
-      if (!visited.contains(neighbor)) {
-        DFSUtil(gameMap, filteredGameMap, visited, neighbor);
+  private ArrayList<String> DFSUtil(GameMap gameMap, String currPlayerName, String start) {
+    MapTopology topology = gameMap.getTopology();
+    boolean[] visited = new boolean[topology.getNumberOfCountries()];
+    int[] stack = new int[topology.getNumberOfCountries()];
+    int stackSize = 0;
+    int startId = topology.getCountryId(start);
+    visited[startId] = true;
+    stack[stackSize++] = startId;
+    ArrayList<String> visitedCountries = new ArrayList<>();
+    while (stackSize > 0) {
+      int countryId = stack[--stackSize];
+      visitedCountries.add(topology.getCountryName(countryId));
+      for (int k = topology.neighborStart(countryId); k < topology.neighborEnd(countryId); k++) {
+        int neighborId = topology.neighbor(k);
+        if (!visited[neighborId]
+            && gameMap.getCountry(neighborId).getOwnerName().equals(currPlayerName)) {
+          visited[neighborId] = true;
+          stack[stackSize++] = neighborId;
+        }
       }
     }
-    return visited;
+    return visitedCountries;
   }
 
   /**
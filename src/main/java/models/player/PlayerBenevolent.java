@@ -74,12 +74,14 @@ public class PlayerBenevolent extends Observable implements PlayerStrategy {
         c -> {
           gameMap.placeArmy(c.getName(), armiesToPlace);
           display(
-              String.format(
-                  "%s reinforced by %s using %d armies.", c.getName(), playerName, armiesToPlace),
+              () ->
+                  String.format(
+                      "%s reinforced by %s using %d armies.",
+                      c.getName(), playerName, armiesToPlace),
               true);
         });
     if (cardsInHand.size() > 3) {
-      this.exchangeCardsForArmies(Player.getCardExchangeIndices(this.getCardsInHand()));
+      this.exchangeCardsForArmies(gameMap, Player.getCardExchangeIndices(this.getCardsInHand()));
     }
     return true;
   }
@@ -114,7 +116,7 @@ public class PlayerBenevolent extends Observable implements PlayerStrategy {
             int halfTheArmies = (target.getNumberOfArmies() / 2);
 
             if (halfTheArmies == 0) {
-              display(String.format("%s chose not to fortify", playerName), true);
+              display(() -> String.format("%s chose not to fortify", playerName), true);
               return;
             }
 
@@ -122,9 +124,10 @@ public class PlayerBenevolent extends Observable implements PlayerStrategy {
             if (isArmyRemoved) {
               weakest.addArmies(halfTheArmies);
               display(
-                  String.format(
-                      "%s fortified by %s using %d armies.",
-                      weakest.getName(), playerName, halfTheArmies),
+                  () ->
+                      String.format(
+                          "%s fortified by %s using %d armies.",
+                          weakest.getName(), playerName, halfTheArmies),
                   true);
             }
           }
@@ -1,6 +1,5 @@
 package models.player;
 
-import controllers.GameController;
 import models.Card;
 import models.Country;
 import models.GameMap;
@@ -58,7 +57,8 @@ public class PlayerCheater extends Observable implements PlayerStrategy {
    */
   @Override
   public boolean attack(GameMap gameMap, String command) {
-    display(String.format("%s attacks and captures all opposing neighbours.", playerName), true);
+    display(
+        () -> String.format("%s attacks and captures all opposing neighbours.", playerName), true);
     PlayerStrategy strategy = gameMap.getCurrentPlayer().getStrategy();
     playerName = strategy.getPlayerName();
     ArrayList<Country> countries =
@@ -72,42 +72,48 @@ public class PlayerCheater extends Observable implements PlayerStrategy {
         Country neighbor = allCountries.get(neighborName);
         if (!neighbor.getOwnerName().equals(playerName)) {
           String originalOwner = neighbor.getOwnerName();
+          gameMap.getSession().getStatistics().recordArmiesDestroyed(neighbor.getNumberOfArmies());
           neighbor.setOwnerName(playerName);
           display(
-              String.format(
-                  "Changing ownership of %s from %s to %s",
-                  neighbor.getName(), originalOwner, playerName),
+              () ->
+                  String.format(
+                      "Changing ownership of %s from %s to %s",
+                      neighbor.getName(), originalOwner, playerName),
               true);
           display(
-              String.format(
-                  "Moved %d armies from %s to %s",
-                  cheaterCountry.getNumberOfArmies() / 2, cheaterCountry.getName(), originalOwner),
+              () ->
+                  String.format(
+                      "Moved %d armies from %s to %s",
+                      cheaterCountry.getNumberOfArmies() / 2,
+                      cheaterCountry.getName(),
+                      originalOwner),
               false);
           neighbor.setNumberOfArmies(cheaterCountry.getNumberOfArmies() / 2);
           cheaterCountry.removeArmies(cheaterCountry.getNumberOfArmies() / 2);
           // Remove original owner if they have no ownership
-          if (Player.getCountriesByOwnership(originalOwner, gameMap).size() == 0) {
+          if (Player.getNumberOfCountriesOwned(originalOwner, gameMap) == 0) {
             display(
-                String.format("Removing %s from the game due to no ownership", originalOwner),
+                () -> String.format("Removing %s from the game due to no ownership", originalOwner),
                 true);
             gameMap.removeGamePlayer(originalOwner);
+            gameMap.getSession().getStatistics().recordElimination(originalOwner);
           }
         }
         if (cheaterCountry.getNumberOfArmies() == 1) break;
       }
     }
     if (Player.checkPlayerOwnsAllTheCountries(playerName, gameMap)) {
-      display(String.format("%s(attacker) won the game!", playerName), true);
-      GameMap.isGameOver = true;
-      if (GameController.isTournament) {
+      display(() -> String.format("%s(attacker) won the game!", playerName), true);
+      gameMap.getSession().setGameOver(true);
+      if (gameMap.getSession().isTournament()) {
         return true;
       } else {
         System.exit(0);
       }
     }
-    if (!GameController.assignedCard) {
+    if (!gameMap.getSession().isCardAssigned()) {
       gameMap.assignCard();
-      GameController.assignedCard = true;
+      gameMap.getSession().setCardAssigned(true);
       display(
           playerName
               + " currently has "
@@ -117,12 +123,12 @@ public class PlayerCheater extends Observable implements PlayerStrategy {
               + " card(s).",
           false);
     }
-    GameController.assignedCard = false;
+    gameMap.getSession().setCardAssigned(false);
     if (allCountries.entrySet().stream()
         .allMatch(c -> c.getValue().getOwnerName().equals(playerName))) {
-      display(String.format("%s(attacker) won the game!", playerName), true);
-      if (GameController.isTournament) {
-        GameMap.isGameOver = true;
+      display(() -> String.format("%s(attacker) won the game!", playerName), true);
+      if (gameMap.getSession().isTournament()) {
+        gameMap.getSession().setGameOver(true);
         return true;
       } else {
         System.exit(0);
@@ -143,10 +149,12 @@ public class PlayerCheater extends Observable implements PlayerStrategy {
   @Override
   public boolean reinforce(GameMap gameMap, String countryToPlace, int armiesToPlace) {
     display(
-        String.format("%s Reinforces, all owned countries have double the armies now.", playerName),
+        () ->
+            String.format(
+                "%s Reinforces, all owned countries have double the armies now.", playerName),
         true);
     if (cardsInHand.size() >= 5) {
-      this.exchangeCardsForArmies(Player.getCardExchangeIndices(this.getCardsInHand()));
+      this.exchangeCardsForArmies(gameMap, Player.getCardExchangeIndices(this.getCardsInHand()));
     }
     ArrayList<Country> countries = Player.getCountriesByOwnership(playerName, gameMap);
     PlayerStrategy strategy = gameMap.getCurrentPlayer().getStrategy();
@@ -154,9 +162,10 @@ public class PlayerCheater extends Observable implements PlayerStrategy {
     countries.forEach(
         country -> {
           display(
-              String.format(
-                  "%s has placed %d army(s) in %s",
-                  playerName, country.getNumberOfArmies(), country.getName()),
+              () ->
+                  String.format(
+                      "%s has placed %d army(s) in %s",
+                      playerName, country.getNumberOfArmies(), country.getName()),
               true);
           country.addArmies(country.getNumberOfArmies());
         });
@@ -176,9 +185,11 @@ public class PlayerCheater extends Observable implements PlayerStrategy {
   @Override
   public boolean fortify(GameMap gameMap, String fromCountry, String toCountry, int armyToMove) {
     display(
-        String.format(
-            "%s Fortifies, all countries with opposing neighbors " + "have double the armies now.",
-            playerName),
+        () ->
+            String.format(
+                "%s Fortifies, all countries with opposing neighbors "
+                    + "have double the armies now.",
+                playerName),
         true);
     ArrayList<Country> countries = Player.getCountriesByOwnership(playerName, gameMap);
     Map<String, Country> allCountries = gameMap.getCountries();
@@ -188,12 +199,13 @@ public class PlayerCheater extends Observable implements PlayerStrategy {
         Country neighbor = allCountries.get(neighborName);
         if (!neighbor.getOwnerName().equals(playerName)) {
           display(
-              String.format(
-                  "%s Fortified %s with %d army(s) from %s",
-                  playerName,
-                  neighbor.getName(),
-                  cheaterCountry.getNumberOfArmies(),
-                  cheaterCountry.getName()),
+              () ->
+                  String.format(
+                      "%s Fortified %s with %d army(s) from %s",
+                      playerName,
+                      neighbor.getName(),
+                      cheaterCountry.getNumberOfArmies(),
+                      cheaterCountry.getName()),
               true);
           cheaterCountry.addArmies(cheaterCountry.getNumberOfArmies());
         }
@@ -5,12 +5,14 @@ import controllers.GameController;
 import models.Card;
 import models.Country;
 import models.GameMap;
+import models.MapTopology;
+import models.action.AttackAction;
+import models.action.FortifyAction;
 import views.CardExchangeView;
 
 import java.util.ArrayList;
 import java.util.Observable;
 import java.util.Random;
-import java.util.stream.Collectors;
 
 import static java.util.stream.Collectors.toCollection;
 import static views.ConsoleView.display;
@@ -31,9 +33,6 @@ public class PlayerRandom extends Observable implements PlayerStrategy {
   /** Stores the cards currently held by the player. */
   private ArrayList<Card> cardsInHand = new ArrayList<>();
 
-  /** Generate random numbers for the player. */
-  private Random randomGenerator = GameMap.getRandomGenerator();
-
   /**
    * Constructor for Random Player object
    *
@@ -59,9 +58,21 @@ public class PlayerRandom extends Observable implements PlayerStrategy {
    * @return the command by the random player
    */
   public String randomAttack(GameMap gameMap) {
+    AttackAction action = chooseAttack(gameMap);
+    return action == null ? "attack -noattack" : action.toCommand(gameMap.getTopology());
+  }
+
+  /**
+   * Selects a random country to attack from one of the countries of the player.
+   *
+   * @param gameMap Instance object of the game
+   * @return the all-out attack, null if the player stops attacking
+   */
+  public AttackAction chooseAttack(GameMap gameMap) {
+    Random randomGenerator = gameMap.getSession().getRandomGenerator();
     boolean continueAttack = randomGenerator.nextBoolean();
     if (!continueAttack) {
-      return "attack -noattack";
+      return null;
     }
 
     ArrayList<Country> countries =
@@ -69,30 +80,20 @@ public class PlayerRandom extends Observable implements PlayerStrategy {
             .filter(c -> c.getNumberOfArmies() > 1)
             .collect(toCollection(ArrayList::new));
     if (countries.isEmpty()) {
-      return "attack -noattack";
+      return null;
     }
     Country attackFromCountry = countries.get(randomGenerator.nextInt(countries.size()));
-    ArrayList<String> attackToCountriesNames =
-        new ArrayList<>(gameMap.getBorders().get(attackFromCountry.getName()));
     ArrayList<Country> attackToCountries =
-        attackToCountriesNames.stream()
-            .map(gameMap.getCountries()::get)
-            .filter(c -> !c.getOwnerName().equals(playerName))
-            .collect(toCollection(ArrayList::new));
+        Player.getNeighborsByOwnership(gameMap, attackFromCountry, playerName, false);
     if (attackToCountries.isEmpty()) {
-      return "attack -noattack";
+      return null;
     }
     Country attackToCountry =
         attackToCountries.get(randomGenerator.nextInt(attackToCountries.size()));
-    String attackCommand;
-    if (!attackToCountries.isEmpty() && attackToCountry != null) {
-      attackCommand =
-          String.format(
-              "attack %s %s -allout", attackFromCountry.getName(), attackToCountry.getName());
-    } else {
-      attackCommand = "attack -noattack";
-    }
-    return attackCommand;
+    MapTopology topology = gameMap.getTopology();
+    return AttackAction.allOut(
+        topology.getCountryId(attackFromCountry.getName()),
+        topology.getCountryId(attackToCountry.getName()));
   }
 
   /**
@@ -104,22 +105,23 @@ public class PlayerRandom extends Observable implements PlayerStrategy {
    */
   @Override
   public boolean attack(GameMap gameMap, String command) {
-    String attackCommand = randomAttack(gameMap);
-    while (!attackCommand.contains("-noattack")) {
-      if (GameController.validateAttack(gameMap, attackCommand)) {
-        display(attackCommand, true);
-        BattleController battleController = new BattleController(gameMap, attackCommand);
+    AttackAction action = chooseAttack(gameMap);
+    while (action != null) {
+      if (GameController.validateAttack(gameMap, action)) {
+        AttackAction declaredAction = action;
+        display(() -> declaredAction.toCommand(gameMap.getTopology()), true);
+        BattleController battleController = new BattleController(gameMap, action);
         battleController.setNoInputEnabled(true);
         battleController.startBattle();
-        if (GameController.isTournament && GameMap.isGameOver) {
+        if (gameMap.getSession().isTournament() && gameMap.getSession().isGameOver()) {
           return true;
         }
       } else {
         display("Invalid command", false);
       }
-      attackCommand = randomAttack(gameMap);
+      action = chooseAttack(gameMap);
     }
-    GameController.processAttackCommand(gameMap, attackCommand);
+    GameController.performAttackNone(gameMap);
     return true;
   }
 
@@ -133,16 +135,18 @@ public class PlayerRandom extends Observable implements PlayerStrategy {
    */
   @Override
   public boolean reinforce(GameMap gameMap, String countryToPlace, int armiesToPlace) {
+    Random randomGenerator = gameMap.getSession().getRandomGenerator();
     ArrayList<Country> countries = Player.getCountriesByOwnership(playerName, gameMap);
     Country reinforcedCountry = countries.get(randomGenerator.nextInt(countries.size()));
     reinforcedCountry.addArmies(armiesToPlace);
     display(
-        String.format(
-            "%s has placed %d army(s) in %s",
-            playerName, armiesToPlace, reinforcedCountry.getName()),
+        () ->
+            String.format(
+                "%s has placed %d army(s) in %s",
+                playerName, armiesToPlace, reinforcedCountry.getName()),
         true);
     if (cardsInHand.size() >= 5) {
-      this.exchangeCardsForArmies(Player.getCardExchangeIndices(getCardsInHand()));
+      this.exchangeCardsForArmies(gameMap, Player.getCardExchangeIndices(getCardsInHand()));
     }
     return true;
   }
@@ -158,13 +162,13 @@ public class PlayerRandom extends Observable implements PlayerStrategy {
    */
   @Override
   public boolean fortify(GameMap gameMap, String fromCountry, String toCountry, int armyToMove) {
-    String fortifyCommand = randomFortify(gameMap);
-    if (fortifyCommand.contains("-none")) {
-      GameController.processFortifyCommand(gameMap, fortifyCommand);
-      return true;
+    FortifyAction action = chooseFortify(gameMap);
+    if (action == null) {
+      return GameController.performFortifyNone(gameMap);
+    }
+    if (GameController.validateFortify(gameMap, action)) {
+      return GameController.performFortify(gameMap, action);
     }
-    if (GameController.validateFortify(gameMap, fortifyCommand))
-      return GameController.processFortifyCommand(gameMap, fortifyCommand);
     return false;
   }
 
@@ -175,32 +179,40 @@ public class PlayerRandom extends Observable implements PlayerStrategy {
    * @return The command to execute for the fortify phase.
    */
   public String randomFortify(GameMap gameMap) {
-    boolean shouldFortify = GameMap.getRandomGenerator().nextBoolean();
-    if (!shouldFortify) return "fortify -none";
+    FortifyAction action = chooseFortify(gameMap);
+    return action == null ? "fortify -none" : action.toCommand(gameMap.getTopology());
+  }
+
+  /**
+   * Chooses a random fortification between two neighboring countries of the player.
+   *
+   * @param gameMap The GameMap object.
+   * @return The fortification, null if the player doesn't fortify.
+   */
+  public FortifyAction chooseFortify(GameMap gameMap) {
+    Random randomGenerator = gameMap.getSession().getRandomGenerator();
+    boolean shouldFortify = randomGenerator.nextBoolean();
+    if (!shouldFortify) return null;
     ArrayList<Country> countries =
         Player.getCountriesByOwnership(playerName, gameMap).stream()
             .filter(c -> c.getNumberOfArmies() > 1)
-            .filter(
-                c ->
-                    gameMap.getBorders().get(c.getName()).stream()
-                        .map(gameMap.getCountries()::get)
-                        .anyMatch(neighbor -> neighbor.getOwnerName().equals(c.getOwnerName())))
+            .filter(c -> Player.hasNeighborByOwnership(gameMap, c, c.getOwnerName(), true))
             .collect(toCollection(ArrayList::new));
-    if (countries.isEmpty()) return "fortify -none";
+    if (countries.isEmpty()) return null;
     Country fortifyFromCountry = countries.get(randomGenerator.nextInt(countries.size()));
     ArrayList<Country> neighboringCountry =
-        gameMap.getBorders().get(fortifyFromCountry.getName()).stream()
-            .map(gameMap.getCountries()::get)
-            .filter(c -> c.getOwnerName().equals(fortifyFromCountry.getOwnerName()))
-            .collect(Collectors.toCollection(ArrayList::new));
-    if (neighboringCountry.isEmpty()) return "fortify -none";
+        Player.getNeighborsByOwnership(
+            gameMap, fortifyFromCountry, fortifyFromCountry.getOwnerName(), true);
+    if (neighboringCountry.isEmpty()) return null;
     Country fortifyToCountry =
         neighboringCountry.get(randomGenerator.nextInt(neighboringCountry.size()));
     int fortifyArmies = randomGenerator.nextInt(fortifyFromCountry.getNumberOfArmies() - 1);
     if (fortifyArmies < 1) fortifyArmies = 1;
-    return String.format(
-        "fortify %s %s %d",
-        fortifyFromCountry.getName(), fortifyToCountry.getName(), fortifyArmies);
+    MapTopology topology = gameMap.getTopology();
+    return new FortifyAction(
+        topology.getCountryId(fortifyFromCountry.getName()),
+        topology.getCountryId(fortifyToCountry.getName()),
+        fortifyArmies);
   }
 
   /**
@@ -2,6 +2,7 @@ package models.player;
 
 import models.Card;
 import models.GameMap;
+import models.GameSession;
 import views.CardExchangeView;
 
 import java.util.*;
@@ -115,9 +116,10 @@ public interface PlayerStrategy {
   /**
    * Exchange the card for armies.
    *
+   * @param gameMap The GameMap object.
    * @param indices the positions of the cards in the list.
    */
-  default void exchangeCardsForArmies(int[] indices) {
+  default void exchangeCardsForArmies(GameMap gameMap, int[] indices) {
     ArrayList<Card> cardsInHand = getCardsInHand();
     Set<String> cardSet = new HashSet<>();
     for (int index : indices) {
@@ -129,9 +131,10 @@ public interface PlayerStrategy {
       }
     }
     if (cardSet.size() == 1 || cardSet.size() == 3) {
-      GameMap.setNumberOfTradedSet(GameMap.getNumberOfTradedSet() + 1);
+      GameSession session = gameMap.getSession();
+      session.setNumberOfTradedSet(session.getNumberOfTradedSet() + 1);
       int armiesAcquired =
-          giveArmies(GameMap.getNumberOfTradedSet(), GameMap.getArmiesTradedForSet());
+          giveArmies(session.getNumberOfTradedSet(), session.getArmiesTradedForSet());
       setNumberOfArmies(getNumberOfArmies() + armiesAcquired);
 
       ArrayList<Card> cardsToAddToDeck = new ArrayList<>();
@@ -153,12 +156,12 @@ public interface PlayerStrategy {
       }
       setCardsInHand(resultCardsInHand);
 
-      Collections.shuffle(cardsToAddToDeck);
-      GameMap.getGameMap()
+      Collections.shuffle(cardsToAddToDeck, session.getRandomGenerator());
+      gameMap
           .getDeck()
           .addAll(
               cardsToAddToDeck); // add the exchanged cards to deck after removing from player hand
-      display(String.format("%s exchanges 3 cards for armies.", getPlayerName()), true);
+      display(() -> String.format("%s exchanges 3 cards for armies.", getPlayerName()), true);
       display("Acquired " + armiesAcquired + " through card exchange", false);
     } else {
       display(
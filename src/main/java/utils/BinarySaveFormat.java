@@ -0,0 +1,299 @@
+package utils;
+
+import models.BoardState;
+import models.Card;
+import models.Context;
+import models.GameMap;
+import models.GameSession;
+import models.MapTopology;
+import models.player.Player;
+import models.player.PlayerStrategy;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+
+/**
+ * The binary save format. A save refers to the map file by its path and hash instead of copying the
+ * countries, continents and borders, and stores the state of the game compactly: the board as the
+ * owner index and armies of every country id (see BoardState), the players with their cards and the
+ * deck. Integers are written as variable length numbers.
+ *
+ * <pre>
+ *   int magic "RSKB", short version
+ *   map file path, map file hash
+ *   context, current player index, traded sets, armies traded for a set, card count
+ *   players: strategy, name, armies, cards
+ *   deck: cards
+ *   board: player names, owner index + 1 and armies of every country id
+ * </pre>
+ *
+ * @version 1.0
+ */
+public final class BinarySaveFormat {
+
+  /** First bytes of a binary save, "RSKB". */
+  static final int MAGIC = 0x52534B42;
+
+  /** Version of the format written. */
+  static final short VERSION = 1;
+
+  /** Size of the buffers the file is read and written through. */
+  private static final int BUFFER_SIZE = 1 << 16;
+
+  /** Utility class, not instantiated. */
+  private BinarySaveFormat() {}
+
+  /**
+   * Checks if a file starts like a binary save.
+   *
+   * @param fileName path to the file
+   * @return true if the file is a binary save.
+   * @throws IOException when the file can't be read
+   */
+  public static boolean isBinarySave(String fileName) throws IOException {
+    try (DataInputStream input = new DataInputStream(new FileInputStream(fileName))) {
+      return input.readInt() == MAGIC;
+    } catch (EOFException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Checks if a game can be saved in the binary format, its map must be the unchanged content of
+   * the file it was loaded from.
+   *
+   * @param gameMap the game to save
+   * @return true if the map file can be referred to.
+   */
+  public static boolean canSave(GameMap gameMap) {
+    String mapFile = gameMap.getMapFile();
+    if (mapFile == null) {
+      return false;
+    }
+    try {
+      return MapCache.hash(new File(mapFile)) == gameMap.getMapFileHash();
+    } catch (IOException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Saves a game, see canSave.
+   *
+   * @param gameMap the game to save
+   * @param fileName path to the file
+   * @throws IOException when the file can't be written
+   */
+  public static void save(GameMap gameMap, String fileName) throws IOException {
+    GameSession session = gameMap.getSession();
+    MapTopology topology = gameMap.getTopology();
+    try (DataOutputStream output =
+        new DataOutputStream(
+            new BufferedOutputStream(new FileOutputStream(fileName), BUFFER_SIZE))) {
+      output.writeInt(MAGIC);
+      output.writeShort(VERSION);
+      output.writeUTF(gameMap.getMapFile());
+      output.writeLong(gameMap.getMapFileHash());
+
+      output.writeUTF(gameMap.getCurrentContext().name());
+      writeVarInt(output, session.getCurrentPlayerIndex());
+      writeVarInt(output, session.getNumberOfTradedSet());
+      writeVarInt(output, session.getArmiesTradedForSet());
+      writeVarInt(output, session.getCardCount());
+
+      writeVarInt(output, gameMap.getPlayersList().size());
+      for (Player player : gameMap.getPlayersList()) {
+        PlayerStrategy strategy = player.getStrategy();
+        output.writeUTF(strategy.getStrategyType());
+        output.writeUTF(strategy.getPlayerName());
+        writeVarInt(output, strategy.getNumberOfArmies());
+        writeCards(output, topology, strategy.getCardsInHand());
+      }
+      writeCards(output, topology, gameMap.getDeck());
+
+      BoardState boardState = BoardState.capture(gameMap);
+      writeVarInt(output, boardState.getNumberOfPlayers());
+      for (int ownerIndex = 0; ownerIndex < boardState.getNumberOfPlayers(); ownerIndex++) {
+        output.writeUTF(boardState.getPlayerName(ownerIndex));
+      }
+      writeVarInt(output, topology.getNumberOfCountries());
+      for (int id = 0; id < topology.getNumberOfCountries(); id++) {
+        writeVarInt(output, boardState.getOwner(id) + 1);
+        writeVarInt(output, boardState.getArmies(id));
+      }
+    }
+  }
+
+  /**
+   * Loads a game, the map is loaded from the file the save refers to and the game is made the game
+   * of the current thread.
+   *
+   * @param fileName path to the file
+   * @return the loaded game.
+   * @throws IOException when the file isn't a valid save or its map file changed
+   */
+  public static GameMap load(String fileName) throws IOException {
+    try (DataInputStream input =
+        new DataInputStream(new BufferedInputStream(new FileInputStream(fileName), BUFFER_SIZE))) {
+      if (input.readInt() != MAGIC) {
+        throw new IOException(fileName + " is not a binary save");
+      }
+      short version = input.readShort();
+      if (version != VERSION) {
+        throw new IOException(String.format("Unsupported save version %d", version));
+      }
+      String mapFile = input.readUTF();
+      long mapFileHash = input.readLong();
+      if (MapCache.hash(new File(mapFile)) != mapFileHash) {
+        throw new IOException(mapFile + " changed since the game was saved");
+      }
+      GameMap.modifyInstance(new GameMap());
+      GameMap gameMap = loadMap(mapFile);
+      if (gameMap == null) {
+        throw new IOException(mapFile + " is not a valid map");
+      }
+      MapTopology topology = gameMap.getTopology();
+      GameSession session = gameMap.getSession();
+
+      Context context = Context.valueOf(input.readUTF());
+      session.setCurrentPlayerIndex(readVarInt(input));
+      session.setNumberOfTradedSet(readVarInt(input));
+      session.setArmiesTradedForSet(readVarInt(input));
+      session.setCardCount(readVarInt(input));
+
+      int numberOfPlayers = readVarInt(input);
+      ArrayList<Player> players = new ArrayList<>(numberOfPlayers);
+      for (int i = 0; i < numberOfPlayers; i++) {
+        String strategyType = input.readUTF();
+        Player player = new Player(input.readUTF(), strategyType);
+        player.getStrategy().setNumberOfArmies(readVarInt(input));
+        player.getStrategy().setCardsInHand(readCards(input, topology));
+        players.add(player);
+      }
+      gameMap.setPlayersList(players);
+      gameMap.setDeck(readCards(input, topology));
+
+      String[] playerNames = new String[readVarInt(input)];
+      for (int ownerIndex = 0; ownerIndex < playerNames.length; ownerIndex++) {
+        playerNames[ownerIndex] = input.readUTF();
+      }
+      int numberOfCountries = readVarInt(input);
+      if (numberOfCountries != topology.getNumberOfCountries()) {
+        throw new IOException("The save doesn't match the countries of " + mapFile);
+      }
+      int[] owners = new int[numberOfCountries];
+      int[] armies = new int[numberOfCountries];
+      for (int id = 0; id < numberOfCountries; id++) {
+        owners[id] = readVarInt(input) - 1;
+        armies[id] = readVarInt(input);
+      }
+      new BoardState(topology, playerNames, owners, armies).restore(gameMap);
+      gameMap.setCurrentContext(context);
+      return gameMap;
+    }
+  }
+
+  /**
+   * Loads the map of a save into the game of the current thread.
+   *
+   * @param mapFile path to the map file
+   * @return the GameMap, null if the map is invalid.
+   * @throws IOException when the map file can't be read or parsed
+   */
+  private static GameMap loadMap(String mapFile) throws IOException {
+    try {
+      return MapAdaptor.getMapCache().load(mapFile, new StreamingMapParser());
+    } catch (IOException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new IOException(e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Writes cards, a card is the id of its country and its type.
+   *
+   * @param output the stream to write to
+   * @param topology the topology of the map
+   * @param cards the cards, null is written as no cards
+   * @throws IOException when the stream can't be written
+   */
+  private static void writeCards(
+      DataOutputStream output, MapTopology topology, ArrayList<Card> cards) throws IOException {
+    if (cards == null) {
+      writeVarInt(output, 0);
+      return;
+    }
+    writeVarInt(output, cards.size());
+    for (Card card : cards) {
+      int countryId = topology.getCountryId(card.getCountry());
+      if (countryId < 0) {
+        throw new IOException("Card of unknown country " + card.getCountry());
+      }
+      writeVarInt(output, countryId);
+      output.writeByte(card.getType().ordinal());
+    }
+  }
+
+  /**
+   * Reads cards written by writeCards.
+   *
+   * @param input the stream to read from
+   * @param topology the topology of the map
+   * @return a new list with the cards.
+   * @throws IOException when the stream can't be read
+   */
+  private static ArrayList<Card> readCards(DataInputStream input, MapTopology topology)
+      throws IOException {
+    int numberOfCards = readVarInt(input);
+    ArrayList<Card> cards = new ArrayList<>(numberOfCards);
+    Card.typeOfCard[] types = Card.typeOfCard.values();
+    for (int i = 0; i < numberOfCards; i++) {
+      String country = topology.getCountryName(readVarInt(input));
+      cards.add(new Card(country, types[input.readUnsignedByte()]));
+    }
+    return cards;
+  }
+
+  /**
+   * Writes a non negative integer in 7 bit groups, small numbers take one byte.
+   *
+   * @param output the stream to write to
+   * @param value the number
+   * @throws IOException when the stream can't be written
+   */
+  static void writeVarInt(DataOutputStream output, int value) throws IOException {
+    while ((value & ~0x7F) != 0) {
+      output.writeByte((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    output.writeByte(value);
+  }
+
+  /**
+   * Reads an integer written by writeVarInt.
+   *
+   * @param input the stream to read from
+   * @return the number.
+   * @throws IOException when the stream can't be read or the number is malformed
+   */
+  static int readVarInt(DataInputStream input) throws IOException {
+    int value = 0;
+    for (int shift = 0; shift < 35; shift += 7) {
+      int b = input.readUnsignedByte();
+      value |= (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new IOException("Malformed number in save");
+  }
+}
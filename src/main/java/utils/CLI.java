@@ -1,7 +1,9 @@
 package utils;
 
 import models.Context;
+import models.GameMap;
 
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
@@ -43,4 +45,24 @@ public class CLI {
     }
     return cli;
   }
+
+  /**
+   * Reads the commands from another input, e.g a command file when running headlessly.
+   *
+   * @param commands the input the commands are read from.
+   */
+  public static void setInput(InputStream commands) {
+    input = new Scanner(commands);
+  }
+
+  /**
+   * Reads the next command, the changes of the game are notified first so the views are up to date
+   * while waiting for the user.
+   *
+   * @return the line read.
+   */
+  public static String nextLine() {
+    GameMap.getGameMap().getSession().getChangeBatcher().flush();
+    return input.nextLine();
+  }
 }
@@ -0,0 +1,721 @@
+package utils;
+
+import models.BoardState;
+import models.Card;
+import models.Context;
+import models.Country;
+import models.GameMap;
+import models.GameSession;
+import models.MapTopology;
+import models.player.Player;
+import models.player.PlayerStrategy;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Observable;
+import java.util.Observer;
+
+import static views.ConsoleView.display;
+
+/**
+ * GameJournal autosaves a game continuously. Every change of the state of the game is appended to
+ * the journal file as a compact event and a snapshot of the whole game is written next to it every
+ * few turns, so a long game is never rewritten as a whole after each turn and a crashed game is
+ * restored from the latest snapshot and the events after it.
+ *
+ * <p>The journal observes the GameMap and, on every notification, appends the difference between
+ * the game and what it recorded last: the owner and armies of the countries that changed
+ * (placement, reinforcement, battles, captures, fortification), the armies and cards of the players
+ * (reinforcement, card draws and exchanges), the deck and the turn counters. Events hold the new
+ * values, so replaying an event twice gives the same game.
+ *
+ * <pre>
+ *   int magic "RSKJ", short version
+ *   records: length, type, fields
+ *     SNAPSHOT                          the snapshot file holds the game up to here
+ *     NAMES    names                    owner names, by owner index
+ *     PLAYERS  (strategy, name)*        the players list
+ *     COUNTRY  id, owner index + 1, armies
+ *     PLAYER   player index, armies, cards
+ *     DECK     cards
+ *     SESSION  context, current player, turns, rounds, traded sets, armies per set, card count
+ * </pre>
+ *
+ * Integers are written as variable length numbers, a card is the id of its country and its type.
+ *
+ * @version 1.0
+ */
+public final class GameJournal implements Observer, Closeable {
+
+  /** Extension of the journal files, a game saved with it is journaled from then on. */
+  public static final String JOURNAL_EXTENSION = ".journal";
+
+  /** Suffix of the snapshot file, after the name of the journal file. */
+  public static final String SNAPSHOT_SUFFIX = ".snapshot.gz";
+
+  /** Number of turns between two snapshots by default. */
+  public static final int DEFAULT_SNAPSHOT_INTERVAL = 10;
+
+  /** First bytes of a journal, "RSKJ". */
+  static final int MAGIC = 0x52534B4A;
+
+  /** Version of the format written. */
+  static final short VERSION = 1;
+
+  /** Record of a snapshot. */
+  private static final int SNAPSHOT = 0;
+
+  /** Record of the owner names. */
+  private static final int NAMES = 1;
+
+  /** Record of the players list. */
+  private static final int PLAYERS = 2;
+
+  /** Record of a country. */
+  private static final int COUNTRY = 3;
+
+  /** Record of a player. */
+  private static final int PLAYER = 4;
+
+  /** Record of the deck. */
+  private static final int DECK = 5;
+
+  /** Record of the session counters. */
+  private static final int SESSION = 6;
+
+  /** Size of the buffers the files are read and written through. */
+  private static final int BUFFER_SIZE = 1 << 16;
+
+  /** The journaled game. */
+  private final GameMap gameMap;
+
+  /** Path to the journal file. */
+  private final String fileName;
+
+  /** Number of turns between two snapshots. */
+  private final int snapshotInterval;
+
+  /** The journal file, opened to append. */
+  private final DataOutputStream output;
+
+  /** Buffer a record is built in before it is appended. */
+  private final ByteArrayOutputStream recordBuffer = new ByteArrayOutputStream();
+
+  /** Stream over recordBuffer. */
+  private final DataOutputStream record = new DataOutputStream(recordBuffer);
+
+  /** The board as recorded last. */
+  private BoardState recordedBoard;
+
+  /** Strategy and name of each player as recorded last. */
+  private String[] recordedPlayers;
+
+  /** Armies of each player as recorded last. */
+  private int[] recordedPlayerArmies;
+
+  /** Cards of each player as recorded last, see encodeCards. */
+  private int[][] recordedHands;
+
+  /** The deck as recorded last, see encodeCards. */
+  private int[] recordedDeck;
+
+  /** The session counters as recorded last, see encodeSession. */
+  private int[] recordedSession;
+
+  /** Turn of the last snapshot. */
+  private int snapshotTurn;
+
+  /**
+   * The constructor for a GameJournal, see start and restore.
+   *
+   * @param gameMap the game to journal
+   * @param fileName path to the journal file
+   * @param snapshotInterval number of turns between two snapshots
+   * @param append true to append to an existing journal
+   * @throws IOException when the journal can't be written
+   */
+  private GameJournal(GameMap gameMap, String fileName, int snapshotInterval, boolean append)
+      throws IOException {
+    this.gameMap = gameMap;
+    this.fileName = fileName;
+    this.snapshotInterval = snapshotInterval;
+    this.output =
+        new DataOutputStream(
+            new BufferedOutputStream(new FileOutputStream(fileName, append), BUFFER_SIZE));
+    if (!append) {
+      output.writeInt(MAGIC);
+      output.writeShort(VERSION);
+    }
+  }
+
+  /**
+   * Starts journaling a game to a new journal file, replacing the previous journal of the game.
+   *
+   * @param gameMap the game to journal
+   * @param fileName path to the journal file
+   * @param snapshotInterval number of turns between two snapshots
+   * @return the journal.
+   * @throws IOException when the journal or the snapshot can't be written
+   */
+  public static GameJournal start(GameMap gameMap, String fileName, int snapshotInterval)
+      throws IOException {
+    return attach(new GameJournal(gameMap, fileName, snapshotInterval, false));
+  }
+
+  /**
+   * Checks if a file starts like a journal.
+   *
+   * @param fileName path to the file
+   * @return true if the file is a journal.
+   * @throws IOException when the file can't be read
+   */
+  public static boolean isJournal(String fileName) throws IOException {
+    try (DataInputStream input = new DataInputStream(new FileInputStream(fileName))) {
+      return input.readInt() == MAGIC;
+    } catch (EOFException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Restores a game from the latest snapshot of a journal and the events appended after it, makes
+   * it the game of the current thread and goes on journaling it. An event cut short by a crash is
+   * dropped.
+   *
+   * @param fileName path to the journal file
+   * @param snapshotInterval number of turns between two snapshots
+   * @return the restored game.
+   * @throws IOException when the journal or its snapshot can't be read
+   */
+  public static GameMap restore(String fileName, int snapshotInterval) throws IOException {
+    List<byte[]> events = new ArrayList<>();
+    boolean hasSnapshot = false;
+    long validLength;
+    try (DataInputStream input =
+        new DataInputStream(new BufferedInputStream(new FileInputStream(fileName), BUFFER_SIZE))) {
+      if (input.readInt() != MAGIC) {
+        throw new IOException(fileName + " is not a journal");
+      }
+      short version = input.readShort();
+      if (version != VERSION) {
+        throw new IOException(String.format("Unsupported journal version %d", version));
+      }
+      validLength = Integer.BYTES + Short.BYTES;
+      while (true) {
+        byte[] event;
+        try {
+          event = new byte[BinarySaveFormat.readVarInt(input)];
+          input.readFully(event);
+        } catch (EOFException e) {
+          break;
+        }
+        validLength += varIntSize(event.length) + event.length;
+        if (event[0] == SNAPSHOT) {
+          hasSnapshot = true;
+          events.clear();
+        } else {
+          events.add(event);
+        }
+      }
+    }
+    if (!hasSnapshot) {
+      throw new IOException(fileName + " has no snapshot");
+    }
+    try (RandomAccessFile file = new RandomAccessFile(fileName, "rw")) {
+      file.setLength(validLength);
+    }
+
+    GameMap gameMap = JsonSaveFormat.load(fileName + SNAPSHOT_SUFFIX);
+    GameMap.modifyInstance(gameMap);
+    String[] names = ownerNames(BoardState.capture(gameMap));
+    for (byte[] event : events) {
+      names = apply(gameMap, event, names);
+    }
+    attach(new GameJournal(gameMap, fileName, snapshotInterval, true));
+    return gameMap;
+  }
+
+  /**
+   * Makes a journal the journal of its game and snapshots the game.
+   *
+   * @param journal the new journal
+   * @return the journal.
+   * @throws IOException when the snapshot can't be written
+   */
+  private static GameJournal attach(GameJournal journal) throws IOException {
+    GameSession session = journal.gameMap.getSession();
+    if (session.getJournal() instanceof GameJournal) {
+      ((GameJournal) session.getJournal()).close();
+    }
+    journal.snapshot();
+    session.setJournal(journal);
+    return journal;
+  }
+
+  /**
+   * Records the changes of the game, and snapshots it if the interval has passed, when the game
+   * notifies its observers. Journaling stops if the journal can't be written.
+   *
+   * @param observable the game
+   * @param arg what changed
+   */
+  @Override
+  public synchronized void update(Observable observable, Object arg) {
+    try {
+      if (gameMap.getSession().getNumOfTurns() - snapshotTurn >= snapshotInterval) {
+        snapshot();
+      } else {
+        record();
+      }
+    } catch (IOException e) {
+      gameMap.getSession().setJournal(null);
+      close();
+      display("Stopped journaling the game: " + e.getMessage(), false);
+    }
+  }
+
+  /**
+   * Appends the changes of the game since they were recorded last.
+   *
+   * @throws IOException when the journal can't be written
+   */
+  public synchronized void record() throws IOException {
+    MapTopology topology = gameMap.getTopology();
+    boolean isChanged = false;
+
+    BoardState board = BoardState.capture(gameMap);
+    String[] names = ownerNames(board);
+    if (!Arrays.equals(names, ownerNames(recordedBoard))) {
+      writeNames(names);
+      isChanged = true;
+    }
+    for (int id = 0; id < topology.getNumberOfCountries(); id++) {
+      if (!Objects.equals(board.getOwnerName(id), recordedBoard.getOwnerName(id))
+          || board.getArmies(id) != recordedBoard.getArmies(id)) {
+        beginRecord(COUNTRY);
+        BinarySaveFormat.writeVarInt(record, id);
+        BinarySaveFormat.writeVarInt(record, board.getOwner(id) + 1);
+        BinarySaveFormat.writeVarInt(record, board.getArmies(id));
+        endRecord();
+        isChanged = true;
+      }
+    }
+    recordedBoard = board;
+
+    String[] players = players();
+    boolean isPlayersChanged = !Arrays.equals(players, recordedPlayers);
+    if (isPlayersChanged) {
+      writePlayers(players);
+      isChanged = true;
+    }
+    int[] playerArmies = new int[players.length / 2];
+    int[][] hands = new int[players.length / 2][];
+    for (int i = 0; i < players.length / 2; i++) {
+      PlayerStrategy strategy = gameMap.getPlayersList().get(i).getStrategy();
+      playerArmies[i] = strategy.getNumberOfArmies();
+      hands[i] = encodeCards(topology, strategy.getCardsInHand());
+      if (isPlayersChanged
+          || playerArmies[i] != recordedPlayerArmies[i]
+          || !Arrays.equals(hands[i], recordedHands[i])) {
+        writePlayer(i, playerArmies[i], hands[i]);
+        isChanged = true;
+      }
+    }
+    recordedPlayers = players;
+    recordedPlayerArmies = playerArmies;
+    recordedHands = hands;
+
+    int[] deck = encodeCards(topology, gameMap.getDeck());
+    if (!Arrays.equals(deck, recordedDeck)) {
+      writeDeck(deck);
+      isChanged = true;
+    }
+    recordedDeck = deck;
+
+    int[] session = encodeSession(gameMap);
+    if (!Arrays.equals(session, recordedSession)) {
+      writeSession(session);
+      isChanged = true;
+    }
+    recordedSession = session;
+
+    if (isChanged) {
+      output.flush();
+    }
+  }
+
+  /**
+   * Writes a snapshot of the game next to the journal and appends the SNAPSHOT record followed by
+   * the full state the snapshot file doesn't hold. The snapshot replaces the previous one at once,
+   * a crash before the record is appended replays the events of the previous snapshot again, which
+   * gives the same game.
+   *
+   * @throws IOException when the snapshot or the journal can't be written
+   */
+  public synchronized void snapshot() throws IOException {
+    String snapshotFile = fileName + SNAPSHOT_SUFFIX;
+    String temporaryFile = fileName + ".snapshot.tmp" + JsonSaveFormat.GZIP_EXTENSION;
+    JsonSaveFormat.save(gameMap, temporaryFile);
+    Files.move(
+        Paths.get(temporaryFile),
+        Paths.get(snapshotFile),
+        StandardCopyOption.REPLACE_EXISTING,
+        StandardCopyOption.ATOMIC_MOVE);
+    beginRecord(SNAPSHOT);
+    endRecord();
+
+    MapTopology topology = gameMap.getTopology();
+    recordedBoard = BoardState.capture(gameMap);
+    writeNames(ownerNames(recordedBoard));
+    recordedPlayers = players();
+    writePlayers(recordedPlayers);
+    recordedPlayerArmies = new int[recordedPlayers.length / 2];
+    recordedHands = new int[recordedPlayers.length / 2][];
+    for (int i = 0; i < recordedPlayers.length / 2; i++) {
+      PlayerStrategy strategy = gameMap.getPlayersList().get(i).getStrategy();
+      recordedPlayerArmies[i] = strategy.getNumberOfArmies();
+      recordedHands[i] = encodeCards(topology, strategy.getCardsInHand());
+    }
+    recordedDeck = encodeCards(topology, gameMap.getDeck());
+    recordedSession = encodeSession(gameMap);
+    writeSession(recordedSession);
+    output.flush();
+    snapshotTurn = gameMap.getSession().getNumOfTurns();
+  }
+
+  /** Closes the journal file, the game isn't journaled any more. */
+  @Override
+  public synchronized void close() {
+    try {
+      output.close();
+    } catch (IOException e) {
+      display("The journal couldn't be closed: " + e.getMessage(), false);
+    }
+  }
+
+  /**
+   * Gets the path to the journal file.
+   *
+   * @return the path.
+   */
+  public String getFileName() {
+    return fileName;
+  }
+
+  /**
+   * Applies an event to a game.
+   *
+   * @param gameMap the game being restored
+   * @param event the record of the event
+   * @param names the owner names before the event
+   * @return the owner names after the event.
+   * @throws IOException when the event is malformed
+   */
+  private static String[] apply(GameMap gameMap, byte[] event, String[] names) throws IOException {
+    MapTopology topology = gameMap.getTopology();
+    DataInputStream input = new DataInputStream(new ByteArrayInputStream(event));
+    int type = input.readUnsignedByte();
+    switch (type) {
+      case NAMES:
+        String[] newNames = new String[BinarySaveFormat.readVarInt(input)];
+        for (int ownerIndex = 0; ownerIndex < newNames.length; ownerIndex++) {
+          newNames[ownerIndex] = input.readUTF();
+        }
+        return newNames;
+      case PLAYERS:
+        ArrayList<Player> players = new ArrayList<>();
+        int numberOfPlayers = BinarySaveFormat.readVarInt(input);
+        for (int i = 0; i < numberOfPlayers; i++) {
+          String strategyType = input.readUTF();
+          String playerName = input.readUTF();
+          Player player = findPlayer(gameMap, strategyType, playerName);
+          players.add(player == null ? new Player(playerName, strategyType) : player);
+        }
+        gameMap.setPlayersList(players);
+        return names;
+      case COUNTRY:
+        Country country = gameMap.getCountry(BinarySaveFormat.readVarInt(input));
+        int owner = BinarySaveFormat.readVarInt(input) - 1;
+        String ownerName = owner == BoardState.NO_OWNER ? null : names[owner];
+        if (!Objects.equals(ownerName, country.getOwnerName())) {
+          country.setOwnerName(ownerName);
+        }
+        country.setNumberOfArmies(BinarySaveFormat.readVarInt(input));
+        return names;
+      case PLAYER:
+        PlayerStrategy strategy =
+            gameMap.getPlayersList().get(BinarySaveFormat.readVarInt(input)).getStrategy();
+        strategy.setNumberOfArmies(BinarySaveFormat.readVarInt(input));
+        strategy.setCardsInHand(readCards(input, topology));
+        return names;
+      case DECK:
+        gameMap.setDeck(readCards(input, topology));
+        return names;
+      case SESSION:
+        GameSession session = gameMap.getSession();
+        int context = BinarySaveFormat.readVarInt(input);
+        gameMap.setCurrentContext(context == 0 ? null : Context.values()[context - 1]);
+        session.setCurrentPlayerIndex(BinarySaveFormat.readVarInt(input));
+        session.setNumOfTurns(BinarySaveFormat.readVarInt(input));
+        session.setNumberOfRounds(BinarySaveFormat.readVarInt(input));
+        session.setNumberOfTradedSet(BinarySaveFormat.readVarInt(input));
+        session.setArmiesTradedForSet(BinarySaveFormat.readVarInt(input));
+        session.setCardCount(BinarySaveFormat.readVarInt(input));
+        return names;
+      default:
+        throw new IOException("Unknown journal record " + type);
+    }
+  }
+
+  /**
+   * Finds a player of the game.
+   *
+   * @param gameMap the game
+   * @param strategyType strategy of the player
+   * @param playerName name of the player
+   * @return the player, null if the game has no such player.
+   */
+  private static Player findPlayer(GameMap gameMap, String strategyType, String playerName) {
+    for (Player player : gameMap.getPlayersList()) {
+      PlayerStrategy strategy = player.getStrategy();
+      if (strategy.getPlayerName().equals(playerName)
+          && strategy.getStrategyType().equals(strategyType)) {
+        return player;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Gets the strategy and name of each player of the game.
+   *
+   * @return an array with the strategy followed by the name of each player.
+   */
+  private String[] players() {
+    ArrayList<Player> playersList = gameMap.getPlayersList();
+    String[] players = new String[playersList.size() * 2];
+    for (int i = 0; i < playersList.size(); i++) {
+      players[2 * i] = playersList.get(i).getStrategy().getStrategyType();
+      players[2 * i + 1] = playersList.get(i).getStrategy().getPlayerName();
+    }
+    return players;
+  }
+
+  /**
+   * Gets the owner names of a board.
+   *
+   * @param board the board
+   * @return the names, by owner index.
+   */
+  private static String[] ownerNames(BoardState board) {
+    String[] names = new String[board.getNumberOfPlayers()];
+    for (int ownerIndex = 0; ownerIndex < names.length; ownerIndex++) {
+      names[ownerIndex] = board.getPlayerName(ownerIndex);
+    }
+    return names;
+  }
+
+  /**
+   * Encodes the session counters and the context of a game.
+   *
+   * @param gameMap the game
+   * @return the context ordinal + 1, 0 for none, followed by the counters.
+   */
+  private static int[] encodeSession(GameMap gameMap) {
+    GameSession session = gameMap.getSession();
+    Context context = gameMap.getCurrentContext();
+    return new int[] {
+      context == null ? 0 : context.ordinal() + 1,
+      session.getCurrentPlayerIndex(),
+      session.getNumOfTurns(),
+      session.getNumberOfRounds(),
+      session.getNumberOfTradedSet(),
+      session.getArmiesTradedForSet(),
+      session.getCardCount()
+    };
+  }
+
+  /**
+   * Encodes cards as the id of the country times the number of types plus the type.
+   *
+   * @param topology the topology of the map
+   * @param cards the cards, null is encoded as no cards
+   * @return the encoded cards.
+   * @throws IOException when a card has a country that isn't on the map
+   */
+  private static int[] encodeCards(MapTopology topology, List<Card> cards) throws IOException {
+    if (cards == null) {
+      return new int[0];
+    }
+    int[] encoded = new int[cards.size()];
+    for (int i = 0; i < encoded.length; i++) {
+      Card card = cards.get(i);
+      int countryId = topology.getCountryId(card.getCountry());
+      if (countryId < 0) {
+        throw new IOException("Card of unknown country " + card.getCountry());
+      }
+      encoded[i] = countryId * Card.typeOfCard.values().length + card.getType().ordinal();
+    }
+    return encoded;
+  }
+
+  /**
+   * Reads cards encoded by encodeCards.
+   *
+   * @param input the record
+   * @param topology the topology of the map
+   * @return a new list with the cards.
+   * @throws IOException when the record can't be read
+   */
+  private static ArrayList<Card> readCards(DataInputStream input, MapTopology topology)
+      throws IOException {
+    Card.typeOfCard[] types = Card.typeOfCard.values();
+    int numberOfCards = BinarySaveFormat.readVarInt(input);
+    ArrayList<Card> cards = new ArrayList<>(numberOfCards);
+    for (int i = 0; i < numberOfCards; i++) {
+      int encoded = BinarySaveFormat.readVarInt(input);
+      cards.add(
+          new Card(topology.getCountryName(encoded / types.length), types[encoded % types.length]));
+    }
+    return cards;
+  }
+
+  /**
+   * Appends a NAMES record.
+   *
+   * @param names the owner names
+   * @throws IOException when the journal can't be written
+   */
+  private void writeNames(String[] names) throws IOException {
+    beginRecord(NAMES);
+    BinarySaveFormat.writeVarInt(record, names.length);
+    for (String name : names) {
+      record.writeUTF(name);
+    }
+    endRecord();
+  }
+
+  /**
+   * Appends a PLAYERS record.
+   *
+   * @param players strategy and name of each player
+   * @throws IOException when the journal can't be written
+   */
+  private void writePlayers(String[] players) throws IOException {
+    beginRecord(PLAYERS);
+    BinarySaveFormat.writeVarInt(record, players.length / 2);
+    for (String player : players) {
+      record.writeUTF(player);
+    }
+    endRecord();
+  }
+
+  /**
+   * Appends a PLAYER record.
+   *
+   * @param playerIndex index of the player
+   * @param armies armies of the player
+   * @param cards encoded cards of the player
+   * @throws IOException when the journal can't be written
+   */
+  private void writePlayer(int playerIndex, int armies, int[] cards) throws IOException {
+    beginRecord(PLAYER);
+    BinarySaveFormat.writeVarInt(record, playerIndex);
+    BinarySaveFormat.writeVarInt(record, armies);
+    writeEncoded(cards);
+    endRecord();
+  }
+
+  /**
+   * Appends a DECK record.
+   *
+   * @param cards encoded cards of the deck
+   * @throws IOException when the journal can't be written
+   */
+  private void writeDeck(int[] cards) throws IOException {
+    beginRecord(DECK);
+    writeEncoded(cards);
+    endRecord();
+  }
+
+  /**
+   * Appends a SESSION record.
+   *
+   * @param session the encoded session, see encodeSession
+   * @throws IOException when the journal can't be written
+   */
+  private void writeSession(int[] session) throws IOException {
+    beginRecord(SESSION);
+    for (int value : session) {
+      BinarySaveFormat.writeVarInt(record, value);
+    }
+    endRecord();
+  }
+
+  /**
+   * Writes encoded numbers to the record, preceded by their count.
+   *
+   * @param values the numbers
+   * @throws IOException when the record can't be written
+   */
+  private void writeEncoded(int[] values) throws IOException {
+    BinarySaveFormat.writeVarInt(record, values.length);
+    for (int value : values) {
+      BinarySaveFormat.writeVarInt(record, value);
+    }
+  }
+
+  /**
+   * Starts a record.
+   *
+   * @param type the type of the record
+   * @throws IOException when the record can't be written
+   */
+  private void beginRecord(int type) throws IOException {
+    recordBuffer.reset();
+    record.writeByte(type);
+  }
+
+  /**
+   * Appends the record to the journal, preceded by its length.
+   *
+   * @throws IOException when the journal can't be written
+   */
+  private void endRecord() throws IOException {
+    record.flush();
+    BinarySaveFormat.writeVarInt(output, recordBuffer.size());
+    recordBuffer.writeTo(output);
+  }
+
+  /**
+   * Gets the number of bytes writeVarInt writes for a number.
+   *
+   * @param value the number
+   * @return An integer from 1 to 5.
+   */
+  private static int varIntSize(int value) {
+    int size = 1;
+    while ((value & ~0x7F) != 0) {
+      value >>>= 7;
+      size++;
+    }
+    return size;
+  }
+}
@@ -1,60 +1,68 @@
 package utils;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import controllers.GameController;
 import models.GameMap;
-import models.state.GameState;
 
-import java.io.BufferedReader;
-import java.io.FileNotFoundException;
-import java.io.FileReader;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Paths;
 
 import static views.ConsoleView.display;
 
 /** Handles persistence of the game */
 public class GamePersistenceHandler {
+  /** Extension of the files saved in the binary format, see BinarySaveFormat */
+  public static final String BINARY_EXTENSION = ".bin";
+
   /**
-   * save state as json to a file location
+   * save state to a file location, as json or in the binary format if the file name ends with
+   * BINARY_EXTENSION and the map file of the game can be referred to. Json saves whose name ends
+   * with JsonSaveFormat.GZIP_EXTENSION are compressed. A game saved to a file whose name ends with
+   * GameJournal.JOURNAL_EXTENSION is journaled to it from then on, see GameJournal
    *
    * @param fileName path to the file
    * @return boolean if save is successful
    * @throws IOException file access error
    */
   public static boolean saveState(String fileName) throws IOException {
-    Gson gson = new GsonBuilder().setPrettyPrinting().create();
-    ConcreteGameStateBuilder concreteGameStateBuilder = new ConcreteGameStateBuilder();
-    GameStateDirector gameStateDirector = new GameStateDirector();
-    gameStateDirector.setBuilder(concreteGameStateBuilder);
-    gameStateDirector.constructGameState(GameMap.getGameMap());
-    GameState gameState = gameStateDirector.getGameState();
-    String json = gson.toJson(gameState);
-    Files.write(Paths.get(fileName), json.getBytes());
+    GameMap gameMap = GameMap.getGameMap();
+    if (fileName.endsWith(GameJournal.JOURNAL_EXTENSION)) {
+      GameJournal.start(gameMap, fileName, GameJournal.DEFAULT_SNAPSHOT_INTERVAL);
+      display("Journaling game to " + fileName, true);
+      return true;
+    }
+    if (fileName.endsWith(BINARY_EXTENSION)) {
+      if (BinarySaveFormat.canSave(gameMap)) {
+        BinarySaveFormat.save(gameMap, fileName);
+        display("Saved game successfully to " + fileName, true);
+        return true;
+      }
+      display("The map isn't saved in an unchanged file, saving the game as json", true);
+    }
+    JsonSaveFormat.save(gameMap, fileName);
     display("Saved game successfully to " + fileName, true);
     return true;
   }
 
   /**
-   * Load state from the file location
+   * Load state from the file location, binary saves, journals and compressed saves are told from
+   * json by their first bytes. A journaled game is restored from its latest snapshot and the events
+   * after it and goes on being journaled
    *
    * @param fileName path to file location
-   * @return boolean if successful
-   * @throws FileNotFoundException if path file is invalid
+   * @return the loaded game, the game of the current thread from then on
+   * @throws IOException if path file is invalid or the save can't be read
    */
-  public static boolean loadState(String fileName) throws FileNotFoundException {
-    Gson gson = new Gson();
-    BufferedReader bufferedReader = new BufferedReader(new FileReader(fileName));
-    GameState gameState = gson.fromJson(bufferedReader, GameState.class);
-    ConcreteGameMapBuilder concreteGameMapBuilder = new ConcreteGameMapBuilder();
-    GameMapDirector gameMapDirector = new GameMapDirector();
-    gameMapDirector.setBuilder(concreteGameMapBuilder);
-    gameMapDirector.constructGameMap(gameState);
-    GameMap.modifyInstance(gameMapDirector.getGameMap());
+  public static GameMap loadState(String fileName) throws IOException {
+    GameMap gameMap;
+    if (BinarySaveFormat.isBinarySave(fileName)) {
+      gameMap = BinarySaveFormat.load(fileName);
+    } else if (GameJournal.isJournal(fileName)) {
+      gameMap = GameJournal.restore(fileName, GameJournal.DEFAULT_SNAPSHOT_INTERVAL);
+    } else {
+      gameMap = JsonSaveFormat.load(fileName);
+      GameMap.modifyInstance(gameMap);
+    }
     display("Loaded game state successfully!", true);
-    GameController.startPhaseLoop(GameMap.getGameMap());
-    return true;
+    GameController.startPhaseLoop(gameMap);
+    return gameMap;
   }
 }
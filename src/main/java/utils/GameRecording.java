@@ -0,0 +1,297 @@
+package utils;
+
+import com.google.gson.Gson;
+import models.Context;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * GameRecording is what it takes to play a computer game again: the map, the strategies, the seed
+ * every random decision is drawn from and the settings of the game, followed by the decision
+ * stream, a checkpoint with a digest of the game after every phase. Playing the game again with the
+ * same code gives the same checkpoints, the first checkpoint that differs is where the code changed
+ * the course of the game, see ReplayController.
+ *
+ * @version 1.0
+ */
+public class GameRecording {
+
+  /** The map file the game was played on. */
+  private final String mapFile;
+
+  /** The strategies of the players, in the order of the players. */
+  private final String[] strategies;
+
+  /** The seed of the random generator of the game. */
+  private final long seed;
+
+  /** The maximum number of rounds before the game is a draw. */
+  private final int maxNumberOfRounds;
+
+  /** True if all-out battles were resolved in one step, see BattleOutcomeTable. */
+  private final boolean isAllOutSampled;
+
+  /** The checkpoints, in the order they were reached. */
+  private final List<Checkpoint> checkpoints = new ArrayList<>();
+
+  /** Name of the winner, Draw, null while the game isn't over. */
+  private String winner;
+
+  /**
+   * The constructor for a GameRecording.
+   *
+   * @param mapFile the map file the game is played on
+   * @param strategies the strategies of the players
+   * @param seed the seed of the random generator of the game
+   * @param maxNumberOfRounds the maximum number of rounds before the game is a draw
+   * @param isAllOutSampled true if all-out battles are resolved in one step
+   */
+  public GameRecording(
+      String mapFile,
+      String[] strategies,
+      long seed,
+      int maxNumberOfRounds,
+      boolean isAllOutSampled) {
+    this.mapFile = mapFile;
+    this.strategies = strategies.clone();
+    this.seed = seed;
+    this.maxNumberOfRounds = maxNumberOfRounds;
+    this.isAllOutSampled = isAllOutSampled;
+  }
+
+  /**
+   * Creates an empty recording of the same game, to record the game played again.
+   *
+   * @return a new GameRecording without checkpoints.
+   */
+  public GameRecording rerun() {
+    return new GameRecording(mapFile, strategies, seed, maxNumberOfRounds, isAllOutSampled);
+  }
+
+  /**
+   * Saves the recording as json.
+   *
+   * @param fileName path to the file
+   * @throws IOException when the file can't be written
+   */
+  public void save(String fileName) throws IOException {
+    try (BufferedWriter writer = Files.newBufferedWriter(Paths.get(fileName))) {
+      new Gson().toJson(this, writer);
+    }
+  }
+
+  /**
+   * Loads a recording saved with save.
+   *
+   * @param fileName path to the file
+   * @return the recording.
+   * @throws IOException when the file can't be read
+   */
+  public static GameRecording load(String fileName) throws IOException {
+    try (BufferedReader reader =
+        Files.newBufferedReader(Paths.get(fileName), StandardCharsets.UTF_8)) {
+      GameRecording recording = new Gson().fromJson(reader, GameRecording.class);
+      if (recording == null || recording.mapFile == null) {
+        throw new IOException(fileName + " is not a game recording");
+      }
+      return recording;
+    }
+  }
+
+  /**
+   * Appends a checkpoint.
+   *
+   * @param checkpoint the checkpoint reached
+   */
+  public void addCheckpoint(Checkpoint checkpoint) {
+    checkpoints.add(checkpoint);
+  }
+
+  /**
+   * Gets the checkpoints.
+   *
+   * @return the checkpoints, in the order they were reached.
+   */
+  public List<Checkpoint> getCheckpoints() {
+    return checkpoints;
+  }
+
+  /**
+   * Gets the map file the game was played on.
+   *
+   * @return the path of the map file.
+   */
+  public String getMapFile() {
+    return mapFile;
+  }
+
+  /**
+   * Gets the strategies of the players.
+   *
+   * @return a new array with the strategies.
+   */
+  public String[] getStrategies() {
+    return strategies.clone();
+  }
+
+  /**
+   * Gets the seed of the random generator of the game.
+   *
+   * @return the seed.
+   */
+  public long getSeed() {
+    return seed;
+  }
+
+  /**
+   * Gets the maximum number of rounds before the game is a draw.
+   *
+   * @return An integer.
+   */
+  public int getMaxNumberOfRounds() {
+    return maxNumberOfRounds;
+  }
+
+  /**
+   * Checks if all-out battles were resolved in one step.
+   *
+   * @return true if all-out battles were sampled.
+   */
+  public boolean isAllOutSampled() {
+    return isAllOutSampled;
+  }
+
+  /**
+   * Gets the winner.
+   *
+   * @return name of the winner, Draw, null if the game isn't over.
+   */
+  public String getWinner() {
+    return winner;
+  }
+
+  /**
+   * Sets the winner.
+   *
+   * @param winner name of the winner or Draw
+   */
+  public void setWinner(String winner) {
+    this.winner = winner;
+  }
+
+  /** The game after a phase. */
+  public static final class Checkpoint {
+
+    /** Number of turns played before the turn of the checkpoint. */
+    private final int turn;
+
+    /** The phase the game changed to. */
+    private final Context context;
+
+    /** Name of the current player. */
+    private final String playerName;
+
+    /** Digest of the board, the players and the counters of the game. */
+    private final long digest;
+
+    /**
+     * The constructor for a Checkpoint.
+     *
+     * @param turn number of turns played before the turn of the checkpoint
+     * @param context the phase the game changed to
+     * @param playerName name of the current player
+     * @param digest digest of the game
+     */
+    public Checkpoint(int turn, Context context, String playerName, long digest) {
+      this.turn = turn;
+      this.context = context;
+      this.playerName = playerName;
+      this.digest = digest;
+    }
+
+    /**
+     * Gets the turn of the checkpoint.
+     *
+     * @return number of turns played before the turn of the checkpoint.
+     */
+    public int getTurn() {
+      return turn;
+    }
+
+    /**
+     * Gets the phase the game changed to.
+     *
+     * @return the Context.
+     */
+    public Context getContext() {
+      return context;
+    }
+
+    /**
+     * Gets the name of the current player.
+     *
+     * @return the name.
+     */
+    public String getPlayerName() {
+      return playerName;
+    }
+
+    /**
+     * Gets the digest of the game.
+     *
+     * @return the digest.
+     */
+    public long getDigest() {
+      return digest;
+    }
+
+    /**
+     * Checks if two checkpoints are the same point of the same game.
+     *
+     * @param o the other checkpoint
+     * @return true if the checkpoints are equal.
+     */
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      Checkpoint checkpoint = (Checkpoint) o;
+      return turn == checkpoint.turn
+          && digest == checkpoint.digest
+          && context == checkpoint.context
+          && Objects.equals(playerName, checkpoint.playerName);
+    }
+
+    /**
+     * Hashes the checkpoint.
+     *
+     * @return the hash code.
+     */
+    @Override
+    public int hashCode() {
+      return Objects.hash(turn, context, playerName, digest);
+    }
+
+    /**
+     * Describes the checkpoint.
+     *
+     * @return the turn, the phase and the player.
+     */
+    @Override
+    public String toString() {
+      return String.format("turn %d, %s of %s", turn + 1, context, playerName);
+    }
+  }
+}
@@ -0,0 +1,266 @@
+package utils;
+
+import com.google.gson.Gson;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * GameResult is the record of a finished tournament game: who won, how long the game took and what
+ * happened in its battles. It is written as a line of a CSV or JSON-lines file, see
+ * TournamentStatistics.
+ *
+ * @version 1.0
+ */
+public class GameResult {
+
+  /** The columns of a CSV line, in order. */
+  public static final String CSV_HEADER =
+      "map,game,seed,strategies,winner,winnerStrategy,turns,rounds,battles,diceRolled,"
+          + "armiesDestroyed,eliminationOrder,wallTimeMillis";
+
+  /** Name given to the winner of a game that exceeded the maximum number of rounds. */
+  public static final String DRAW = "Draw";
+
+  /** Separates the items of a list in a CSV field. */
+  private static final String CSV_LIST_SEPARATOR = ";";
+
+  /** The map file the game was played on. */
+  private final String map;
+
+  /** The index of the game on the map, from 1. */
+  private final int game;
+
+  /** The seed of the random generator of the game. */
+  private final long seed;
+
+  /** The strategies of the players, in the order of the players. */
+  private final String[] strategies;
+
+  /** Name of the winner, Draw if the game exceeded the maximum number of rounds. */
+  private final String winner;
+
+  /** Strategy of the winner, null for a draw. */
+  private final String winnerStrategy;
+
+  /** Number of turns played. */
+  private final int turns;
+
+  /** Number of rounds played. */
+  private final int rounds;
+
+  /** Number of battles fought. */
+  private final int battles;
+
+  /** Number of dice rolled. */
+  private final long diceRolled;
+
+  /** Number of armies destroyed. */
+  private final long armiesDestroyed;
+
+  /** Names of the players eliminated, in order. */
+  private final List<String> eliminationOrder;
+
+  /** Time taken to set up and play the game, in milliseconds. */
+  private final long wallTimeMillis;
+
+  /**
+   * The constructor for a GameResult.
+   *
+   * @param map the map file the game was played on
+   * @param game the index of the game on the map, from 1
+   * @param seed the seed of the random generator of the game
+   * @param strategies the strategies of the players
+   * @param winner name of the winner, Draw if the game exceeded the maximum number of rounds
+   * @param winnerStrategy strategy of the winner, null for a draw
+   * @param turns number of turns played
+   * @param rounds number of rounds played
+   * @param battles number of battles fought
+   * @param diceRolled number of dice rolled
+   * @param armiesDestroyed number of armies destroyed
+   * @param eliminationOrder names of the players eliminated, in order
+   * @param wallTimeMillis time taken by the game, in milliseconds
+   */
+  public GameResult(
+      String map,
+      int game,
+      long seed,
+      String[] strategies,
+      String winner,
+      String winnerStrategy,
+      int turns,
+      int rounds,
+      int battles,
+      long diceRolled,
+      long armiesDestroyed,
+      List<String> eliminationOrder,
+      long wallTimeMillis) {
+    this.map = map;
+    this.game = game;
+    this.seed = seed;
+    this.strategies = strategies.clone();
+    this.winner = winner;
+    this.winnerStrategy = winnerStrategy;
+    this.turns = turns;
+    this.rounds = rounds;
+    this.battles = battles;
+    this.diceRolled = diceRolled;
+    this.armiesDestroyed = armiesDestroyed;
+    this.eliminationOrder = new ArrayList<>(eliminationOrder);
+    this.wallTimeMillis = wallTimeMillis;
+  }
+
+  /**
+   * Gets the map file the game was played on.
+   *
+   * @return the path of the map file.
+   */
+  public String getMap() {
+    return map;
+  }
+
+  /**
+   * Gets the strategies of the players.
+   *
+   * @return the strategies, in the order of the players.
+   */
+  public List<String> getStrategies() {
+    return Arrays.asList(strategies.clone());
+  }
+
+  /**
+   * Gets the winner of the game.
+   *
+   * @return name of the winner, Draw if the game exceeded the maximum number of rounds.
+   */
+  public String getWinner() {
+    return winner;
+  }
+
+  /**
+   * Gets the strategy of the winner.
+   *
+   * @return the strategy, null for a draw.
+   */
+  public String getWinnerStrategy() {
+    return winnerStrategy;
+  }
+
+  /**
+   * Checks if the game exceeded the maximum number of rounds.
+   *
+   * @return true if no player won.
+   */
+  public boolean isDraw() {
+    return winnerStrategy == null;
+  }
+
+  /**
+   * Gets the number of turns played.
+   *
+   * @return An integer.
+   */
+  public int getTurns() {
+    return turns;
+  }
+
+  /**
+   * Gets the number of rounds played.
+   *
+   * @return An integer.
+   */
+  public int getRounds() {
+    return rounds;
+  }
+
+  /**
+   * Gets the number of battles fought.
+   *
+   * @return An integer.
+   */
+  public int getBattles() {
+    return battles;
+  }
+
+  /**
+   * Gets the number of dice rolled.
+   *
+   * @return the number of dice.
+   */
+  public long getDiceRolled() {
+    return diceRolled;
+  }
+
+  /**
+   * Gets the number of armies destroyed.
+   *
+   * @return the number of armies.
+   */
+  public long getArmiesDestroyed() {
+    return armiesDestroyed;
+  }
+
+  /**
+   * Gets the players eliminated.
+   *
+   * @return the names of the players, in the order they were eliminated.
+   */
+  public List<String> getEliminationOrder() {
+    return new ArrayList<>(eliminationOrder);
+  }
+
+  /**
+   * Gets the time taken by the game.
+   *
+   * @return the time in milliseconds.
+   */
+  public long getWallTimeMillis() {
+    return wallTimeMillis;
+  }
+
+  /**
+   * Writes the result as a CSV line, see CSV_HEADER, lists are separated by semicolons.
+   *
+   * @return the line, without line separator.
+   */
+  public String toCsv() {
+    return String.join(
+        ",",
+        csvField(map),
+        String.valueOf(game),
+        String.valueOf(seed),
+        csvField(String.join(CSV_LIST_SEPARATOR, strategies)),
+        csvField(winner),
+        csvField(winnerStrategy == null ? "" : winnerStrategy),
+        String.valueOf(turns),
+        String.valueOf(rounds),
+        String.valueOf(battles),
+        String.valueOf(diceRolled),
+        String.valueOf(armiesDestroyed),
+        csvField(String.join(CSV_LIST_SEPARATOR, eliminationOrder)),
+        String.valueOf(wallTimeMillis));
+  }
+
+  /**
+   * Writes the result as a JSON object on one line.
+   *
+   * @return the line, without line separator.
+   */
+  public String toJson() {
+    return new Gson().toJson(this);
+  }
+
+  /**
+   * Quotes a CSV field if it holds a comma, a quote or a line break.
+   *
+   * @param field the field
+   * @return the field as written in the line.
+   */
+  private static String csvField(String field) {
+    if (field.matches("(?s).*[,\"\\r\\n].*")) {
+      return "\"" + field.replace("\"", "\"\"") + "\"";
+    }
+    return field;
+  }
+}
@@ -0,0 +1,482 @@
+package utils;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import models.Card;
+import models.Context;
+import models.Continent;
+import models.Country;
+import models.GameMap;
+import models.GameSession;
+import models.player.Player;
+import models.player.PlayerStrategy;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The json save format. The game is written straight from the live model and read straight into a
+ * new GameMap through the streaming api of Gson, so neither the document nor an intermediate copy
+ * of the game is held in memory. Files whose name ends with GZIP_EXTENSION are compressed, loading
+ * tells compressed files by their first bytes.
+ *
+ * <pre>
+ *   playersList: [{strategy, playerName, numberOfArmies, cardsInHand}]
+ *   deck: [{type, country}]
+ *   borders: {country: [neighbor]}
+ *   continents: {name: {color, name, value}}
+ *   countries: {name: {continent, name, x, y, ownerName, numberOfArmies, card}}
+ *   currentContext, currentPlayerIndex, numberOfTradedSet, armiesTradedForSet, cardCount
+ * </pre>
+ *
+ * @version 1.0
+ */
+public final class JsonSaveFormat {
+
+  /** Extension of the saves that are compressed with gzip. */
+  public static final String GZIP_EXTENSION = ".gz";
+
+  /** Size of the buffers the file is read and written through. */
+  private static final int BUFFER_SIZE = 1 << 16;
+
+  /** Utility class, not instantiated. */
+  private JsonSaveFormat() {}
+
+  /**
+   * Saves a game.
+   *
+   * @param gameMap the game to save
+   * @param fileName path to the file
+   * @throws IOException when the file can't be written
+   */
+  public static void save(GameMap gameMap, String fileName) throws IOException {
+    OutputStream outputStream = new FileOutputStream(fileName);
+    if (fileName.endsWith(GZIP_EXTENSION)) {
+      outputStream = new GZIPOutputStream(outputStream, BUFFER_SIZE);
+    }
+    try (JsonWriter writer =
+        new JsonWriter(
+            new OutputStreamWriter(
+                new BufferedOutputStream(outputStream, BUFFER_SIZE), StandardCharsets.UTF_8))) {
+      writer.setIndent("  ");
+      writer.setSerializeNulls(false);
+      GameSession session = gameMap.getSession();
+      writer.beginObject();
+
+      writer.name("playersList").beginArray();
+      for (Player player : gameMap.getPlayersList()) {
+        PlayerStrategy strategy = player.getStrategy();
+        writer.beginObject();
+        writer.name("strategy").value(strategy.getStrategyType());
+        writer.name("playerName").value(strategy.getPlayerName());
+        writer.name("numberOfArmies").value(strategy.getNumberOfArmies());
+        writer.name("cardsInHand");
+        writeCards(writer, strategy.getCardsInHand());
+        writer.endObject();
+      }
+      writer.endArray();
+
+      writer.name("deck");
+      writeCards(writer, gameMap.getDeck());
+
+      writer.name("borders").beginObject();
+      for (Map.Entry<String, Set<String>> border : gameMap.getBorders().entrySet()) {
+        writer.name(border.getKey()).beginArray();
+        for (String neighbor : border.getValue()) {
+          writer.value(neighbor);
+        }
+        writer.endArray();
+      }
+      writer.endObject();
+
+      writer.name("continents").beginObject();
+      for (Continent continent : gameMap.getContinents().values()) {
+        writer.name(continent.getName()).beginObject();
+        writer.name("color").value(continent.getColor());
+        writer.name("name").value(continent.getName());
+        writer.name("value").value(continent.getValue());
+        writer.endObject();
+      }
+      writer.endObject();
+
+      writer.name("countries").beginObject();
+      for (Country country : gameMap.getCountries().values()) {
+        writer.name(country.getName()).beginObject();
+        writer.name("continent").value(country.getContinent());
+        writer.name("name").value(country.getName());
+        writer.name("x").value(country.getX());
+        writer.name("y").value(country.getY());
+        writer.name("ownerName").value(country.getOwnerName());
+        writer.name("numberOfArmies").value(country.getNumberOfArmies());
+        if (country.getCard() != null) {
+          writer.name("card");
+          writeCard(writer, country.getCard());
+        }
+        writer.endObject();
+      }
+      writer.endObject();
+
+      if (gameMap.getCurrentContext() != null) {
+        writer.name("currentContext").value(gameMap.getCurrentContext().name());
+      }
+      writer.name("currentPlayerIndex").value(session.getCurrentPlayerIndex());
+      writer.name("numberOfTradedSet").value(session.getNumberOfTradedSet());
+      writer.name("armiesTradedForSet").value(session.getArmiesTradedForSet());
+      writer.name("cardCount").value(session.getCardCount());
+      writer.endObject();
+    }
+  }
+
+  /**
+   * Loads a game, the returned GameMap isn't made the game of the current thread.
+   *
+   * @param fileName path to the file, compressed or not
+   * @return the loaded game.
+   * @throws IOException when the file isn't a valid save
+   */
+  public static GameMap load(String fileName) throws IOException {
+    InputStream inputStream = new BufferedInputStream(new FileInputStream(fileName), BUFFER_SIZE);
+    try (JsonReader reader =
+        new JsonReader(
+            new InputStreamReader(decompressIfGzip(inputStream), StandardCharsets.UTF_8))) {
+      GameMap gameMap = new GameMap();
+      GameSession session = gameMap.getSession();
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "playersList":
+            gameMap.setPlayersList(readPlayers(reader));
+            break;
+          case "deck":
+            gameMap.setDeck(readCards(reader));
+            break;
+          case "borders":
+            gameMap.setBorders(readBorders(reader));
+            break;
+          case "continents":
+            gameMap.setContinents(readContinents(reader));
+            break;
+          case "countries":
+            gameMap.setCountries(readCountries(reader));
+            break;
+          case "currentContext":
+            gameMap.setCurrentContext(Context.valueOf(reader.nextString()));
+            break;
+          case "currentPlayerIndex":
+            session.setCurrentPlayerIndex(reader.nextInt());
+            break;
+          case "numberOfTradedSet":
+            session.setNumberOfTradedSet(reader.nextInt());
+            break;
+          case "armiesTradedForSet":
+            session.setArmiesTradedForSet(reader.nextInt());
+            break;
+          case "cardCount":
+            session.setCardCount(reader.nextInt());
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      return gameMap;
+    } catch (IllegalArgumentException | IllegalStateException e) {
+      throw new IOException(fileName + " is not a valid save: " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Wraps a stream in a gzip decoder if it starts with the gzip magic number.
+   *
+   * @param inputStream a stream that supports mark
+   * @return the stream to read the save from.
+   * @throws IOException when the stream can't be read
+   */
+  private static InputStream decompressIfGzip(InputStream inputStream) throws IOException {
+    inputStream.mark(2);
+    int magic = inputStream.read() | (inputStream.read() << 8);
+    inputStream.reset();
+    if (magic == GZIPInputStream.GZIP_MAGIC) {
+      return new GZIPInputStream(inputStream, BUFFER_SIZE);
+    }
+    return inputStream;
+  }
+
+  /**
+   * Writes a list of cards, null is written as null.
+   *
+   * @param writer the writer
+   * @param cards the cards
+   * @throws IOException when the file can't be written
+   */
+  private static void writeCards(JsonWriter writer, ArrayList<Card> cards) throws IOException {
+    if (cards == null) {
+      writer.nullValue();
+      return;
+    }
+    writer.beginArray();
+    for (Card card : cards) {
+      writeCard(writer, card);
+    }
+    writer.endArray();
+  }
+
+  /**
+   * Writes a card.
+   *
+   * @param writer the writer
+   * @param card the card
+   * @throws IOException when the file can't be written
+   */
+  private static void writeCard(JsonWriter writer, Card card) throws IOException {
+    writer.beginObject();
+    writer.name("type").value(card.getType().name());
+    writer.name("country").value(card.getCountry());
+    writer.endObject();
+  }
+
+  /**
+   * Reads the players.
+   *
+   * @param reader the reader, before the array of players
+   * @return a new list of players.
+   * @throws IOException when the file can't be read
+   */
+  private static ArrayList<Player> readPlayers(JsonReader reader) throws IOException {
+    ArrayList<Player> players = new ArrayList<>();
+    reader.beginArray();
+    while (reader.hasNext()) {
+      String strategy = null;
+      String playerName = null;
+      int numberOfArmies = 0;
+      ArrayList<Card> cardsInHand = new ArrayList<>();
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "strategy":
+            strategy = reader.nextString();
+            break;
+          case "playerName":
+            playerName = reader.nextString();
+            break;
+          case "numberOfArmies":
+            numberOfArmies = reader.nextInt();
+            break;
+          case "cardsInHand":
+            cardsInHand = readCards(reader);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      Player player = new Player(playerName, strategy);
+      player.getStrategy().setNumberOfArmies(numberOfArmies);
+      player.getStrategy().setCardsInHand(cardsInHand);
+      players.add(player);
+    }
+    reader.endArray();
+    return players;
+  }
+
+  /**
+   * Reads a list of cards.
+   *
+   * @param reader the reader, before the array of cards
+   * @return a new list of cards, null if the list is null.
+   * @throws IOException when the file can't be read
+   */
+  private static ArrayList<Card> readCards(JsonReader reader) throws IOException {
+    if (reader.peek() == JsonToken.NULL) {
+      reader.nextNull();
+      return null;
+    }
+    ArrayList<Card> cards = new ArrayList<>();
+    reader.beginArray();
+    while (reader.hasNext()) {
+      cards.add(readCard(reader));
+    }
+    reader.endArray();
+    return cards;
+  }
+
+  /**
+   * Reads a card.
+   *
+   * @param reader the reader, before the card
+   * @return a new Card.
+   * @throws IOException when the file can't be read
+   */
+  private static Card readCard(JsonReader reader) throws IOException {
+    String country = null;
+    Card.typeOfCard type = null;
+    reader.beginObject();
+    while (reader.hasNext()) {
+      switch (reader.nextName()) {
+        case "type":
+          type = Card.typeOfCard.valueOf(reader.nextString());
+          break;
+        case "country":
+          country = reader.nextString();
+          break;
+        default:
+          reader.skipValue();
+      }
+    }
+    reader.endObject();
+    return new Card(country, type);
+  }
+
+  /**
+   * Reads the adjacency list.
+   *
+   * @param reader the reader, before the object of borders
+   * @return a new adjacency list.
+   * @throws IOException when the file can't be read
+   */
+  private static Map<String, Set<String>> readBorders(JsonReader reader) throws IOException {
+    Map<String, Set<String>> borders = new HashMap<>();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String country = reader.nextName();
+      Set<String> neighbors = new HashSet<>();
+      reader.beginArray();
+      while (reader.hasNext()) {
+        neighbors.add(reader.nextString());
+      }
+      reader.endArray();
+      borders.put(country, neighbors);
+    }
+    reader.endObject();
+    return borders;
+  }
+
+  /**
+   * Reads the continents.
+   *
+   * @param reader the reader, before the object of continents
+   * @return a new map of continents by name.
+   * @throws IOException when the file can't be read
+   */
+  private static Map<String, Continent> readContinents(JsonReader reader) throws IOException {
+    Map<String, Continent> continents = new HashMap<>();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      String color = null;
+      String name = key;
+      int value = 0;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "color":
+            color = nextStringOrNull(reader);
+            break;
+          case "name":
+            name = reader.nextString();
+            break;
+          case "value":
+            value = reader.nextInt();
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      continents.put(key, new Continent(color, name, value));
+    }
+    reader.endObject();
+    return continents;
+  }
+
+  /**
+   * Reads the countries.
+   *
+   * @param reader the reader, before the object of countries
+   * @return a new map of countries by name.
+   * @throws IOException when the file can't be read
+   */
+  private static Map<String, Country> readCountries(JsonReader reader) throws IOException {
+    Map<String, Country> countries = new HashMap<>();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      String continent = null;
+      String name = key;
+      int x = 0;
+      int y = 0;
+      String ownerName = null;
+      int numberOfArmies = 0;
+      Card card = null;
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "continent":
+            continent = nextStringOrNull(reader);
+            break;
+          case "name":
+            name = reader.nextString();
+            break;
+          case "x":
+            x = reader.nextInt();
+            break;
+          case "y":
+            y = reader.nextInt();
+            break;
+          case "ownerName":
+            ownerName = nextStringOrNull(reader);
+            break;
+          case "numberOfArmies":
+            numberOfArmies = reader.nextInt();
+            break;
+          case "card":
+            card = readCard(reader);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      Country country = new Country(name, continent, x, y);
+      if (ownerName != null) {
+        country.setOwnerName(ownerName);
+      }
+      country.setNumberOfArmies(numberOfArmies);
+      country.setCard(card);
+      countries.put(key, country);
+    }
+    reader.endObject();
+    return countries;
+  }
+
+  /**
+   * Reads a string that may be null.
+   *
+   * @param reader the reader, before the value
+   * @return the string, null if the value is null.
+   * @throws IOException when the file can't be read
+   */
+  private static String nextStringOrNull(JsonReader reader) throws IOException {
+    if (reader.peek() == JsonToken.NULL) {
+      reader.nextNull();
+      return null;
+    }
+    return reader.nextString();
+  }
+}
@@ -8,15 +8,20 @@ import java.util.Scanner;
 
 /** Adaptor class for conquest, domination maps */
 public class MapAdaptor {
+  /** Maps loaded for a game, shared by every game of the process */
+  private static final MapCache mapCache = new MapCache(MapCache.DEFAULT_CAPACITY);
   /** Parser for the conquest map */
   private ConquestMapParser conquestMapParser;
   /** Parser for the domination map */
   private DominationMapParser dominationMapParser;
+  /** Single pass parser for both map types, loads every map when set */
+  private StreamingMapParser streamingMapParser;
 
   /** Constructor for map adaptor */
   public MapAdaptor() {
     this.conquestMapParser = new ConquestMapParser();
     this.dominationMapParser = new DominationMapParser();
+    this.streamingMapParser = new StreamingMapParser();
   }
 
   /**
@@ -45,6 +50,9 @@ public class MapAdaptor {
    * @throws Exception file read exception
    */
   public GameMap autoLoadMap(String fileName) throws Exception {
+    if (streamingMapParser != null) {
+      return streamingMapParser.loadMap(fileName);
+    }
     GameMap gameMap;
     if (isMapTypeConquest(fileName)) {
       gameMap = conquestMapParser.loadMap(fileName);
@@ -54,6 +62,31 @@ public class MapAdaptor {
       return gameMap;
   }
 
+  /**
+   * Loads a map file for a game and validates it, a file loaded before and unchanged since is
+   * copied from the cache without being parsed or validated again
+   *
+   * @param fileName path of the map file
+   * @return parsed GameMap object, null if the map is invalid
+   * @throws Exception file read exception
+   */
+  public GameMap loadValidatedMap(String fileName) throws Exception {
+    if (streamingMapParser == null) {
+      GameMap gameMap = autoLoadMap(fileName);
+      return MapValidator.validateMap(gameMap) ? gameMap : null;
+    }
+    return mapCache.load(fileName, streamingMapParser);
+  }
+
+  /**
+   * Gets the cache of the maps loaded for a game
+   *
+   * @return the MapCache shared by every MapAdaptor
+   */
+  public static MapCache getMapCache() {
+    return mapCache;
+  }
+
   /**
    * Automatically save map based on the original loaded map type
    *
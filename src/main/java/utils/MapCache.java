@@ -0,0 +1,289 @@
+package utils;
+
+import models.Continent;
+import models.Country;
+import models.GameMap;
+import models.MapTopology;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+/**
+ * MapCache keeps the last map files loaded for a game, parsed, validated and with their topology
+ * compiled, so the games of a tournament don't parse and validate the same file again. A file is
+ * found by its canonical path and its entry is only used while the modification time, the size and
+ * the hash of its content are unchanged. The least recently used entry is dropped when the cache is
+ * full. Every load gets new Country and Continent objects, only the immutable topology is shared
+ * between games.
+ *
+ * @version 1.0
+ */
+public final class MapCache {
+
+  /** Number of maps kept by default. */
+  public static final int DEFAULT_CAPACITY = 8;
+
+  /** Size of the buffer the file is hashed through. */
+  private static final int BUFFER_SIZE = 1 << 16;
+
+  /** Maximum number of maps kept. */
+  private final int capacity;
+
+  /** The cached maps by canonical path, least recently used first. */
+  private final LinkedHashMap<String, Entry> entries;
+
+  /** Number of loads served from the cache. */
+  private int hits;
+
+  /** Number of loads that parsed the file. */
+  private int misses;
+
+  /**
+   * The constructor for a MapCache.
+   *
+   * @param capacity maximum number of maps kept
+   */
+  public MapCache(int capacity) {
+    this.capacity = capacity;
+    this.entries =
+        new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > MapCache.this.capacity;
+          }
+        };
+  }
+
+  /**
+   * Loads a map file into the GameMap of the current session, from the cache if the file is
+   * unchanged since it was cached, otherwise with the parser.
+   *
+   * @param fileName path of the map file
+   * @param mapParser parser used when the file isn't cached
+   * @return the populated GameMap, null if the map is invalid.
+   * @throws Exception when the file can't be read or parsed
+   */
+  public GameMap load(String fileName, MapParser mapParser) throws Exception {
+    File file = new File(fileName);
+    long hash = hash(file);
+    String path = file.getCanonicalPath();
+    long lastModified = file.lastModified();
+    long length = file.length();
+
+    Entry entry;
+    synchronized (this) {
+      entry = entries.get(path);
+      if (entry != null && entry.isFor(lastModified, length, hash)) {
+        hits++;
+      } else {
+        entry = null;
+        misses++;
+      }
+    }
+    if (entry == null) {
+      GameMap gameMap = mapParser.loadMap(fileName);
+      entry = new Entry(gameMap, lastModified, length, hash, MapValidator.validateMap(gameMap));
+      synchronized (this) {
+        entries.put(path, entry);
+      }
+      gameMap.setMapFile(path, hash);
+      return entry.isValid ? gameMap : null;
+    }
+    if (!entry.isValid) {
+      return null;
+    }
+    GameMap gameMap = GameMap.getGameMap();
+    entry.populate(gameMap);
+    gameMap.setMapFile(path, hash);
+    return gameMap;
+  }
+
+  /** Drops every cached map. */
+  public synchronized void clear() {
+    entries.clear();
+  }
+
+  /**
+   * Gets the number of maps cached.
+   *
+   * @return An integer, at most the capacity.
+   */
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  /**
+   * Gets the number of loads served from the cache.
+   *
+   * @return An integer.
+   */
+  public synchronized int getHits() {
+    return hits;
+  }
+
+  /**
+   * Gets the number of loads that parsed the file.
+   *
+   * @return An integer.
+   */
+  public synchronized int getMisses() {
+    return misses;
+  }
+
+  /**
+   * Hashes the content of a file.
+   *
+   * @param file the file to hash
+   * @return the CRC-32 of the content.
+   * @throws IOException when the file can't be read, a FileNotFoundException if it doesn't exist
+   */
+  static long hash(File file) throws IOException {
+    CRC32 crc = new CRC32();
+    ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    try (FileInputStream inputStream = new FileInputStream(file);
+        FileChannel channel = inputStream.getChannel()) {
+      while (channel.read(buffer) >= 0) {
+        buffer.flip();
+        crc.update(buffer);
+        buffer.clear();
+      }
+    }
+    return crc.getValue();
+  }
+
+  /** A parsed map file, copied into a GameMap for every game. */
+  private static final class Entry {
+
+    /** Modification time of the file when it was parsed. */
+    private final long lastModified;
+
+    /** Size of the file when it was parsed. */
+    private final long length;
+
+    /** Hash of the content of the file when it was parsed. */
+    private final long hash;
+
+    /** True if the map passed MapValidator. */
+    private final boolean isValid;
+
+    /** Lines of the file section. */
+    private final ArrayList<String> fileSectionData;
+
+    /** The continents, never handed out. */
+    private final ArrayList<Continent> continents = new ArrayList<>();
+
+    /** The countries before the game started, never handed out. */
+    private final ArrayList<Country> countries = new ArrayList<>();
+
+    /** The adjacency list, never handed out. */
+    private final Map<String, Set<String>> borders = new HashMap<>();
+
+    /** The map name line. */
+    private final String fileName;
+
+    /** True for a domination map, false for conquest. */
+    private final boolean isDomination;
+
+    /** The compiled topology, shared by every game. */
+    private final MapTopology topology;
+
+    /**
+     * Copies a map that was just parsed.
+     *
+     * @param gameMap the parsed map
+     * @param lastModified modification time of the file
+     * @param length size of the file
+     * @param hash hash of the content of the file
+     * @param isValid true if the map passed MapValidator
+     */
+    private Entry(GameMap gameMap, long lastModified, long length, long hash, boolean isValid) {
+      this.lastModified = lastModified;
+      this.length = length;
+      this.hash = hash;
+      this.isValid = isValid;
+      this.fileSectionData = new ArrayList<>(gameMap.getFileSectionData());
+      for (Continent continent : gameMap.getContinents().values()) {
+        continents.add(copyOf(continent));
+      }
+      for (Country country : gameMap.getCountries().values()) {
+        countries.add(copyOf(country));
+      }
+      for (Map.Entry<String, Set<String>> border : gameMap.getBorders().entrySet()) {
+        borders.put(border.getKey(), new HashSet<>(border.getValue()));
+      }
+      this.fileName = gameMap.getFileName();
+      this.isDomination = gameMap.isMapTypeDomination();
+      this.topology = gameMap.getTopology();
+    }
+
+    /**
+     * Checks if the entry was parsed from the current content of its file.
+     *
+     * @param lastModified modification time of the file
+     * @param length size of the file
+     * @param hash hash of the content of the file
+     * @return true if the file is unchanged.
+     */
+    private boolean isFor(long lastModified, long length, long hash) {
+      return this.lastModified == lastModified && this.length == length && this.hash == hash;
+    }
+
+    /**
+     * Populates a GameMap with new copies of the countries, continents and borders.
+     *
+     * @param gameMap the GameMap of the game
+     */
+    private void populate(GameMap gameMap) {
+      Map<String, Continent> gameContinents = new HashMap<>();
+      for (Continent continent : continents) {
+        gameContinents.put(continent.getName(), copyOf(continent));
+      }
+      Map<String, Country> gameCountries = new HashMap<>();
+      for (Country country : countries) {
+        gameCountries.put(country.getName(), copyOf(country));
+      }
+      Map<String, Set<String>> gameBorders = new HashMap<>();
+      for (Map.Entry<String, Set<String>> border : borders.entrySet()) {
+        gameBorders.put(border.getKey(), new HashSet<>(border.getValue()));
+      }
+      gameMap.populateGameMap(
+          new ArrayList<>(fileSectionData),
+          gameBorders,
+          gameContinents,
+          gameCountries,
+          fileName,
+          topology);
+      gameMap.setMapTypeDomination(isDomination);
+    }
+
+    /**
+     * Copies a continent.
+     *
+     * @param continent the continent to copy
+     * @return a new Continent.
+     */
+    private static Continent copyOf(Continent continent) {
+      return new Continent(continent.getColor(), continent.getName(), continent.getValue());
+    }
+
+    /**
+     * Copies a country as it is on a new map, without owner or armies.
+     *
+     * @param country the country to copy
+     * @return a new Country.
+     */
+    private static Country copyOf(Country country) {
+      return new Country(country.getName(), country.getContinent(), country.getX(), country.getY());
+    }
+  }
+}
@@ -0,0 +1,35 @@
+package utils;
+
+/**
+ * Thrown when a line of a map file can't be parsed, the message starts with the line number.
+ *
+ * @version 1.0
+ */
+public class MapParseException extends Exception {
+
+  /** Version of the serialized form. */
+  private static final long serialVersionUID = 1L;
+
+  /** The line of the map file, starting at 1. */
+  private final int lineNumber;
+
+  /**
+   * The constructor for a MapParseException.
+   *
+   * @param lineNumber the line of the map file, starting at 1
+   * @param message what is wrong with the line
+   */
+  public MapParseException(int lineNumber, String message) {
+    super(String.format("Line %d: %s", lineNumber, message));
+    this.lineNumber = lineNumber;
+  }
+
+  /**
+   * Gets the line of the map file.
+   *
+   * @return the line number, starting at 1.
+   */
+  public int getLineNumber() {
+    return lineNumber;
+  }
+}
@@ -3,120 +3,230 @@ package utils;
 import models.Continent;
 import models.Country;
 import models.GameMap;
+import models.MapTopology;
 
-import java.util.HashSet;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-
-import static java.util.stream.Collectors.groupingBy;
+import java.util.TreeSet;
+import java.util.stream.IntStream;
 
 /**
- * The Edit Map utility processes the editing commands.
+ * The map validator checks that every continent has countries, every country is in a continent, has
+ * borders and borders only countries, and that the whole map and every continent are connected.
+ * Connectivity is checked with iterative breadth first searches over the ids of the MapTopology, so
+ * the check is linear in the number of borders and doesn't depend on the depth of the map.
+ * Continents are searched in parallel on large maps.
  *
  * @author Warren
  * @version 1.0
  */
 public class MapValidator {
 
-  /**
-   * Performs a DFS on every continent, works using recursion.
-   *
-   * @param map A List of all countries.
-   * @param visited A HashMap of visited countries.
-   * @param start The Country to start from.
-   * @param completeMap The entire GameMap to look through.
-   * @return visited countries of a continent
-   */
-  private static HashSet<Country> DFSUtilContinents(
-      List<Country> map, HashSet<Country> visited, Country start, GameMap completeMap) {
-    Map<String, Set<String>> copyOfBorders = completeMap.getBorders();
-    Map<String, Country> copyOfCountries = completeMap.getCountries();
-    visited.add(start);
-    for (String neighbor : copyOfBorders.get(start.getName())) {
-      if (map.contains(copyOfCountries.get(neighbor))
-          && !visited.contains(copyOfCountries.get(neighbor))) {
-        Country neighborCountry = copyOfCountries.get(neighbor);
-        DFSUtilContinents(map, visited, neighborCountry, completeMap);
-      }
-    }
-    return visited;
-  }
+  /** Number of countries from which the continents are searched in parallel. */
+  private static final int PARALLEL_THRESHOLD = 4096;
 
   /**
-   * Performs a DFS on the whole game map, works using recursion.
+   * Checks whether the current game map is a valid map or not.
    *
-   * @param visited A HashMap of visited countries.
-   * @param start The name of the Country to start with.
-   * @param completeMap The entire GameMap to look through.
-   * @return visited countries of the whole map
+   * @param map The entire GameMap
+   * @return A boolean with success or failure.
    */
-  private static HashSet<String> DFSUtilWholeMap(
-      HashSet<String> visited, String start, GameMap completeMap) {
-    visited.add(start);
-    for (String neighbor : completeMap.getBorders().get(start)) {
-      if (!visited.contains(neighbor)) {
-        DFSUtilWholeMap(visited, neighbor, completeMap);
-      }
-    }
-    return visited;
+  public static boolean validateMap(GameMap map) {
+    return findViolations(map).isEmpty();
   }
 
   /**
-   * Checks whether the current game map is a valid map or not.
+   * Finds every reason a map is invalid.
    *
    * @param map The entire GameMap
-   * @return A boolean with success or failure.
+   * @return the violations, empty if the map is valid.
    */
-  public static boolean validateMap(GameMap map) {
-    Map<String, Set<String>> copyOfBorders = map.getBorders();
-    Map<String, Country> copyOfCountries = map.getCountries();
-    Map<String, Continent> copyOfContinents = map.getContinents();
-    Map<String, List<Country>> groupedByCountries =
-        copyOfCountries.values().stream().collect(groupingBy(Country::getContinent));
+  public static List<String> findViolations(GameMap map) {
+    Map<String, Set<String>> borders = map.getBorders();
+    Map<String, Country> countries = map.getCountries();
+    Map<String, Continent> continents = map.getContinents();
+    List<String> violations = new ArrayList<>();
+
     // PRELIMINARY CHECKS
-    if (copyOfContinents.keySet().size() != groupedByCountries.keySet().size()) {
-      return false; // CASE - No countries in continent OR countries in Continent that doesn't exist
+    Set<String> continentsWithCountries = new TreeSet<>();
+    for (Country country : countries.values()) {
+      continentsWithCountries.add(country.getContinent());
+      if (!continents.containsKey(country.getContinent())) {
+        violations.add(
+            String.format(
+                "Country %s is in continent %s that doesn't exist",
+                country.getName(), country.getContinent()));
+      }
+    }
+    for (String continent : new TreeSet<>(continents.keySet())) {
+      if (!continentsWithCountries.contains(continent)) {
+        violations.add(String.format("Continent %s has no countries", continent));
+      }
     }
-    if (copyOfBorders.keySet().size() != copyOfCountries.keySet().size()) {
-      return false; // CASE - No borderList entry for country OR borderList entry without
+    for (String country : new TreeSet<>(countries.keySet())) {
+      Set<String> neighbors = borders.get(country);
+      if (neighbors == null || neighbors.isEmpty()) {
+        violations.add(String.format("Country %s has no borders", country));
+        continue;
+      }
+      for (String neighbor : new TreeSet<>(neighbors)) {
+        if (!countries.containsKey(neighbor)) {
+          violations.add(
+              String.format("Country %s borders %s that isn't a country", country, neighbor));
+        }
+      }
     }
-    // countryList entry
-    for (String country : copyOfBorders.keySet()) {
-      if (copyOfBorders.get(country).size() == 0) {
-        return false; // CASE - Country has no borders
+    for (String country : new TreeSet<>(borders.keySet())) {
+      if (!countries.containsKey(country)) {
+        violations.add(String.format("Borders are given for %s that isn't a country", country));
       }
     }
+
     // CHECK CONNECTEDNESS OF SUBGRAPHS & WHOLE GRAPH
-    // RUN DFS ON CONTINENTS
-    if (!DFSCheckOnContinent(map)) {
-      return false;
+    MapTopology topology = map.getTopology();
+    violations.addAll(findContinentViolations(topology));
+    if (topology.getNumberOfCountries() > 0) {
+      boolean[] visited = new boolean[topology.getNumberOfCountries()];
+      int[] queue = new int[topology.getNumberOfCountries()];
+      int reached = search(topology, 0, -1, visited, queue);
+      if (reached < topology.getNumberOfCountries()) {
+        violations.add(
+            String.format(
+                "The map is not connected, %d countries can't be reached from %s, e.g %s",
+                topology.getNumberOfCountries() - reached,
+                topology.getCountryName(0),
+                topology.getCountryName(firstUnvisited(visited))));
+      }
     }
-    // RUN DFS ON WHOLE MAP
-    HashSet<String> visited = new HashSet<>();
-    copyOfCountries.keySet().stream()
-        .findFirst()
-        .ifPresent(startCountry -> DFSUtilWholeMap(visited, startCountry, map));
-    return visited.size() == copyOfBorders.keySet().size();
+    return violations;
   }
 
   /**
-   * Performs DFS check on a continent to check its connectivity
+   * Performs a connectivity check on every continent
    *
    * @param map game state
    * @return boolean to indicate status
    */
   public static boolean DFSCheckOnContinent(GameMap map) {
-    Map<String, List<Country>> groupedByCountries =
-        map.getCountries().values().stream().collect(groupingBy(Country::getContinent));
-    for (String continent : groupedByCountries.keySet()) {
-      List<Country> countriesInContinent = groupedByCountries.get(continent);
-      HashSet<Country> visited = new HashSet<>();
-      DFSUtilContinents(countriesInContinent, visited, countriesInContinent.get(0), map);
-      if (visited.size() != countriesInContinent.size()) {
-        return false;
+    return findContinentViolations(map.getTopology()).isEmpty();
+  }
+
+  /**
+   * Checks that every continent is connected by its own borders, the continents are searched in
+   * parallel on large maps.
+   *
+   * @param topology the topology of the map
+   * @return a violation for every continent that isn't connected.
+   */
+  private static List<String> findContinentViolations(MapTopology topology) {
+    int numberOfCountries = topology.getNumberOfCountries();
+    int numberOfContinents = topology.getNumberOfContinents();
+    // countries grouped by continent, the countries of continent c are
+    // members[memberStart[c]] .. members[memberStart[c + 1] - 1]
+    int[] memberStart = new int[numberOfContinents + 1];
+    for (int id = 0; id < numberOfCountries; id++) {
+      if (topology.getContinentId(id) >= 0) {
+        memberStart[topology.getContinentId(id) + 1]++;
+      }
+    }
+    for (int continentId = 0; continentId < numberOfContinents; continentId++) {
+      memberStart[continentId + 1] += memberStart[continentId];
+    }
+    int[] members = new int[memberStart[numberOfContinents]];
+    int[] next = memberStart.clone();
+    for (int id = 0; id < numberOfCountries; id++) {
+      if (topology.getContinentId(id) >= 0) {
+        members[next[topology.getContinentId(id)]++] = id;
+      }
+    }
+
+    // a search only marks countries of its continent, so the searches share one visited array
+    boolean[] visited = new boolean[numberOfCountries];
+    IntStream continentIds = IntStream.range(0, numberOfContinents);
+    if (numberOfCountries >= PARALLEL_THRESHOLD) {
+      continentIds = continentIds.parallel();
+    }
+    String[] violations =
+        continentIds
+            .mapToObj(
+                continentId -> {
+                  int size = memberStart[continentId + 1] - memberStart[continentId];
+                  if (size == 0) {
+                    return null;
+                  }
+                  int start = members[memberStart[continentId]];
+                  int[] queue = new int[size];
+                  int reached = search(topology, start, continentId, visited, queue);
+                  if (reached == size) {
+                    return null;
+                  }
+                  int unreached = start;
+                  for (int k = memberStart[continentId]; k < memberStart[continentId + 1]; k++) {
+                    if (!visited[members[k]]) {
+                      unreached = members[k];
+                      break;
+                    }
+                  }
+                  return String.format(
+                      "Continent %s is not connected, %s can't be reached from %s",
+                      topology.getContinentName(continentId),
+                      topology.getCountryName(unreached),
+                      topology.getCountryName(start));
+                })
+            .toArray(String[]::new);
+    List<String> continentViolations = new ArrayList<>();
+    for (String violation : violations) {
+      if (violation != null) {
+        continentViolations.add(violation);
+      }
+    }
+    return continentViolations;
+  }
+
+  /**
+   * Performs an iterative breadth first search from a country.
+   *
+   * @param topology the topology of the map
+   * @param start id of the country to start from
+   * @param continentId id of the continent to stay in, -1 to search the whole map
+   * @param visited marks of the countries reached, updated by the search
+   * @param queue work array, at least as long as the number of countries that can be reached
+   * @return the number of countries reached, start included.
+   */
+  private static int search(
+      MapTopology topology, int start, int continentId, boolean[] visited, int[] queue) {
+    int head = 0;
+    int tail = 0;
+    visited[start] = true;
+    queue[tail++] = start;
+    while (head < tail) {
+      int id = queue[head++];
+      for (int k = topology.neighborStart(id); k < topology.neighborEnd(id); k++) {
+        int neighborId = topology.neighbor(k);
+        if (!visited[neighborId]
+            && (continentId < 0 || topology.getContinentId(neighborId) == continentId)) {
+          visited[neighborId] = true;
+          queue[tail++] = neighborId;
+        }
+      }
+    }
+    return tail;
+  }
+
+  /**
+   * Finds a country a search didn't reach.
+   *
+   * @param visited marks of the countries reached
+   * @return the id of the first country not reached, -1 if every country was reached.
+   */
+  private static int firstUnvisited(boolean[] visited) {
+    for (int id = 0; id < visited.length; id++) {
+      if (!visited[id]) {
+        return id;
       }
     }
-    return true;
+    return -1;
   }
 }
@@ -0,0 +1,568 @@
+package utils;
+
+import models.Continent;
+import models.Country;
+import models.GameMap;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Parses domination and conquest map files in a single pass. The file is read through a buffered
+ * channel one line at a time and every line is tokenized in place, countries, continents and
+ * borders are built as their lines are read, without buffering sections or matching regular
+ * expressions. The format is told by the first section of the file, "[Map]" for conquest and
+ * domination otherwise. Lines that can't be parsed throw a MapParseException with their line
+ * number.
+ *
+ * @version 1.0
+ */
+public class StreamingMapParser implements MapParser {
+
+  /** Size of the buffer the file is read through. */
+  private static final int BUFFER_SIZE = 1 << 16;
+
+  /** The first section of a conquest map. */
+  private static final String CONQUEST_MAP_SECTION = "[Map]";
+
+  /**
+   * Loads the map file and parses it.
+   *
+   * @param fileName the location of the map file to be parsed
+   * @return GameMap the parsed GameMap Object
+   * @throws Exception when map is invalid, a FileNotFoundException if it does not exist
+   */
+  @Override
+  public GameMap loadMap(String fileName) throws Exception {
+    try (FileInputStream inputStream = new FileInputStream(fileName);
+        FileChannel channel = inputStream.getChannel()) {
+      return new MapReader(new LineReader(channel)).read(fileName);
+    }
+  }
+
+  /**
+   * Saves the map into a file in the format it was loaded from.
+   *
+   * @param gameMap The GameMap object to save.
+   * @param fileName The name of the file.
+   * @return boolean to indicate status
+   */
+  @Override
+  public boolean saveMap(GameMap gameMap, String fileName) {
+    if (gameMap.isMapTypeDomination()) {
+      return new DominationMapParser().saveMap(gameMap, fileName);
+    } else {
+      return new ConquestMapParser().saveMap(gameMap, fileName);
+    }
+  }
+
+  /**
+   * Checks if a line is a section header, a word between square brackets.
+   *
+   * @param line the line to check
+   * @return true if the line starts a section.
+   */
+  private static boolean isSectionHeader(String line) {
+    int last = line.length() - 1;
+    if (last < 1 || line.charAt(0) != '[' || line.charAt(last) != ']') {
+      return false;
+    }
+    for (int i = 1; i < last; i++) {
+      char c = line.charAt(i);
+      if (!Character.isLetterOrDigit(c) && c != '_') {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Checks if a line has only whitespace.
+   *
+   * @param line the line to check
+   * @return true if the line is blank.
+   */
+  private static boolean isBlank(String line) {
+    for (int i = 0; i < line.length(); i++) {
+      if (line.charAt(i) > ' ') {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** Builds the map from the lines of one file. */
+  private static final class MapReader {
+
+    /** The lines of the file. */
+    private final LineReader lineReader;
+
+    /** Lines of the [files] or [Map] section. */
+    private final ArrayList<String> fileSectionData = new ArrayList<>();
+
+    /** The adjacency list of the map. */
+    private final Map<String, Set<String>> borders = new HashMap<>();
+
+    /** The continents of the map. */
+    private final Map<String, Continent> continents = new HashMap<>();
+
+    /** The countries of the map. */
+    private final Map<String, Country> countries = new HashMap<>();
+
+    /** Continent names in file order, domination countries refer to them by position. */
+    private final ArrayList<String> continentsInOrder = new ArrayList<>();
+
+    /** Country names in file order, domination borders refer to them by position. */
+    private final ArrayList<String> countriesInOrder = new ArrayList<>();
+
+    /** The name line of a domination map. */
+    private String mapName = "";
+
+    /**
+     * The constructor for a MapReader.
+     *
+     * @param lineReader the lines of the file
+     */
+    private MapReader(LineReader lineReader) {
+      this.lineReader = lineReader;
+    }
+
+    /**
+     * Reads the whole file and populates the game map.
+     *
+     * @param fileName the location of the map file
+     * @return the populated GameMap.
+     * @throws Exception when the map is invalid
+     */
+    private GameMap read(String fileName) throws Exception {
+      Boolean isConquest = null;
+      String section = null;
+      String line;
+      while ((line = lineReader.readLine()) != null) {
+        if (isSectionHeader(line)) {
+          if (isConquest == null) {
+            isConquest = line.equals(CONQUEST_MAP_SECTION);
+          }
+          section = line;
+          continue;
+        }
+        if (isBlank(line)) {
+          // conquest territories are grouped by blank lines
+          if (!"[Territories]".equals(section)) {
+            section = null;
+          }
+          continue;
+        }
+        if (section == null) {
+          if (line.startsWith("name")) {
+            mapName = line;
+          }
+        } else if (isConquest) {
+          readConquestLine(section, line);
+        } else {
+          readDominationLine(section, line);
+        }
+      }
+
+      boolean isDomination = isConquest == null || !isConquest;
+      if (countries.size() == 0
+          || continents.size() == 0
+          || borders.size() == 0
+          || fileSectionData.size() == 0
+          || (isDomination && mapName.isEmpty())) {
+        throw new Exception("Invalid map");
+      }
+      GameMap gameMap = GameMap.getGameMap();
+      fileName = String.format("name %s map", fileName);
+      gameMap.populateGameMap(fileSectionData, borders, continents, countries, fileName);
+      gameMap.setMapTypeDomination(isDomination);
+      return gameMap;
+    }
+
+    /**
+     * Reads a line of a domination map section.
+     *
+     * @param section the header of the section
+     * @param line the line to read
+     * @throws MapParseException when the line is invalid
+     */
+    private void readDominationLine(String section, String line) throws MapParseException {
+      Fields fields = new Fields(line, ' ', lineReader.getLineNumber());
+      switch (section) {
+        case "[files]":
+          fileSectionData.add(line);
+          break;
+        case "[continents]":
+          {
+            String name = fields.next("continent name");
+            int value = fields.nextInt("control value");
+            String color = fields.next("continent color");
+            addContinent(new Continent(color, name, value));
+            continentsInOrder.add(name);
+            break;
+          }
+        case "[countries]":
+          {
+            fields.next("country number");
+            String name = fields.next("country name");
+            String continent = byPosition(continentsInOrder, fields.nextInt("continent number"));
+            int x = fields.nextInt("x");
+            int y = fields.nextInt("y");
+            addCountry(new Country(name, continent, x, y));
+            countriesInOrder.add(name);
+            break;
+          }
+        case "[borders]":
+          {
+            String name = byPosition(countriesInOrder, fields.nextInt("country number"));
+            Set<String> neighbors = new HashSet<>();
+            while (fields.hasNext()) {
+              neighbors.add(byPosition(countriesInOrder, fields.nextInt("neighbor number")));
+            }
+            addBorders(name, neighbors);
+            break;
+          }
+        default:
+          break;
+      }
+    }
+
+    /**
+     * Reads a line of a conquest map section.
+     *
+     * @param section the header of the section
+     * @param line the line to read
+     * @throws MapParseException when the line is invalid
+     */
+    private void readConquestLine(String section, String line) throws MapParseException {
+      switch (section) {
+        case "[Map]":
+          fileSectionData.add(line);
+          break;
+        case "[Continents]":
+          {
+            Fields fields = new Fields(line, '=', lineReader.getLineNumber());
+            String name = fields.next("continent name").replace(' ', '-');
+            addContinent(new Continent(name, fields.nextInt("control value")));
+            break;
+          }
+        case "[Territories]":
+          {
+            Fields fields = new Fields(line, ',', lineReader.getLineNumber());
+            String name = fields.next("territory name").replace(' ', '-');
+            int x = fields.nextInt("x");
+            int y = fields.nextInt("y");
+            String continent = fields.next("continent name").replace(' ', '-');
+            Set<String> neighbors = new HashSet<>();
+            while (fields.hasNext()) {
+              neighbors.add(fields.next("neighbor name").replace(' ', '-'));
+            }
+            addCountry(new Country(name, continent, x, y));
+            addBorders(name, neighbors);
+            break;
+          }
+        default:
+          break;
+      }
+    }
+
+    /**
+     * Gets the name at a position of a domination section.
+     *
+     * @param names the names in file order
+     * @param position the position, starting at 1
+     * @return the name at the position.
+     * @throws MapParseException when there is no such position
+     */
+    private String byPosition(ArrayList<String> names, int position) throws MapParseException {
+      if (position < 1 || position > names.size()) {
+        throw new MapParseException(
+            lineReader.getLineNumber(), String.format("%d is not a listed number", position));
+      }
+      return names.get(position - 1);
+    }
+
+    /**
+     * Adds a continent, a name can only be used once.
+     *
+     * @param continent the continent read
+     * @throws MapParseException when the continent is already defined
+     */
+    private void addContinent(Continent continent) throws MapParseException {
+      if (continents.putIfAbsent(continent.getName(), continent) != null) {
+        throw new MapParseException(
+            lineReader.getLineNumber(), "duplicate continent " + continent.getName());
+      }
+    }
+
+    /**
+     * Adds a country, a name can only be used once.
+     *
+     * @param country the country read
+     * @throws MapParseException when the country is already defined
+     */
+    private void addCountry(Country country) throws MapParseException {
+      if (countries.putIfAbsent(country.getName(), country) != null) {
+        throw new MapParseException(
+            lineReader.getLineNumber(), "duplicate country " + country.getName());
+      }
+    }
+
+    /**
+     * Adds the borders of a country, they can only be listed once.
+     *
+     * @param countryName name of the country
+     * @param neighbors names of its neighbors
+     * @throws MapParseException when the borders of the country are already listed
+     */
+    private void addBorders(String countryName, Set<String> neighbors) throws MapParseException {
+      if (borders.putIfAbsent(countryName, neighbors) != null) {
+        throw new MapParseException(
+            lineReader.getLineNumber(), "duplicate borders of " + countryName);
+      }
+    }
+  }
+
+  /**
+   * The fields of a line, read left to right. Fields separated by spaces may be separated by more
+   * than one space.
+   */
+  private static final class Fields {
+
+    /** The line the fields are read from. */
+    private final String line;
+
+    /** The character between two fields. */
+    private final char separator;
+
+    /** The line number, for errors. */
+    private final int lineNumber;
+
+    /** Start of the next field. */
+    private int position;
+
+    /**
+     * The constructor for Fields.
+     *
+     * @param line the line the fields are read from
+     * @param separator the character between two fields
+     * @param lineNumber the line number, for errors
+     */
+    private Fields(String line, char separator, int lineNumber) {
+      this.line = line;
+      this.separator = separator;
+      this.lineNumber = lineNumber;
+    }
+
+    /**
+     * Checks if the line has another field.
+     *
+     * @return true if next can be called.
+     */
+    private boolean hasNext() {
+      if (separator == ' ') {
+        while (position < line.length() && line.charAt(position) == ' ') {
+          position++;
+        }
+      }
+      return position < line.length();
+    }
+
+    /**
+     * Gets the end of the next field.
+     *
+     * @param field what the field is, for errors
+     * @return the position after the field.
+     * @throws MapParseException when the line has no more fields
+     */
+    private int nextEnd(String field) throws MapParseException {
+      if (!hasNext()) {
+        throw new MapParseException(lineNumber, "missing " + field);
+      }
+      int end = line.indexOf(separator, position);
+      return end < 0 ? line.length() : end;
+    }
+
+    /**
+     * Reads the next field.
+     *
+     * @param field what the field is, for errors
+     * @return the text of the field.
+     * @throws MapParseException when the line has no more fields
+     */
+    private String next(String field) throws MapParseException {
+      int end = nextEnd(field);
+      String value = line.substring(position, end);
+      position = end + 1;
+      return value;
+    }
+
+    /**
+     * Reads the next field as an integer without creating a string for it.
+     *
+     * @param field what the field is, for errors
+     * @return the number.
+     * @throws MapParseException when the line has no more fields or the field isn't a number
+     */
+    private int nextInt(String field) throws MapParseException {
+      int end = nextEnd(field);
+      int start = position;
+      position = end + 1;
+      boolean isNegative = start < end && line.charAt(start) == '-';
+      int i = isNegative ? start + 1 : start;
+      if (i == end || end - i > 9) {
+        throw notANumber(field, start, end);
+      }
+      int value = 0;
+      for (; i < end; i++) {
+        char c = line.charAt(i);
+        if (c < '0' || c > '9') {
+          throw notANumber(field, start, end);
+        }
+        value = value * 10 + (c - '0');
+      }
+      return isNegative ? -value : value;
+    }
+
+    /**
+     * Builds the error of a field that isn't a number.
+     *
+     * @param field what the field is
+     * @param start start of the field
+     * @param end end of the field
+     * @return the exception to throw.
+     */
+    private MapParseException notANumber(String field, int start, int end) {
+      return new MapParseException(
+          lineNumber, String.format("%s '%s' is not a number", field, line.substring(start, end)));
+    }
+  }
+
+  /** Reads the lines of a channel through one reused buffer, decoded as UTF-8. */
+  private static final class LineReader {
+
+    /** The channel of the file. */
+    private final ReadableByteChannel channel;
+
+    /** Bytes read from the channel and not consumed yet. */
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+    /** Bytes of the current line. */
+    private byte[] line = new byte[256];
+
+    /** Number of the last line read, starting at 1. */
+    private int lineNumber;
+
+    /** True once the channel has no more bytes. */
+    private boolean isEndOfInput;
+
+    /**
+     * The constructor for a LineReader.
+     *
+     * @param channel the channel of the file
+     */
+    private LineReader(ReadableByteChannel channel) {
+      this.channel = channel;
+      buffer.flip();
+    }
+
+    /**
+     * Reads the next line, without its line terminator.
+     *
+     * @return the line, null at the end of the file.
+     * @throws IOException when the file can't be read
+     */
+    private String readLine() throws IOException {
+      int length = 0;
+      boolean hasBytes = false;
+      while (true) {
+        if (!buffer.hasRemaining()) {
+          if (isEndOfInput || !fill()) {
+            break;
+          }
+        }
+        hasBytes = true;
+        byte[] bytes = buffer.array();
+        int start = buffer.position();
+        int limit = buffer.limit();
+        int newline = start;
+        while (newline < limit && bytes[newline] != '\n') {
+          newline++;
+        }
+        length = append(length, bytes, start, newline - start);
+        if (newline < limit) {
+          buffer.position(newline + 1);
+          return toLine(length);
+        }
+        buffer.position(limit);
+      }
+      return hasBytes ? toLine(length) : null;
+    }
+
+    /**
+     * Reads more bytes from the channel into the empty buffer.
+     *
+     * @return false at the end of the channel.
+     * @throws IOException when the file can't be read
+     */
+    private boolean fill() throws IOException {
+      buffer.clear();
+      int read = channel.read(buffer);
+      buffer.flip();
+      if (read < 0) {
+        isEndOfInput = true;
+      }
+      return read > 0;
+    }
+
+    /**
+     * Appends bytes to the current line.
+     *
+     * @param length current length of the line
+     * @param bytes the bytes to append
+     * @param offset start of the bytes
+     * @param count number of bytes
+     * @return the new length of the line.
+     */
+    private int append(int length, byte[] bytes, int offset, int count) {
+      if (length + count > line.length) {
+        line = Arrays.copyOf(line, Math.max(line.length * 2, length + count));
+      }
+      System.arraycopy(bytes, offset, line, length, count);
+      return length + count;
+    }
+
+    /**
+     * Decodes the current line, dropping a trailing carriage return.
+     *
+     * @param length length of the line
+     * @return the line.
+     */
+    private String toLine(int length) {
+      lineNumber++;
+      if (length > 0 && line[length - 1] == '\r') {
+        length--;
+      }
+      return new String(line, 0, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Gets the number of the last line read.
+     *
+     * @return the line number, starting at 1.
+     */
+    private int getLineNumber() {
+      return lineNumber;
+    }
+  }
+}
@@ -0,0 +1,300 @@
+package utils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * TournamentStatistics collects the results of the games of a tournament as they finish. Every
+ * result is written right away as a line of a CSV file, or of a JSON-lines file for any other
+ * extension, and only running totals per map and per strategy are kept, so a tournament of any
+ * number of games takes the same memory. The totals give the win rate of every strategy on every
+ * map with its 95% Wilson confidence interval and the mean length of the games of every map.
+ *
+ * @version 1.0
+ */
+public class TournamentStatistics implements Closeable {
+
+  /** The normal quantile of the 95% confidence intervals. */
+  private static final double Z_95 = 1.959963984540054;
+
+  /** Extension of the result files written as CSV. */
+  private static final String CSV_EXTENSION = ".csv";
+
+  /** The result file, null if the results aren't written. */
+  private final Writer writer;
+
+  /** True if the result file is a CSV file. */
+  private final boolean isCsv;
+
+  /** The totals of the games of every map, by map. */
+  private final Map<String, MapTotals> mapTotals = new LinkedHashMap<>();
+
+  /** Number of games that failed or were never played, e.g on an invalid map. */
+  private int failedGames = 0;
+
+  /** Number of games played whose result, recording or log couldn't be written. */
+  private int unwrittenGames = 0;
+
+  /**
+   * The constructor for a TournamentStatistics.
+   *
+   * @param resultFile path of the file the results are written to, null to not write them
+   * @throws IOException when the file can't be created
+   */
+  public TournamentStatistics(String resultFile) throws IOException {
+    if (resultFile == null) {
+      writer = null;
+      isCsv = false;
+      return;
+    }
+    isCsv = resultFile.toLowerCase(Locale.ROOT).endsWith(CSV_EXTENSION);
+    writer = Files.newBufferedWriter(Paths.get(resultFile), StandardCharsets.UTF_8);
+    if (isCsv) {
+      writeLine(GameResult.CSV_HEADER);
+    }
+  }
+
+  /**
+   * Adds the result of a finished game: writes it and adds it to the totals. Called by the workers
+   * of the tournament.
+   *
+   * @param result the result of the game
+   * @throws IOException when the result can't be written
+   */
+  public synchronized void add(GameResult result) throws IOException {
+    MapTotals totals = mapTotals.computeIfAbsent(result.getMap(), key -> new MapTotals());
+    totals.add(result);
+    if (writer != null) {
+      writeLine(isCsv ? result.toCsv() : result.toJson());
+    }
+  }
+
+  /** Counts a game that failed or was never played. */
+  public synchronized void addFailedGame() {
+    failedGames++;
+  }
+
+  /** Counts a game played whose result, recording or log couldn't be written. */
+  public synchronized void addUnwrittenGame() {
+    unwrittenGames++;
+  }
+
+  /**
+   * Gets the number of games that failed or were never played.
+   *
+   * @return An integer.
+   */
+  public synchronized int getFailedGames() {
+    return failedGames;
+  }
+
+  /**
+   * Gets the number of games played whose result, recording or log couldn't be written.
+   *
+   * @return An integer.
+   */
+  public synchronized int getUnwrittenGames() {
+    return unwrittenGames;
+  }
+
+  /**
+   * Gets the totals of a strategy on a map.
+   *
+   * @param map the map file
+   * @param strategy the strategy
+   * @return the totals, null if the strategy played no game on the map.
+   */
+  public synchronized StrategyTotals getTotals(String map, String strategy) {
+    MapTotals totals = mapTotals.get(map);
+    return totals == null ? null : totals.strategyTotals.get(strategy);
+  }
+
+  /**
+   * Gets the mean number of turns of the games of a map.
+   *
+   * @param map the map file
+   * @return the mean, NaN if no game was played on the map.
+   */
+  public synchronized double getMeanTurns(String map) {
+    MapTotals totals = mapTotals.get(map);
+    return totals == null ? Double.NaN : (double) totals.turns / totals.games;
+  }
+
+  /**
+   * Describes the totals, a line per map followed by a line per strategy, and a last line with the
+   * games that failed or couldn't be written if there are any.
+   *
+   * @return the lines of the summary.
+   */
+  public synchronized List<String> getSummary() {
+    List<String> summary = new ArrayList<>();
+    for (Map.Entry<String, MapTotals> entry : mapTotals.entrySet()) {
+      MapTotals totals = entry.getValue();
+      summary.add(
+          String.format(
+              Locale.ROOT,
+              "%s: %d games, %d draws, mean %.1f turns / %.1f rounds",
+              entry.getKey(),
+              totals.games,
+              totals.draws,
+              (double) totals.turns / totals.games,
+              (double) totals.rounds / totals.games));
+      for (Map.Entry<String, StrategyTotals> strategy : totals.strategyTotals.entrySet()) {
+        summary.add(String.format("  %s %s", strategy.getKey(), strategy.getValue()));
+      }
+    }
+    if (failedGames > 0 || unwrittenGames > 0) {
+      summary.add(
+          String.format(
+              "%d games failed, %d games not fully written", failedGames, unwrittenGames));
+    }
+    return summary;
+  }
+
+  /**
+   * Closes the result file.
+   *
+   * @throws IOException when the file can't be written
+   */
+  @Override
+  public synchronized void close() throws IOException {
+    if (writer != null) {
+      writer.close();
+    }
+  }
+
+  /**
+   * Writes a line to the result file and flushes it, so the file is complete up to the last game
+   * finished if the tournament is stopped.
+   *
+   * @param line the line
+   * @throws IOException when the line can't be written
+   */
+  private void writeLine(String line) throws IOException {
+    writer.write(line);
+    writer.write("\n");
+    writer.flush();
+  }
+
+  /** The running totals of the games of a map. */
+  private static class MapTotals {
+
+    /** Number of games played. */
+    private int games = 0;
+
+    /** Number of games that exceeded the maximum number of rounds. */
+    private int draws = 0;
+
+    /** Sum of the turns of the games. */
+    private long turns = 0;
+
+    /** Sum of the rounds of the games. */
+    private long rounds = 0;
+
+    /** The totals of every strategy, by strategy. */
+    private final Map<String, StrategyTotals> strategyTotals = new LinkedHashMap<>();
+
+    /**
+     * Adds a game to the totals, a strategy played by several players counts the game once.
+     *
+     * @param result the result of the game
+     */
+    private void add(GameResult result) {
+      games++;
+      turns += result.getTurns();
+      rounds += result.getRounds();
+      if (result.isDraw()) {
+        draws++;
+      }
+      for (String strategy : new LinkedHashSet<>(result.getStrategies())) {
+        StrategyTotals totals =
+            strategyTotals.computeIfAbsent(strategy, key -> new StrategyTotals());
+        totals.games++;
+        if (strategy.equals(result.getWinnerStrategy())) {
+          totals.wins++;
+        }
+      }
+    }
+  }
+
+  /** The running totals of a strategy on a map. */
+  public static class StrategyTotals {
+
+    /** Number of games the strategy played. */
+    private int games = 0;
+
+    /** Number of games the strategy won. */
+    private int wins = 0;
+
+    /**
+     * Gets the number of games the strategy played.
+     *
+     * @return An integer.
+     */
+    public int getGames() {
+      return games;
+    }
+
+    /**
+     * Gets the number of games the strategy won.
+     *
+     * @return An integer.
+     */
+    public int getWins() {
+      return wins;
+    }
+
+    /**
+     * Gets the share of the games the strategy won.
+     *
+     * @return the win rate, between 0 and 1.
+     */
+    public double getWinRate() {
+      return (double) wins / games;
+    }
+
+    /**
+     * Gets the 95% Wilson score interval of the win rate, which stays within 0 and 1 and is sound
+     * for the few games of a tournament.
+     *
+     * @return the lower and upper bounds of the interval.
+     */
+    public double[] getWinRateInterval() {
+      double rate = getWinRate();
+      double z2 = Z_95 * Z_95;
+      double denominator = 1 + z2 / games;
+      double center = (rate + z2 / (2 * games)) / denominator;
+      double halfWidth =
+          Z_95 * Math.sqrt(rate * (1 - rate) / games + z2 / (4.0 * games * games)) / denominator;
+      return new double[] {Math.max(0, center - halfWidth), Math.min(1, center + halfWidth)};
+    }
+
+    /**
+     * Describes the totals.
+     *
+     * @return the wins, the win rate and its interval.
+     */
+    @Override
+    public String toString() {
+      double[] interval = getWinRateInterval();
+      return String.format(
+          Locale.ROOT,
+          "won %d of %d, %.1f%% (95%% CI %.1f%% - %.1f%%)",
+          wins,
+          games,
+          100 * getWinRate(),
+          100 * interval[0],
+          100 * interval[1]);
+    }
+  }
+}
@@ -7,8 +7,6 @@ import models.player.PlayerStrategy;
 import java.util.List;
 import java.util.Observable;
 import java.util.Observer;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 public class CardExchangeView implements Observer {
@@ -16,9 +14,6 @@ public class CardExchangeView implements Observer {
   /** Singleton CardExchangeView Instance * */
   private static CardExchangeView cardExchangeView = null;
 
-  /** A cached Pool of threads to queue services on the UI thread * */
-  private final ExecutorService service = Executors.newCachedThreadPool();
-
   /** Reference to the Runner instance on the UI thread * */
   private Runner appInstance;
 
@@ -58,8 +53,8 @@ public class CardExchangeView implements Observer {
                 })
             .collect(Collectors.toList());
 
-    service.submit(() -> appInstance.updateCardLabelsTemp(cardsInHandString));
+    appInstance.updateCardLabelsTemp(cardsInHandString);
     if (gameMap.getCurrentContext().name().equals("GAME_REINFORCE"))
-      service.submit(() -> appInstance.updateCardView());
+      appInstance.updateCardView();
   }
 }
@@ -1,5 +1,8 @@
 package views;
 
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
 import static models.GameMap.getGameMap;
 
 /**
@@ -10,6 +13,49 @@ import static models.GameMap.getGameMap;
  */
 public class ConsoleView {
 
+  /** The level of the messages written, see LogLevel. */
+  private static volatile LogLevel logLevel = LogLevel.FULL;
+
+  /** The sink console messages are written to. */
+  private static volatile Consumer<String> logSink = System.out::println;
+
+  /**
+   * Gets the level of the messages written.
+   *
+   * @return the LogLevel in use.
+   */
+  public static LogLevel getLogLevel() {
+    return logLevel;
+  }
+
+  /**
+   * Sets the level of the messages written.
+   *
+   * @param logLevel the LogLevel to use.
+   */
+  public static void setLogLevel(LogLevel logLevel) {
+    ConsoleView.logLevel = logLevel;
+  }
+
+  /**
+   * Sets the sink console messages are written to, the standard output by default.
+   *
+   * @param logSink consumer of the console messages.
+   */
+  public static void setLogSink(Consumer<String> logSink) {
+    ConsoleView.logSink = logSink;
+  }
+
+  /**
+   * Checks if a message would be written, used to skip building expensive messages.
+   *
+   * @param writeLog whether log should be written down
+   * @return true if the message is written at the current level.
+   */
+  public static boolean isLogged(boolean writeLog) {
+    return logLevel.accepts(writeLog);
+  }
+
   /**
    * Displays text to the console
    *
@@ -17,9 +63,33 @@ public class ConsoleView {
    * @param text string to display
    */
   public static void display(String text, boolean writeLog) {
+    if (logLevel.accepts(writeLog)) {
+      write(text, writeLog);
+    }
+  }
+
+  /**
+   * Displays text to the console, the text is only built if it is written at the current level.
+   *
+   * @param writeLog whether log should be written down
+   * @param text supplier of the string to display
+   */
+  public static void display(Supplier<String> text, boolean writeLog) {
+    if (logLevel.accepts(writeLog)) {
+      write(text.get(), writeLog);
+    }
+  }
+
+  /**
+   * Writes text to the phase log and the sink.
+   *
+   * @param text string to display
+   * @param writeLog whether log should be written down
+   */
+  private static void write(String text, boolean writeLog) {
     if (writeLog) {
       getGameMap().setPhaseLog(String.format("-> %s\n", text), false);
     }
-    System.out.println("-> " + text);
+    logSink.accept("-> " + text);
   }
 }
@@ -0,0 +1,160 @@
+package views;
+
+import controllers.GameController;
+import controllers.TournamentController;
+import models.Context;
+import models.GameMap;
+import models.GameSession;
+import models.PhaseLog;
+import utils.CLI;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import static views.ConsoleView.display;
+
+/**
+ * Runs the game without the GUI. Only the models and the controllers are started: JavaFX is never
+ * loaded and no view observes the game, so batch hosts can run tournaments and scripted games at
+ * full speed. Commands are read from the command files given, one per line, or from the console
+ * when there are none.
+ *
+ * <p>Usage: {@code HeadlessRunner [-log off|summary|full] [-workers n] [-record directory] [-logdir
+ * directory] [-logcapacity n] [-results file] [-allout] [commandFile ...]}, a command file named -
+ * is the console. Blank lines and lines starting with # are skipped.
+ *
+ * @version 1.0
+ */
+public class HeadlessRunner {
+
+  /** Name given to the console in place of a command file. */
+  private static final String CONSOLE = "-";
+
+  /** Start of the lines of a command file that are skipped. */
+  private static final String COMMENT = "#";
+
+  /** True once the game is run headlessly, the views are never created then. */
+  private static volatile boolean isHeadless = false;
+
+  /**
+   * Runs the game headlessly.
+   *
+   * @param args the options and the command files.
+   */
+  public static void main(String[] args) {
+    isHeadless = true;
+    List<String> commandFiles = new ArrayList<>();
+    try {
+      for (int i = 0; i < args.length; i++) {
+        switch (args[i]) {
+          case "-log":
+            LogLevel logLevel = LogLevel.valueOf(args[++i].toUpperCase(Locale.ROOT));
+            ConsoleView.setLogLevel(logLevel);
+            TournamentController.logLevelProperty = logLevel;
+            break;
+          case "-workers":
+            TournamentController.numberOfWorkersProperty = Integer.parseInt(args[++i]);
+            break;
+          case "-record":
+            TournamentController.recordDirectoryProperty = args[++i];
+            break;
+          case "-logdir":
+            TournamentController.logDirectoryProperty = args[++i];
+            break;
+          case "-logcapacity":
+            int capacity = Integer.parseInt(args[++i]);
+            if (capacity <= 0) {
+              throw new IllegalArgumentException("The log capacity must be positive");
+            }
+            PhaseLog.capacityProperty = capacity;
+            break;
+          case "-results":
+            TournamentController.resultFileProperty = args[++i];
+            break;
+          case "-allout":
+            TournamentController.allOutSampledProperty = true;
+            break;
+          default:
+            commandFiles.add(args[i]);
+        }
+      }
+    } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+      System.out.println(
+          "Usage: HeadlessRunner [-log off|summary|full] [-workers n] [-record directory]"
+              + " [-logdir directory] [-logcapacity n] [-results file] [-allout]"
+              + " [commandFile ...]");
+      return;
+    }
+    try {
+      CLI.setInput(openCommands(commandFiles));
+    } catch (IOException e) {
+      System.out.println("Command file does not exist: " + e.getMessage());
+      return;
+    }
+    processCommands();
+  }
+
+  /**
+   * Checks if the game is run headlessly, without the views of the GUI.
+   *
+   * @return true if the game was started by HeadlessRunner.
+   */
+  public static boolean isHeadless() {
+    return isHeadless;
+  }
+
+  /**
+   * Opens the command files one after the other.
+   *
+   * @param commandFiles paths of the command files, - for the console
+   * @return the commands of all the files, the console if there are no files.
+   * @throws IOException when a command file can't be opened
+   */
+  private static InputStream openCommands(List<String> commandFiles) throws IOException {
+    if (commandFiles.isEmpty()) {
+      return System.in;
+    }
+    List<InputStream> inputs = new ArrayList<>();
+    for (String commandFile : commandFiles) {
+      inputs.add(CONSOLE.equals(commandFile) ? System.in : new FileInputStream(commandFile));
+    }
+    return new SequenceInputStream(Collections.enumeration(inputs));
+  }
+
+  /**
+   * Reads and runs commands from the CLI input until it ends, the turns of the computer players are
+   * played as they come.
+   */
+  public static void processCommands() {
+    GameMap.getGameMap().setCurrentContext(Context.MAIN_MENU);
+    display("Welcome to risk game", false);
+    display("Type help to see available commands", false);
+    while (true) {
+      if (GameMap.getGameMap().getCurrentContext() == Context.GAME_END_OF_TURN) {
+        GameSession session = GameMap.getGameMap().getSession();
+        session.setNumOfTurns(session.getNumOfTurns() + 1);
+        GameController.startPhaseLoop(GameMap.getGameMap());
+        continue;
+      }
+      GameMap.getGameMap().getSession().getChangeBatcher().flush();
+      if (!CLI.input.hasNextLine()) {
+        return;
+      }
+      String command = CLI.input.nextLine().trim();
+      if (command.isEmpty() || command.startsWith(COMMENT)) {
+        continue;
+      }
+      boolean commandStatus =
+          GameMap.getGameMap().getCurrentContext().runCommand(GameMap.getGameMap(), command);
+      if (!commandStatus) {
+        display("Invalid command, use help to check the list of available commands", false);
+      }
+    }
+  }
+}
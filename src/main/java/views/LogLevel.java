@@ -0,0 +1,26 @@
+package views;
+
+/**
+ * This enum maintains how much of the game is written by the ConsoleView, headless simulations
+ * lower the level so disabled messages are never built.
+ *
+ * @version 1.0
+ */
+public enum LogLevel {
+  /** Nothing is written, neither to the console nor to the phase log. */
+  OFF,
+  /** Only the messages kept in the phase log are written. */
+  SUMMARY,
+  /** Every message is written. */
+  FULL;
+
+  /**
+   * Checks if a message is written at this level.
+   *
+   * @param writeLog whether the message is kept in the phase log
+   * @return true if the message should be written
+   */
+  public boolean accepts(boolean writeLog) {
+    return this == FULL || (this == SUMMARY && writeLog);
+  }
+}
@@ -1,11 +1,13 @@
 package views;
 
 import models.GameMap;
+import models.PhaseLog;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
 import java.util.Observable;
 import java.util.Observer;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 /**
  * The Phase View which displays information about the phase, current player, and logs.
@@ -17,12 +19,18 @@ public class PhaseView implements Observer {
   /** stores previous phase * */
   private static String prevPhase = "PREV";
 
-  /** Service for thread handling. */
-  private final ExecutorService service = Executors.newCachedThreadPool();
-
   /** Instance of the Runner class. */
   private Runner appInstance;
 
+  /** Reads the phase log of the game shown, null until the log is first read. */
+  private PhaseLog.Cursor phaseLogCursor;
+
+  /** The phase log the cursor reads. */
+  private PhaseLog cursorPhaseLog;
+
+  /** The text of the entries shown, the oldest first. */
+  private final Deque<String> shownEntries = new ArrayDeque<>();
+
   /**
    * Constructor that initializes the application.
    *
@@ -47,12 +55,11 @@ public class PhaseView implements Observer {
             : gameMap.getCurrentContext().name();
     switch ((String) changed) {
       case "PHASE_LOG":
-        String phaseLog = gameMap.getPhaseLog();
-        service.submit(() -> appInstance.updatePhaseInfoLabel(phaseLog));
+        readPhaseLog(gameMap);
         break;
       case "CURRENT_PLAYER":
         String currentPlayer = gameMap.getCurrentPlayer().getStrategy().getPlayerName();
-        service.submit(() -> appInstance.updatePlayerLabel(currentPlayer));
+        appInstance.updatePlayerLabel(currentPlayer);
         break;
       case "CURRENT_CONTEXT":
         if (currentPhase.equals("GAME_STARTUP")) {
@@ -65,19 +72,49 @@ public class PhaseView implements Observer {
         }
 
         if (currentPhase.equals("GAME_REINFORCE")) {
-          service.submit(() -> appInstance.updateCardView());
+          appInstance.updateCardView();
         }
 
         if (currentPhase.equals("GAME_ATTACK")) {
-          service.submit(() -> appInstance.clearCardView());
+          appInstance.clearCardView();
         }
         // clear phase log
         if (!prevPhase.equals(currentPhase)) {
           gameMap.setPhaseLog("", true);
           prevPhase = currentPhase;
         }
-        service.submit(() -> appInstance.updatePhaseLabel(currentPhase));
+        appInstance.updatePhaseLabel(currentPhase);
         break;
     }
   }
+
+  /**
+   * Shows the entries logged since the log was last read, the label starts over if the log was
+   * cleared, entries were dropped or another game is shown. The label keeps as many entries as the
+   * log does.
+   *
+   * @param gameMap the game shown
+   */
+  private void readPhaseLog(GameMap gameMap) {
+    if (cursorPhaseLog != gameMap.getPhaseLogEntries()) {
+      cursorPhaseLog = gameMap.getPhaseLogEntries();
+      phaseLogCursor = cursorPhaseLog.cursor();
+      shownEntries.clear();
+    }
+    List<PhaseLog.Entry> entries = phaseLogCursor.read();
+    if (phaseLogCursor.isRestarted()) {
+      shownEntries.clear();
+    }
+    for (PhaseLog.Entry entry : entries) {
+      shownEntries.addLast(entry.getText());
+      if (shownEntries.size() > cursorPhaseLog.getCapacity()) {
+        shownEntries.removeFirst();
+      }
+    }
+    StringBuilder text = new StringBuilder();
+    for (String entry : shownEntries) {
+      text.append(entry).append("\n");
+    }
+    appInstance.updatePhaseInfoLabel(text.toString());
+  }
 }
@@ -1,6 +1,5 @@
 package views;
 
-import controllers.GameController;
 import javafx.application.Application;
 import javafx.application.Platform;
 import javafx.event.EventHandler;
@@ -24,8 +23,6 @@ import utils.CLI;
 
 import java.util.*;
 
-import static views.ConsoleView.display;
-
 /**
  * Runs the project and handles the initial commands.
  *
@@ -55,6 +52,9 @@ public class Runner extends Application {
   private ArrayList<Label> cardLabels = new ArrayList<>();
   /** A Temporary Map of Players mapped to cards they have in hand * */
   private Map<String, List<String>> cardLabelStringsTempMap = new HashMap<>();
+  /** The pipeline the labels are updated through, on the FX thread. */
+  private final UiUpdater uiUpdater =
+      new UiUpdater(Platform::runLater, UiUpdater.DEFAULT_FRAMES_PER_SECOND);
 
   /** Constructor for the runner class. */
   public Runner() {
@@ -86,22 +86,7 @@ public class Runner extends Application {
 
   /** Initiates and processes the command line for the whole game. */
   public static void processCommandline() {
-    GameMap.getGameMap().setCurrentContext(Context.MAIN_MENU);
-    display("Welcome to risk game", false);
-    display("Type help to see available commands", false);
-    while (true) {
-      if (GameMap.getGameMap().getCurrentContext() == Context.GAME_END_OF_TURN) {
-        GameMap.numOfTurns++;
-        GameController.startPhaseLoop(GameMap.getGameMap());
-        continue;
-      }
-      String command = CLI.input.nextLine();
-      boolean commandStatus =
-          GameMap.getGameMap().getCurrentContext().runCommand(GameMap.getGameMap(), command.trim());
-      if (!commandStatus) {
-        display("Invalid command, use help to check the list of available commands", false);
-      }
-    }
+    HeadlessRunner.processCommands();
   }
 
   /**
@@ -131,10 +116,7 @@ public class Runner extends Application {
    * @param labelValue the name of the player.
    */
   public void updatePlayerLabel(String labelValue) {
-    Platform.runLater(
-        () -> {
-          rootPlayerLabel.setText(labelValue);
-        });
+    uiUpdater.update(rootPlayerLabel, () -> rootPlayerLabel.setText(labelValue));
   }
 
   /**
@@ -143,10 +125,7 @@ public class Runner extends Application {
    * @param labelValue the new string to be logged.
    */
   public void updatePhaseInfoLabel(String labelValue) {
-    Platform.runLater(
-        () -> {
-          rootPhaseInfoLabel.setText(labelValue);
-        });
+    uiUpdater.update(rootPhaseInfoLabel, () -> rootPhaseInfoLabel.setText(labelValue));
   }
 
   /**
@@ -155,10 +134,7 @@ public class Runner extends Application {
    * @param labelValue the new string for the phase.
    */
   public void updatePhaseLabel(String labelValue) {
-    Platform.runLater(
-        () -> {
-          rootPhaseNameLabel.setText(labelValue);
-        });
+    uiUpdater.update(rootPhaseNameLabel, () -> rootPhaseNameLabel.setText(labelValue));
   }
 
   /**
@@ -167,10 +143,8 @@ public class Runner extends Application {
    * @param labelValue the new values for the armies.
    */
   public void updateArmyLabel(String labelValue) {
-    Platform.runLater(
-        () -> {
-          rootArmyLabel.setText("Total Armies by Player:\n" + labelValue);
-        });
+    uiUpdater.update(
+        rootArmyLabel, () -> rootArmyLabel.setText("Total Armies by Player:\n" + labelValue));
   }
 
   /**
@@ -179,10 +153,8 @@ public class Runner extends Application {
    * @param labelValue the new values for the percentage controlled.
    */
   public void updateControlLabel(String labelValue) {
-    Platform.runLater(
-        () -> {
-          rootControlLabel.setText("%ge Control by Player:\n" + labelValue);
-        });
+    uiUpdater.update(
+        rootControlLabel, () -> rootControlLabel.setText("%ge Control by Player:\n" + labelValue));
   }
 
   /**
@@ -191,10 +163,9 @@ public class Runner extends Application {
    * @param labelValue the new values of the continents controlled.
    */
   public void updateContinentControlLabel(String labelValue) {
-    Platform.runLater(
-        () -> {
-          rootContinentLabel.setText("Continents Controlled By Player:\n" + labelValue);
-        });
+    uiUpdater.update(
+        rootContinentLabel,
+        () -> rootContinentLabel.setText("Continents Controlled By Player:\n" + labelValue));
   }
 
   /** Update the whole card view */
@@ -203,19 +174,21 @@ public class Runner extends Application {
     if (cardLabelStringsTempMap.containsKey(currPlayer)) {
       List<String> cardInHandStrings = cardLabelStringsTempMap.get(currPlayer);
       for (int i = 0; i < cardLabels.size(); i++) {
+        Label cardLabel = cardLabels.get(i);
         if (i < cardInHandStrings.size()) {
-          int finalI = i;
-          Platform.runLater(
+          String card = cardInHandStrings.get(i);
+          uiUpdater.update(
+              cardLabel,
               () -> {
-                cardLabels.get(finalI).setText(cardInHandStrings.get(finalI));
-                cardLabels.get(finalI).setVisible(true);
+                cardLabel.setText(card);
+                cardLabel.setVisible(true);
               });
         } else {
-          int finalI1 = i;
-          Platform.runLater(
+          uiUpdater.update(
+              cardLabel,
               () -> {
-                cardLabels.get(finalI1).setVisible(false);
-                cardLabels.get(finalI1).setText("");
+                cardLabel.setVisible(false);
+                cardLabel.setText("");
               });
         }
       }
@@ -352,7 +325,7 @@ public class Runner extends Application {
 
   /** Removes the card view from the screen. */
   public void clearCardView() {
-    cardLabels.forEach(cardLabel -> cardLabel.setVisible(false));
+    cardLabels.forEach(cardLabel -> uiUpdater.update(cardLabel, () -> cardLabel.setVisible(false)));
   }
 
   /**
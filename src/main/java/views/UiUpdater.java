@@ -0,0 +1,86 @@
+package views;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * The pipeline every view updates the GUI through. Only the latest update of each label is kept,
+ * and the pending updates are applied together on the UI thread at most a fixed number of times per
+ * second. A fast computer game then costs one task on the UI thread per frame, whatever the number
+ * of changes, and no thread is created per update.
+ *
+ * @version 1.0
+ */
+public final class UiUpdater {
+
+  /** Number of frames applied per second at most by default. */
+  public static final int DEFAULT_FRAMES_PER_SECOND = 30;
+
+  /** The latest update of every label, by label. */
+  private final Map<Object, Runnable> pendingUpdates = new ConcurrentHashMap<>();
+
+  /** True while a frame is scheduled and not applied yet. */
+  private final AtomicBoolean isFrameScheduled = new AtomicBoolean(false);
+
+  /** Runs the frames on the UI thread, i.e Platform.runLater. */
+  private final Executor uiThread;
+
+  /** Delays a frame until the previous one is a frame old, one daemon thread for the pipeline. */
+  private final ScheduledExecutorService scheduler;
+
+  /** Time between two frames. */
+  private final long frameNanos;
+
+  /** Time the last frame was applied, see System.nanoTime. */
+  private volatile long lastFrameNanos;
+
+  /**
+   * The constructor for a UiUpdater.
+   *
+   * @param uiThread runs the frames on the UI thread
+   * @param framesPerSecond number of frames applied per second at most
+   */
+  public UiUpdater(Executor uiThread, int framesPerSecond) {
+    this.uiThread = uiThread;
+    this.frameNanos = TimeUnit.SECONDS.toNanos(1) / framesPerSecond;
+    this.lastFrameNanos = System.nanoTime() - frameNanos;
+    this.scheduler =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "ui-updater");
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
+  /**
+   * Queues the update of a label, replacing the update of the label not applied yet.
+   *
+   * @param label the label, or any key for the part of the GUI updated
+   * @param update the update, run on the UI thread
+   */
+  public void update(Object label, Runnable update) {
+    pendingUpdates.put(label, update);
+    if (isFrameScheduled.compareAndSet(false, true)) {
+      long delay = Math.max(0, lastFrameNanos + frameNanos - System.nanoTime());
+      scheduler.schedule(() -> uiThread.execute(this::applyFrame), delay, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  /** Applies the pending updates, run on the UI thread. */
+  private void applyFrame() {
+    lastFrameNanos = System.nanoTime();
+    isFrameScheduled.set(false);
+    for (Object label : pendingUpdates.keySet()) {
+      Runnable update = pendingUpdates.remove(label);
+      if (update != null) {
+        update.run();
+      }
+    }
+  }
+}
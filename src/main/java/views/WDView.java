@@ -4,8 +4,6 @@ import models.GameMap;
 import models.WorldDomination;
 
 import java.util.*;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 /**
@@ -15,12 +13,18 @@ import java.util.stream.Collectors;
  * @version 1.0
  */
 public class WDView implements Observer {
-  /** Thread execution service. */
-  private final ExecutorService service = Executors.newCachedThreadPool();
-
   /** Instance of the Runner class. */
   private Runner appInstance;
 
+  /** The line of every player in the army label. */
+  private final Map<String, String> armyLines = new LinkedHashMap<>();
+
+  /** The line of every player in the control label. */
+  private final Map<String, String> controlLines = new LinkedHashMap<>();
+
+  /** The line of every player in the continent label. */
+  private final Map<String, String> continentLines = new LinkedHashMap<>();
+
   /**
    * Constructor for the WorldDomination view.
    *
@@ -31,10 +35,11 @@ public class WDView implements Observer {
   }
 
   /**
-   * The overridden update method for the observer.
+   * The overridden update method for the observer, only the lines of the players that changed are
+   * formatted again.
    *
    * @param o the Observable (WorldDomination in this scenario)
-   * @param arg the arg object is unused in this scenario.
+   * @param arg the names of the players whose figures changed, null to show every player again.
    */
   @Override
   public void update(Observable o, Object arg) {
@@ -42,37 +47,60 @@ public class WDView implements Observer {
     List<String> excludedContexts = Arrays.asList("MAIN_MENU", "MAP_EDITOR", "GAME_SETUP");
 
     if (!excludedContexts.contains(GameMap.getGameMap().getCurrentContext().name())) {
-      StringBuilder armyCountLabelString = new StringBuilder();
-      for (Map.Entry<String, Integer> entry :
-          worldDomination.getTotalArmiesOwnedByPlayer().entrySet()) {
-        String key = entry.getKey();
-        Integer val = entry.getValue();
-        armyCountLabelString.append(String.format("%s -- %d\n", key, val));
-      }
-      service.submit(() -> appInstance.updateArmyLabel(armyCountLabelString.toString()));
-
-      StringBuilder playerOwnershipLabelString = new StringBuilder();
-      for (Map.Entry<String, Double> entry :
-          worldDomination.getPlayerOwnerShipPercentage().entrySet()) {
-        String key = entry.getKey();
-        Double val = entry.getValue();
-        playerOwnershipLabelString.append(String.format("%s -- %.2f%%\n", key, val));
+      if (arg instanceof Set) {
+        for (Object playerName : (Set<?>) arg) {
+          updateLines(
+              (String) playerName,
+              worldDomination.getTotalArmies((String) playerName),
+              worldDomination.getOwnershipPercentage((String) playerName),
+              worldDomination.getContinentsOwned((String) playerName));
+        }
+      } else {
+        armyLines.clear();
+        controlLines.clear();
+        continentLines.clear();
+        Map<String, Double> ownershipPercentage = worldDomination.getPlayerOwnerShipPercentage();
+        Map<String, ArrayList<String>> continentsOwned =
+            worldDomination.getContinentsOwnedByPlayers();
+        for (Map.Entry<String, Integer> entry :
+            worldDomination.getTotalArmiesOwnedByPlayer().entrySet()) {
+          updateLines(
+              entry.getKey(),
+              entry.getValue(),
+              ownershipPercentage.get(entry.getKey()),
+              continentsOwned.get(entry.getKey()));
+        }
       }
-      service.submit(() -> appInstance.updateControlLabel(playerOwnershipLabelString.toString()));
+      String armyCountLabelString = String.join("", armyLines.values());
+      appInstance.updateArmyLabel(armyCountLabelString);
+      String playerOwnershipLabelString = String.join("", controlLines.values());
+      appInstance.updateControlLabel(playerOwnershipLabelString);
+      String playerContinentOwnershipLabelString = String.join("", continentLines.values());
+      appInstance.updateContinentControlLabel(playerContinentOwnershipLabelString);
+    }
+  }
 
-      StringBuilder playerContinentOwnershipLabelString = new StringBuilder();
-      for (Map.Entry<String, ArrayList<String>> entry :
-          worldDomination.getContinentsOwnedByPlayers().entrySet()) {
-        String key = entry.getKey();
-        ArrayList<String> val = entry.getValue();
-        String joinedVal = val.stream().collect(Collectors.joining("\n  "));
-        playerContinentOwnershipLabelString.append(
-            String.format("%s -- %s\n", key, joinedVal.isEmpty() ? "NO CONTINENT" : joinedVal));
-      }
-      service.submit(
-          () ->
-              appInstance.updateContinentControlLabel(
-                  playerContinentOwnershipLabelString.toString()));
+  /**
+   * Formats the lines of a player again.
+   *
+   * @param playerName name of the player
+   * @param armies total armies of the player, null if the player isn't in the game
+   * @param percentage ownership percentage of the player
+   * @param continents continents owned by the player
+   */
+  private void updateLines(
+      String playerName, Integer armies, Double percentage, ArrayList<String> continents) {
+    if (armies == null) {
+      armyLines.remove(playerName);
+      controlLines.remove(playerName);
+      continentLines.remove(playerName);
+      return;
     }
+    armyLines.put(playerName, String.format("%s -- %d\n", playerName, armies));
+    controlLines.put(playerName, String.format("%s -- %.2f%%\n", playerName, percentage));
+    String joinedVal = continents.stream().collect(Collectors.joining("\n  "));
+    continentLines.put(
+        playerName,
+        String.format("%s -- %s\n", playerName, joinedVal.isEmpty() ? "NO CONTINENT" : joinedVal));
   }
 }
@@ -1,24 +1,36 @@
 import controllers.*;
+import models.BoardStateTest;
+import models.ChangeBatcherTest;
+import models.ContextTest;
 import models.GameMapTest;
+import models.PhaseLogTest;
 import models.player.*;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 import utils.ConquestMapParserTest;
 import utils.DominationMapParserTest;
 import utils.GamePersistenceHandlerTest;
+import utils.GameJournalTest;
+import utils.TournamentStatisticsTest;
+import utils.MapCacheTest;
 import utils.MapValidatorTest;
+import utils.StreamingMapParserTest;
+import views.UiUpdaterTest;
 
 /** Test Suite Runner for Risk */
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
         TournamentControllerTest.class,
         BattleControllerTest.class,
+  BattleOutcomeTableTest.class,
   EditorControllerTest.class,
   GameControllerTest.class,
   RunnerTest.class,
+  HeadlessRunnerTest.class,
   MainControllerTest.class,
   StartUpControllerTest.class,
   SetupControllerTest.class,
+  ReplayControllerTest.class,
   PlayerAggressiveTest.class,
   PlayerTest.class,
   PlayerCheaterTest.class,
@@ -26,8 +38,17 @@ import utils.MapValidatorTest;
   PlayerBenevolentTest.class,
   MapValidatorTest.class,
   GameMapTest.class,
+  ContextTest.class,
+  BoardStateTest.class,
+  ChangeBatcherTest.class,
+  PhaseLogTest.class,
   ConquestMapParserTest.class,
   GamePersistenceHandlerTest.class,
-  DominationMapParserTest.class
+  DominationMapParserTest.class,
+  StreamingMapParserTest.class,
+  MapCacheTest.class,
+  GameJournalTest.class,
+  UiUpdaterTest.class,
+  TournamentStatisticsTest.class
 })
 public class RiskTestSuite {}
@@ -10,6 +10,7 @@ import utils.MapParser;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Map;
 
 import static junit.framework.TestCase.assertEquals;
@@ -53,7 +54,7 @@ public class BattleControllerTest {
     gameMap.gameSetup();
     gameMap.placeAll();
     gameMap.setCurrentContext(Context.GAME_ATTACK);
-    GameMap.setCurrentPlayerIndex(0);
+    gameMap.getSession().setCurrentPlayerIndex(0);
     countries = gameMap.getCountries();
   }
 
@@ -175,4 +176,38 @@ public class BattleControllerTest {
     reason = "India had 4 armies, after successful defense it loses 1";
     assertEquals(3, India.getNumberOfArmies());
   }
+
+  /** validate the sorting network of the dice kernel */
+  @Test
+  public void sortDice() {
+    int[][] rolls = {{1, 2, 3}, {1, 3, 2}, {2, 1, 3}, {2, 3, 1}, {3, 1, 2}, {3, 2, 1}};
+    for (int[] dice : rolls) {
+      BattleController.sortDescending(dice, 3);
+      reason = "Dice should be sorted highest first";
+      assertEquals(reason, "[3, 2, 1]", Arrays.toString(dice));
+    }
+    int[] dice = {4, 6, 5};
+    BattleController.sortDescending(dice, 2);
+    reason = "Only the rolled dice should be sorted";
+    assertEquals(reason, "[6, 4, 5]", Arrays.toString(dice));
+  }
+
+  /** validate the comparison of the dice kernel */
+  @Test
+  public void countDefenderLosses() {
+    reason = "Ties go to the defender";
+    assertEquals(
+        reason,
+        1,
+        BattleController.countDefenderLosses(new int[] {6, 4, 1}, 3, new int[] {5, 4}, 2));
+    reason = "Only as many dice as the smaller roll are compared";
+    assertEquals(
+        reason,
+        1,
+        BattleController.countDefenderLosses(new int[] {6, 4, 1}, 3, new int[] {5, 4}, 1));
+    assertEquals(
+        reason,
+        0,
+        BattleController.countDefenderLosses(new int[] {3, 1, 1}, 1, new int[] {3, 2}, 2));
+  }
 }
@@ -0,0 +1,153 @@
+package controllers;
+
+import models.Context;
+import models.Country;
+import models.GameMap;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import utils.DominationMapParser;
+import utils.MapParser;
+import views.ConsoleView;
+import views.LogLevel;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * test class to check the functionalities of BattleOutcomeTable.java {@link BattleOutcomeTable}
+ *
+ * @see controllers.BattleOutcomeTable
+ */
+public class BattleOutcomeTableTest {
+
+  public static final String PLAYER_1 = "Player1";
+  public static final String PLAYER_2 = "Player2";
+  public static final String INDIA = "India";
+  public static final String CHINA = "China";
+
+  /** number of battles simulated for each distribution */
+  private static final int NUM_OF_BATTLES = 20000;
+
+  /** chi-square critical value for 8 degrees of freedom at p = 0.001 */
+  private static final double CHI_SQUARE_CRITICAL = 26.12;
+
+  /** reason for failure */
+  String reason;
+
+  /** store game state */
+  private GameMap gameMap;
+
+  /** log level before the test */
+  private LogLevel previousLogLevel;
+
+  /**
+   * Sets up context for the test
+   *
+   * @throws Exception when map file is invalid
+   */
+  @Before
+  public void setUp() throws Exception {
+    File riskMap = new File("src/test/resources/risk.map");
+    MapParser mapParser = new DominationMapParser();
+    gameMap = mapParser.loadMap(riskMap.getPath());
+    reason = "";
+    gameMap.setPlayersList(new ArrayList<>());
+    gameMap.addGamePlayer(PLAYER_1, "human");
+    gameMap.addGamePlayer(PLAYER_2, "human");
+    gameMap.setCurrentContext(Context.GAME_SETUP);
+    gameMap.gameSetup();
+    gameMap.placeAll();
+    gameMap.getSession().setCurrentPlayerIndex(0);
+    gameMap.getSession().setRandomGenerator(42);
+    previousLogLevel = ConsoleView.getLogLevel();
+    ConsoleView.setLogLevel(LogLevel.OFF);
+  }
+
+  /** Restores the log level */
+  @After
+  public void tearDown() {
+    ConsoleView.setLogLevel(previousLogLevel);
+  }
+
+  /** check the outcomes of a single round against the known odds */
+  @Test
+  public void singleRoundOutcomes() {
+    double[] distribution = BattleOutcomeTable.getOutcomeDistribution(1, 1);
+    reason = "One die against one die is won by the attacker 15 times out of 36";
+    assertEquals(reason, 15.0 / 36, distribution[0], 1e-12);
+    assertEquals(reason, 21.0 / 36, distribution[1], 1e-12);
+    distribution = BattleOutcomeTable.getOutcomeDistribution(3, 2);
+    reason = "Three dice against two dice win both comparisons 2890 times out of 7776";
+    assertEquals(reason, 2890.0 / 7776, distribution[2], 1e-12);
+  }
+
+  /** check if every outcome distribution sums to one */
+  @Test
+  public void outcomesSumToOne() {
+    for (int attackers = 1; attackers <= 30; attackers++) {
+      for (int defenders = 1; defenders <= 30; defenders++) {
+        double sum =
+            Arrays.stream(BattleOutcomeTable.getOutcomeDistribution(attackers, defenders)).sum();
+        reason = String.format("Outcomes of %d against %d should sum to one", attackers, defenders);
+        assertEquals(reason, 1, sum, 1e-9);
+      }
+    }
+  }
+
+  /** check if round by round all-out battles follow the outcome distribution */
+  @Test
+  public void roundByRoundMatchesDistribution() {
+    gameMap.getSession().setAllOutSampled(false);
+    assertOutcomesMatchDistribution(5, 4);
+  }
+
+  /** check if sampled all-out battles follow the outcome distribution */
+  @Test
+  public void sampledMatchesDistribution() {
+    gameMap.getSession().setAllOutSampled(true);
+    assertOutcomesMatchDistribution(5, 4);
+  }
+
+  /**
+   * Plays all-out battles from India to China and compares the final armies with the outcome
+   * distribution using a chi-square test.
+   *
+   * @param attackers armies that can attack from India
+   * @param defenders armies in China
+   */
+  private void assertOutcomesMatchDistribution(int attackers, int defenders) {
+    Country india = gameMap.getCountries().get(INDIA);
+    Country china = gameMap.getCountries().get(CHINA);
+    int[] observed = new int[attackers + defenders];
+    for (int battle = 0; battle < NUM_OF_BATTLES; battle++) {
+      india.setOwnerName(PLAYER_1);
+      india.setNumberOfArmies(attackers + 1);
+      china.setOwnerName(PLAYER_2);
+      china.setNumberOfArmies(defenders);
+      gameMap.setCurrentContext(Context.GAME_ATTACK);
+      BattleController battleController =
+          new BattleController(gameMap, String.format("attack %s %s -allout", INDIA, CHINA));
+      battleController.setNoInputEnabled(true);
+      battleController.setNumOfArmiesToMove(1);
+      battleController.startBattle();
+      if (china.getOwnerName().equals(PLAYER_1)) {
+        observed[india.getNumberOfArmies() + china.getNumberOfArmies() - 2]++;
+      } else {
+        observed[attackers + china.getNumberOfArmies() - 1]++;
+      }
+    }
+    double[] distribution = BattleOutcomeTable.getOutcomeDistribution(attackers, defenders);
+    double chiSquare = 0;
+    for (int i = 0; i < observed.length; i++) {
+      double expected = distribution[i] * NUM_OF_BATTLES;
+      chiSquare += Math.pow(observed[i] - expected, 2) / expected;
+    }
+    reason = String.format("Chi-square %.2f exceeds %.2f", chiSquare, CHI_SQUARE_CRITICAL);
+    assertTrue(reason, chiSquare < CHI_SQUARE_CRITICAL);
+  }
+}
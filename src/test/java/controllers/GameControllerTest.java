@@ -66,7 +66,7 @@ public class GameControllerTest {
     gameMap.gameSetup();
     gameMap.placeAll();
     gameMap.setCurrentContext(Context.GAME_ATTACK);
-    GameMap.setCurrentPlayerIndex(0);
+    gameMap.getSession().setCurrentPlayerIndex(0);
     countries = gameMap.getCountries();
   }
 
@@ -103,9 +103,9 @@ public class GameControllerTest {
   /** Test to check whether the card set is valid */
   @Test
   public void exchangeCardsTest() {
-    Card card1 = new Card(INDIA);
-    Card card2 = new Card(CHINA);
-    Card card3 = new Card(QUEBEC);
+    Card card1 = new Card(INDIA, Card.typeOfCard.INFANTRY);
+    Card card2 = new Card(CHINA, Card.typeOfCard.CAVALRY);
+    Card card3 = new Card(QUEBEC, Card.typeOfCard.ARTILLERY);
     ArrayList<Card> cardsInHand = new ArrayList<>();
     cardsInHand.add(card1);
     cardsInHand.add(card2);
@@ -0,0 +1,57 @@
+package controllers;
+
+import models.Context;
+import models.GameMap;
+import org.junit.After;
+import org.junit.Test;
+import utils.CLI;
+import views.HeadlessRunner;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Scanner;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * test class to check the functionalities of HeadlessRunner.java {@link views.HeadlessRunner}
+ */
+public class HeadlessRunnerTest {
+
+  /** the CLI input before the test */
+  private final Scanner previousInput = CLI.input;
+
+  /** gives the CLI input back */
+  @After
+  public void tearDown() {
+    CLI.input = previousInput;
+  }
+
+  /** check if the commands are run until the input ends, skipping blank lines and comments */
+  @Test
+  public void processCommands() {
+    runScript("# open the map\n\neditmap src/test/resources/risk.map\nvalidatemap\n");
+    assertEquals(Context.MAP_EDITOR, GameMap.getGameMap().getCurrentContext());
+  }
+
+  /** check if a tournament is played from a command script */
+  @Test
+  public void processTournamentCommand() {
+    String mapPath = Paths.get("src/test/resources/risk.map").toAbsolutePath().toString();
+    int games = TournamentController.resultTable.getOrDefault(mapPath, new ArrayList<>()).size();
+    runScript(String.format("tournament -M %s -P cheater benevolent -G 2 -D 50 -S 7\n", mapPath));
+    assertEquals(games + 2, TournamentController.resultTable.get(mapPath).size());
+  }
+
+  /**
+   * runs a command script headlessly
+   *
+   * @param script the commands
+   */
+  private void runScript(String script) {
+    CLI.setInput(new ByteArrayInputStream(script.getBytes(StandardCharsets.UTF_8)));
+    HeadlessRunner.processCommands();
+  }
+}
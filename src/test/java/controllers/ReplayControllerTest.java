@@ -0,0 +1,86 @@
+package controllers;
+
+import models.GameMap;
+import org.junit.Before;
+import org.junit.Test;
+import utils.GameRecording;
+import utils.GameRecording.Checkpoint;
+
+import java.io.File;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * test class to check the functionalities of ReplayController.java {@link ReplayController}
+ */
+public class ReplayControllerTest {
+
+  /** a recorded game of a random and an aggressive player */
+  private GameRecording recording;
+
+  /** records a game */
+  @Before
+  public void setUp() {
+    recording =
+        ReplayController.record(
+            "src/test/resources/risk.map", new String[] {"random", "aggressive"}, 42, 30, false);
+  }
+
+  /**
+   * check if a recorded game saved and loaded again is played the same way
+   *
+   * @throws Exception when the recording can't be saved or loaded
+   */
+  @Test
+  public void replayMatchesRecording() throws Exception {
+    assertNotNull(recording.getWinner());
+    assertFalse(recording.getCheckpoints().isEmpty());
+    File file = File.createTempFile("recording-test", ".replay");
+    file.deleteOnExit();
+    recording.save(file.getPath());
+    GameRecording loadedRecording = GameRecording.load(file.getPath());
+    assertEquals(recording.getCheckpoints(), loadedRecording.getCheckpoints());
+    assertNull(ReplayController.findDivergence(loadedRecording));
+  }
+
+  /** check if the first checkpoint that differs is found */
+  @Test
+  public void findDivergence() {
+    List<Checkpoint> checkpoints = recording.getCheckpoints();
+    int index = checkpoints.size() / 2;
+    Checkpoint checkpoint = checkpoints.get(index);
+    Checkpoint changed =
+        new Checkpoint(
+            checkpoint.getTurn(),
+            checkpoint.getContext(),
+            checkpoint.getPlayerName(),
+            checkpoint.getDigest() + 1);
+    checkpoints.set(index, changed);
+    assertEquals(changed, ReplayController.findDivergence(recording));
+    assertTrue(ReplayController.matchesUntil(recording, checkpoint.getTurn()));
+    assertFalse(ReplayController.matchesUntil(recording, checkpoint.getTurn() + 1));
+  }
+
+  /** check if seeking to a turn gives the game as recorded at the end of the previous turn */
+  @Test
+  public void seek() {
+    int turn =
+        Math.max(
+            1, recording.getCheckpoints().get(recording.getCheckpoints().size() / 2).getTurn());
+    GameMap gameMap = ReplayController.seek(recording, turn);
+    assertEquals(turn, gameMap.getSession().getNumOfTurns());
+    Checkpoint lastOfPreviousTurn = null;
+    for (Checkpoint checkpoint : recording.getCheckpoints()) {
+      if (checkpoint.getTurn() == turn - 1) {
+        lastOfPreviousTurn = checkpoint;
+      }
+    }
+    assertNotNull(lastOfPreviousTurn);
+    assertEquals(lastOfPreviousTurn.getDigest(), ReplayController.digest(gameMap));
+  }
+}
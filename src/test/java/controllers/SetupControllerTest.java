@@ -62,7 +62,7 @@ public class SetupControllerTest {
     gameMap.gameSetup();
     gameMap.placeAll();
     gameMap.setCurrentContext(Context.GAME_ATTACK);
-    GameMap.setCurrentPlayerIndex(0);
+    gameMap.getSession().setCurrentPlayerIndex(0);
     countries = gameMap.getCountries();
   }
 
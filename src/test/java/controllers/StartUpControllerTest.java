@@ -66,7 +66,7 @@ public class StartUpControllerTest {
     gameMap.setCurrentContext(Context.GAME_SETUP);
     gameMap.gameSetup();
     gameMap.setCurrentContext(Context.GAME_ATTACK);
-    GameMap.setCurrentPlayerIndex(0);
+    gameMap.getSession().setCurrentPlayerIndex(0);
     countries = gameMap.getCountries();
   }
 
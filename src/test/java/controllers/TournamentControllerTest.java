@@ -4,20 +4,30 @@ import models.GameMap;
 import models.player.Player;
 import org.hamcrest.MatcherAssert;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import utils.DominationMapParser;
 import utils.MapParser;
+import views.LogLevel;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.PrintStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.containsString;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 /**
  * test class to check the functionalities of TournamentController.java {@link TournamentController}
  *
@@ -35,6 +45,8 @@ public class TournamentControllerTest {
    */
   private static Map<String, ArrayList<String>> resultTable = new HashMap<>();
 
+  /** a folder for the result files, deleted after each test */
+  @Rule public TemporaryFolder folder = new TemporaryFolder();
 
 
   @Test
@@ -47,4 +59,123 @@ public class TournamentControllerTest {
     String winner = resultTable.values().stream().findFirst().get().get(0);
     assertThat(winner, containsString("CHEATER"));
   }
-}
\ No newline at end of file
+
+  /** check if every game of a tournament played on multiple workers is recorded */
+  @Test
+  public void startTournamentOnWorkers() {
+    String riskMapPath = Paths.get("src/test/resources/risk.map").toAbsolutePath().toString();
+    String simpleMapPath = Paths.get("src/test/resources/simple.map").toAbsolutePath().toString();
+    String command =
+        String.format(
+            "tournament -M %s %s -P cheater benevolent -G 3 -D 50", riskMapPath, simpleMapPath);
+    TournamentController.numberOfWorkersProperty = 4;
+    int riskMapGames =
+        TournamentController.resultTable.getOrDefault(riskMapPath, new ArrayList<>()).size();
+    int simpleMapGames =
+        TournamentController.resultTable.getOrDefault(simpleMapPath, new ArrayList<>()).size();
+    TournamentController.startTournament(null, command);
+    resultTable = TournamentController.resultTable;
+    assertEquals(riskMapGames + 3, resultTable.get(riskMapPath).size());
+    assertEquals(simpleMapGames + 3, resultTable.get(simpleMapPath).size());
+    for (String winner : resultTable.get(riskMapPath)) {
+      assertThat(winner, containsString("CHEATER"));
+    }
+  }
+
+  /** check if a tournament played twice with the same seed has the same winners */
+  @Test
+  public void startTournamentWithSeed() {
+    String mapPath = Paths.get("src/test/resources/risk.map").toAbsolutePath().toString();
+    String command =
+        String.format("tournament -M %s -P random aggressive -G 5 -D 30 -S 42", mapPath);
+    TournamentController.numberOfWorkersProperty = 4;
+    ArrayList<String> winners = new ArrayList<>();
+    for (int run = 0; run < 2; run++) {
+      TournamentController.resultTable.remove(mapPath);
+      TournamentController.startTournament(null, command);
+      winners.addAll(TournamentController.resultTable.get(mapPath));
+    }
+    assertEquals(winners.subList(0, 5), winners.subList(5, 10));
+  }
+
+  /** check if the result of every game is written with the statistics of its battles */
+  @Test
+  public void startTournamentWithResults() throws Exception {
+    String mapPath = Paths.get("src/test/resources/risk.map").toAbsolutePath().toString();
+    File resultFile = folder.newFile("results.csv");
+    String command =
+        String.format("tournament -M %s -P random aggressive -G 3 -D 30 -S 42", mapPath);
+    TournamentController.resultFileProperty = resultFile.getPath();
+    // the winners of this tournament are kept out of the results table of the other tests
+    ArrayList<String> winners = TournamentController.resultTable.remove(mapPath);
+    try {
+      TournamentController.startTournament(null, command);
+    } finally {
+      TournamentController.resultFileProperty = null;
+      TournamentController.resultTable.remove(mapPath);
+      if (winners != null) {
+        TournamentController.resultTable.put(mapPath, winners);
+      }
+    }
+    List<String> lines = Files.readAllLines(resultFile.toPath());
+    assertEquals(4, lines.size());
+    for (String line : lines.subList(1, lines.size())) {
+      String[] fields = line.split(",");
+      assertEquals(mapPath, fields[0]);
+      assertTrue(Integer.parseInt(fields[8]) > 0);
+      assertTrue(Long.parseLong(fields[10]) > 0);
+    }
+  }
+
+  /** check if a result file that can't be written is reported whatever the log level */
+  @Test
+  public void reportUnwritableResultFile() throws Exception {
+    String mapPath = Paths.get("src/test/resources/risk.map").toAbsolutePath().toString();
+    String command =
+        String.format("tournament -M %s -P random aggressive -G 1 -D 30 -S 42", mapPath);
+    ByteArrayOutputStream errors = new ByteArrayOutputStream();
+    PrintStream previousErr = System.err;
+    LogLevel previousLogLevel = TournamentController.logLevelProperty;
+    // a directory can't be opened as the result file
+    TournamentController.resultFileProperty = folder.getRoot().getPath();
+    TournamentController.logLevelProperty = LogLevel.OFF;
+    System.setErr(new PrintStream(errors, true));
+    try {
+      assertFalse(TournamentController.startTournament(null, command));
+    } finally {
+      System.setErr(previousErr);
+      TournamentController.resultFileProperty = null;
+      TournamentController.logLevelProperty = previousLogLevel;
+    }
+    assertThat(errors.toString(), containsString("Results couldn't be written"));
+  }
+
+  /** check if the record and log directories are created and maps with the same name keep apart */
+  @Test
+  public void keepGameFilesInNewDirectories() throws Exception {
+    File firstMap = new File(folder.newFolder("a"), "risk.map");
+    File secondMap = new File(folder.newFolder("b"), "risk.map");
+    Files.copy(Paths.get("src/test/resources/risk.map"), firstMap.toPath());
+    Files.copy(Paths.get("src/test/resources/risk.map"), secondMap.toPath());
+    File recordDirectory = new File(folder.getRoot(), "games/replays");
+    File logDirectory = new File(folder.getRoot(), "games/logs");
+    String command =
+        String.format(
+            "tournament -M %s %s -P random aggressive -G 1 -D 10 -S 42",
+            firstMap.getPath(), secondMap.getPath());
+    TournamentController.recordDirectoryProperty = recordDirectory.getPath();
+    TournamentController.logDirectoryProperty = logDirectory.getPath();
+    try {
+      assertTrue(TournamentController.startTournament(null, command));
+    } finally {
+      TournamentController.recordDirectoryProperty = null;
+      TournamentController.logDirectoryProperty = null;
+      TournamentController.resultTable.remove(firstMap.getPath());
+      TournamentController.resultTable.remove(secondMap.getPath());
+    }
+    assertTrue(new File(recordDirectory, "1-risk.map-1.replay").isFile());
+    assertTrue(new File(recordDirectory, "2-risk.map-1.replay").isFile());
+    assertTrue(new File(logDirectory, "1-risk.map-1.log.gz").isFile());
+    assertTrue(new File(logDirectory, "2-risk.map-1.log.gz").isFile());
+  }
+}
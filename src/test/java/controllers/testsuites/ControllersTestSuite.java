@@ -8,12 +8,15 @@ import org.junit.runners.Suite;
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
   BattleControllerTest.class,
+  BattleOutcomeTableTest.class,
   GameControllerTest.class,
   EditorControllerTest.class,
   RunnerTest.class,
+  HeadlessRunnerTest.class,
   MainControllerTest.class,
   SetupControllerTest.class,
   StartUpControllerTest.class,
+  ReplayControllerTest.class,
         TournamentControllerTest.class
 })
 public class ControllersTestSuite {}
@@ -0,0 +1,90 @@
+package models;
+
+import org.junit.Before;
+import org.junit.Test;
+import utils.DominationMapParser;
+
+import java.util.ArrayList;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * test class to check the functionalities of BoardState.java
+ *
+ * @see models.BoardState
+ */
+public class BoardStateTest {
+
+  /** game the board is captured from */
+  private GameMap gameMap;
+
+  /**
+   * loads the risk map and places the armies of two players
+   *
+   * @throws Exception when map location is invalid
+   */
+  @Before
+  public void setUp() throws Exception {
+    gameMap = new DominationMapParser().loadMap("src/test/resources/risk.map");
+    gameMap.setPlayersList(new ArrayList<>());
+    gameMap.addGamePlayer("Player1", "human");
+    gameMap.addGamePlayer("Player2", "human");
+    gameMap.getSession().setRandomGenerator(42);
+    gameMap.gameSetup();
+    gameMap.placeAll();
+  }
+
+  /** check if the captured board has the owners and armies of the countries */
+  @Test
+  public void capture() {
+    BoardState boardState = BoardState.capture(gameMap);
+    MapTopology topology = gameMap.getTopology();
+    assertSame(topology, boardState.getTopology());
+    assertEquals(2, boardState.getNumberOfPlayers());
+    for (int id = 0; id < topology.getNumberOfCountries(); id++) {
+      Country country = gameMap.getCountry(id);
+      assertEquals(country.getOwnerName(), boardState.getOwnerName(id));
+      assertEquals(country.getNumberOfArmies(), boardState.getArmies(id));
+    }
+  }
+
+  /** check if a copied board is restored after the game goes on */
+  @Test
+  public void copyAndRestore() {
+    BoardState boardState = BoardState.capture(gameMap);
+    BoardState saved = boardState.copy();
+    int indiaId = gameMap.getTopology().getCountryId("India");
+    String owner = gameMap.getCountry(indiaId).getOwnerName();
+    String otherPlayer = owner.equals("Player1") ? "Player2" : "Player1";
+
+    boardState.setArmies(indiaId, 99);
+    assertNotEquals(saved, boardState);
+
+    gameMap.getCountry(indiaId).setOwnerName(otherPlayer);
+    gameMap.getCountry(indiaId).setNumberOfArmies(1);
+    saved.restore(gameMap);
+    assertEquals(owner, gameMap.getCountry(indiaId).getOwnerName());
+    assertEquals(saved.getArmies(indiaId), gameMap.getCountry(indiaId).getNumberOfArmies());
+    assertEquals(saved, BoardState.capture(gameMap));
+    assertEquals(
+        countPlayer1Countries(saved), gameMap.getOwnership().getNumberOfCountries("Player1"));
+  }
+
+  /**
+   * Counts the countries of Player1 on a board.
+   *
+   * @param boardState the board
+   * @return the number of countries.
+   */
+  private int countPlayer1Countries(BoardState boardState) {
+    int count = 0;
+    for (int id = 0; id < boardState.getTopology().getNumberOfCountries(); id++) {
+      if ("Player1".equals(boardState.getOwnerName(id))) {
+        count++;
+      }
+    }
+    return count;
+  }
+}
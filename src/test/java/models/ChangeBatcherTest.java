@@ -0,0 +1,131 @@
+package models;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import utils.DominationMapParser;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Observer;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * test class to check the functionalities of ChangeBatcher.java
+ *
+ * @see models.ChangeBatcher
+ */
+public class ChangeBatcherTest {
+
+  /** the game the notifications are coalesced for */
+  private GameMap gameMap;
+
+  /** the notifications received, in order */
+  private List<Object> notifications;
+
+  /** records every notification */
+  private Observer observer;
+
+  /**
+   * loads the risk map and places the armies of two players
+   *
+   * @throws Exception when map location is invalid
+   */
+  @Before
+  public void setUp() throws Exception {
+    gameMap = new DominationMapParser().loadMap("src/test/resources/risk.map");
+    GameMap.modifyInstance(gameMap);
+    gameMap.setPlayersList(new ArrayList<>());
+    gameMap.addGamePlayer("Player1", "human");
+    gameMap.addGamePlayer("Player2", "human");
+    gameMap.getSession().setRandomGenerator(42);
+    gameMap.gameSetup();
+    gameMap.placeAll();
+    gameMap.setCurrentContext(Context.GAME_ATTACK);
+    notifications = Collections.synchronizedList(new ArrayList<>());
+    observer = (observable, arg) -> notifications.add(arg);
+  }
+
+  /** stops observing the game */
+  @After
+  public void tearDown() {
+    gameMap.deleteObserver(observer);
+    WorldDomination.getInstance().deleteObserver(observer);
+  }
+
+  /** check if the lines logged are notified together, before the phase changes */
+  @Test
+  public void coalescePhaseLog() {
+    gameMap.addObserver(observer);
+    PhaseLog.Cursor cursor = gameMap.getPhaseLogEntries().cursor();
+    cursor.read();
+    for (int i = 0; i < 1000; i++) {
+      gameMap.setPhaseLog("line " + i, false);
+    }
+    gameMap.setCurrentContext(Context.GAME_FORTIFY);
+
+    assertTrue(notifications.size() < 1000);
+    for (Object notification : notifications.subList(0, notifications.size() - 1)) {
+      assertEquals("PHASE_LOG", notification);
+    }
+    assertEquals("CURRENT_CONTEXT", notifications.get(notifications.size() - 1));
+    List<PhaseLog.Entry> entries = cursor.read();
+    assertEquals(1000, entries.size());
+    assertEquals("line 999", entries.get(999).getText());
+  }
+
+  /** check if only the players whose figures changed are notified */
+  @Test
+  public void coalesceWorldDomination() {
+    WorldDomination worldDomination = WorldDomination.getInstance();
+    worldDomination.addObserver(observer);
+    Country country = gameMap.getCountry(0);
+    String owner = country.getOwnerName();
+    int armies = country.getNumberOfArmies();
+    // the first flush computes the figures of every player
+    country.setNumberOfArmies(armies);
+    gameMap.getSession().getChangeBatcher().flush();
+    assertEquals(2, ((Set<?>) notifications.get(0)).size());
+    notifications.clear();
+
+    for (int i = 1; i <= 100; i++) {
+      country.setNumberOfArmies(armies + i);
+    }
+    gameMap.getSession().getChangeBatcher().flush();
+
+    assertTrue(notifications.size() < 100);
+    assertEquals(Collections.singleton(owner), notifications.get(notifications.size() - 1));
+    assertEquals(
+        worldDomination.getTotalArmiesOwnedByPlayer().get(owner),
+        worldDomination.getTotalArmies(owner));
+  }
+
+  /**
+   * check if changing a country of another map leaves the World Domination model of the game alone
+   *
+   * @throws Exception when map location is invalid
+   */
+  @Test
+  public void ignoreOtherMaps() throws Exception {
+    WorldDomination worldDomination = gameMap.getSession().getWorldDomination();
+    worldDomination.addObserver(observer);
+    gameMap.getCountry(0).setNumberOfArmies(gameMap.getCountry(0).getNumberOfArmies());
+    gameMap.getSession().getChangeBatcher().flush();
+    notifications.clear();
+
+    // the parser loads into the game of the current thread
+    GameMap.modifyInstance(new GameMap());
+    GameMap otherMap = new DominationMapParser().loadMap("src/test/resources/risk.map");
+    GameMap.modifyInstance(gameMap);
+    Country country = otherMap.getCountry(0);
+    country.setOwnerName("Player1");
+    country.setNumberOfArmies(10);
+    gameMap.getSession().getChangeBatcher().flush();
+
+    assertTrue(notifications.isEmpty());
+  }
+}
@@ -0,0 +1,73 @@
+package models;
+
+import org.junit.Test;
+
+import java.util.Optional;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * test class to check the command dispatch of Context.java and Command.java
+ *
+ * @see models.Context
+ * @see models.Command
+ */
+public class ContextTest {
+
+  /** reason for failure */
+  private String reason;
+
+  /** check if commands are dispatched by their first word */
+  @Test
+  public void getMatchedCommand() {
+    reason = "attack should match the attack command in the attack phase";
+    assertEquals(
+        reason,
+        Optional.of(Command.ATTACK),
+        Context.GAME_ATTACK.getMatchedCommand("attack India China -allout"));
+    reason = "help should be available in every phase";
+    assertEquals(
+        reason, Optional.of(Command.GAME_HELP), Context.GAME_ATTACK.getMatchedCommand("help"));
+    reason = "reinforce should not be valid in the attack phase";
+    assertFalse(reason, Context.GAME_ATTACK.validate("reinforce India 3"));
+    reason = "a malformed attack should not be valid";
+    assertFalse(reason, Context.GAME_ATTACK.validate("attack India"));
+  }
+
+  /** check if the capture groups of a command are returned */
+  @Test
+  public void parse() {
+    ParsedCommand parsedCommand = Context.GAME_FORTIFY.parse("fortify India China 4").get();
+    reason = "fortify should be parsed into its countries and armies";
+    assertEquals(reason, Command.FORTIFY, parsedCommand.getCommand());
+    assertEquals(reason, "India", parsedCommand.group(2));
+    assertEquals(reason, "China", parsedCommand.group(3));
+    assertEquals(reason, 4, parsedCommand.intGroup(4));
+
+    parsedCommand = Context.GAME_FORTIFY.parse("fortify -none").get();
+    reason = "fortify -none should have no countries";
+    assertEquals(reason, "-none", parsedCommand.group(1));
+    assertNull(reason, parsedCommand.group(2));
+
+    reason = "loadmap should keep spaces in the file location";
+    assertEquals(
+        reason,
+        "maps/my map.map",
+        Context.MAIN_MENU.parse("loadmap maps/my map.map").get().group(1));
+
+    reason = "an unknown command should not be parsed";
+    assertFalse(reason, Context.GAME_FORTIFY.parse("fortifyall").isPresent());
+  }
+
+  /** check if the keyword of every command is its first word */
+  @Test
+  public void getKeyword() {
+    for (Command command : Command.values()) {
+      reason = command + " should start with its keyword";
+      assertTrue(reason, command.getUsage().startsWith(command.getKeyword()));
+    }
+  }
+}
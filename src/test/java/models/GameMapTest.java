@@ -7,6 +7,7 @@ import utils.MapParser;
 import utils.MapValidator;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
@@ -16,7 +17,10 @@ import static java.util.stream.Collectors.toSet;
 import static org.hamcrest.CoreMatchers.hasItem;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 /**
  * test class to check the functionalities of GameMap.java
@@ -217,4 +221,89 @@ public class GameMapTest {
     reason = "No duplicate country names must exist";
     assertFalse(reason, MapValidator.validateMap(gameMap));
   }
+
+  /** check that the counters of one game do not leak into another */
+  @Test
+  public void sessionsAreIndependent() {
+    //  Arrange
+    GameMap otherGameMap = new GameMap();
+    int cardCount = gameMap.getSession().getCardCount();
+    //  Act
+    gameMap.getSession().setNumberOfTradedSet(2);
+    gameMap.getSession().setCurrentPlayerIndex(1);
+    GameMap.buildDeck(gameMap);
+    //  Assert
+    reason = "A new game should start with its own counters";
+    assertEquals(reason, 0, otherGameMap.getSession().getNumberOfTradedSet());
+    assertEquals(reason, 0, otherGameMap.getSession().getCurrentPlayerIndex());
+    assertEquals(reason, 0, otherGameMap.getSession().getCardCount());
+    reason = "Building the deck should count the cards of its own game";
+    assertEquals(
+        reason, cardCount + gameMap.getCountries().size(), gameMap.getSession().getCardCount());
+  }
+
+  /** check if the compiled topology has the same adjacency as the borders */
+  @Test
+  public void topologyMatchesBorders() {
+    // Act
+    MapTopology topology = gameMap.getTopology();
+    // Assert
+    reason = "Every country should have an id";
+    assertEquals(reason, gameMap.getCountries().size(), topology.getNumberOfCountries());
+    for (Map.Entry<String, Set<String>> border : gameMap.getBorders().entrySet()) {
+      int countryId = topology.getCountryId(border.getKey());
+      reason = border.getKey() + " should have the same neighbors as in borders";
+      assertEquals(reason, border.getValue().size(), topology.getNumberOfNeighbors(countryId));
+      for (String neighborName : border.getValue()) {
+        assertTrue(reason, topology.areNeighbors(countryId, topology.getCountryId(neighborName)));
+      }
+      reason = border.getKey() + " should be found by its id";
+      assertEquals(
+          reason, gameMap.getCountries().get(border.getKey()), gameMap.getCountry(countryId));
+    }
+  }
+
+  /** check if the topology is compiled again after the borders change */
+  @Test
+  public void topologyFollowsBorderChanges() {
+    // Arrange
+    String countryName1 = "India";
+    String countryName2 = "Peru";
+    MapTopology topology = gameMap.getTopology();
+    reason = countryName1 + " should not be a neighbor of " + countryName2;
+    assertFalse(
+        reason,
+        topology.areNeighbors(
+            topology.getCountryId(countryName1), topology.getCountryId(countryName2)));
+    // Act
+    gameMap.addBorder(countryName1, countryName2);
+    // Assert
+    topology = gameMap.getTopology();
+    reason = countryName1 + " should be a neighbor of " + countryName2;
+    assertTrue(
+        reason,
+        topology.areNeighbors(
+            topology.getCountryId(countryName1), topology.getCountryId(countryName2)));
+  }
+
+  /** check if populating the countries for a game keeps the compiled topology and its owners */
+  @Test
+  public void gameSetupKeepsTopology() {
+    // Arrange
+    MapTopology topology = gameMap.getTopology();
+    gameMap.setPlayersList(new ArrayList<>());
+    gameMap.addGamePlayer("Player1", "human");
+    gameMap.addGamePlayer("Player2", "human");
+    // Act
+    gameMap.gameSetup();
+    // Assert
+    reason = "The topology should not be compiled again for a new game";
+    assertSame(reason, topology, gameMap.getTopology());
+    reason = "The owners set up for the game should be indexed";
+    assertEquals(
+        reason,
+        gameMap.getCountries().size(),
+        gameMap.getOwnership().getNumberOfCountries("Player1")
+            + gameMap.getOwnership().getNumberOfCountries("Player2"));
+  }
 }
@@ -0,0 +1,131 @@
+package models;
+
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * test class to check the functionalities of PhaseLog.java
+ *
+ * @see models.PhaseLog
+ */
+public class PhaseLogTest {
+
+  /** check if only the latest entries are kept once the log is full */
+  @Test
+  public void keepLatestEntries() {
+    PhaseLog phaseLog = new PhaseLog(3);
+    for (int i = 0; i < 5; i++) {
+      phaseLog.append(0, Context.GAME_ATTACK, "line " + i);
+    }
+    assertEquals(3, phaseLog.size());
+    assertEquals("line 2\nline 3\nline 4\n", phaseLog.getText());
+  }
+
+  /** check if a cursor reads the new entries and starts over when entries were dropped */
+  @Test
+  public void readThroughCursor() {
+    PhaseLog phaseLog = new PhaseLog(3);
+    phaseLog.append(0, Context.GAME_REINFORCE, "first");
+    PhaseLog.Cursor cursor = phaseLog.cursor();
+    assertEquals(1, cursor.read().size());
+    assertFalse(cursor.isRestarted());
+
+    phaseLog.append(0, Context.GAME_REINFORCE, "second");
+    List<PhaseLog.Entry> entries = cursor.read();
+    assertEquals(1, entries.size());
+    assertEquals("second", entries.get(0).getText());
+    assertFalse(cursor.isRestarted());
+    assertTrue(cursor.read().isEmpty());
+
+    phaseLog.clear();
+    phaseLog.append(1, Context.GAME_ATTACK, "third");
+    entries = cursor.read();
+    assertTrue(cursor.isRestarted());
+    assertEquals(1, entries.size());
+    assertEquals(Context.GAME_ATTACK, entries.get(0).getContext());
+
+    for (int i = 0; i < 4; i++) {
+      phaseLog.append(1, Context.GAME_ATTACK, "line " + i);
+    }
+    entries = cursor.read();
+    assertTrue(cursor.isRestarted());
+    assertEquals(3, entries.size());
+    assertEquals("line 1", entries.get(0).getText());
+  }
+
+  /**
+   * check if the entries dropped and the entries kept are all spilled, in order
+   *
+   * @throws Exception when the spill file can't be written or read
+   */
+  @Test
+  public void spillEntries() throws Exception {
+    File file = File.createTempFile("phase-log-test", ".log.gz");
+    file.deleteOnExit();
+    PhaseLog phaseLog = new PhaseLog(4);
+    phaseLog.spillTo(file.getPath());
+    for (int i = 0; i < 10; i++) {
+      phaseLog.append(i / 5, Context.GAME_ATTACK, "line " + i);
+    }
+    phaseLog.clear();
+    phaseLog.append(2, Context.GAME_FORTIFY, "last");
+    phaseLog.closeSpill();
+
+    List<String> lines;
+    try (BufferedReader reader =
+        new BufferedReader(
+            new InputStreamReader(
+                new GZIPInputStream(new FileInputStream(file)), StandardCharsets.UTF_8))) {
+      lines = reader.lines().collect(Collectors.toList());
+    }
+    assertEquals(11, lines.size());
+    assertEquals("turn 1, GAME_ATTACK: line 0", lines.get(0));
+    assertEquals("turn 2, GAME_ATTACK: line 9", lines.get(9));
+    assertEquals("turn 3, GAME_FORTIFY: last", lines.get(10));
+  }
+
+  /**
+   * check if the game goes on logging once the spill writer is interrupted, and the error is
+   * reported when the spill is closed
+   *
+   * @throws Exception when the spill file can't be created
+   */
+  @Test(timeout = 10000)
+  public void interruptSpill() throws Exception {
+    File file = File.createTempFile("phase-log-test", ".log.gz");
+    file.deleteOnExit();
+    PhaseLog phaseLog = new PhaseLog(1);
+    phaseLog.spillTo(file.getPath());
+    Thread writer =
+        Thread.getAllStackTraces().keySet().stream()
+            .filter(thread -> thread.getName().equals("phase-log-spill") && thread.isAlive())
+            .findFirst()
+            .get();
+    for (int i = 0; i < 100000; i++) {
+      phaseLog.append(0, Context.GAME_ATTACK, "line " + i);
+      if (i == 1000) {
+        writer.interrupt();
+      }
+    }
+    try {
+      phaseLog.closeSpill();
+      fail("The interrupted spill should be reported");
+    } catch (IOException e) {
+      assertEquals("Interrupted while spilling the log", e.getMessage());
+    }
+  }
+}
@@ -46,7 +46,7 @@ public class PlayerAggressiveTest {
     gameMap.addGamePlayer(PLAYER_2, "benevolent");
     gameMap.setCurrentContext(Context.GAME_SETUP);
     gameMap.gameSetup();
-    GameMap.setCurrentPlayerIndex(0);
+    gameMap.getSession().setCurrentPlayerIndex(0);
   }
 
   /** check if player reinforces the strongest country that belongs to Aggressive Player */
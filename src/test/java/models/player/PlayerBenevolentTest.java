@@ -45,7 +45,7 @@ public class PlayerBenevolentTest {
     gameMap.addGamePlayer(PLAYER_2, "human");
     gameMap.setCurrentContext(Context.GAME_SETUP);
     gameMap.gameSetup();
-    GameMap.setCurrentPlayerIndex(0);
+    gameMap.getSession().setCurrentPlayerIndex(0);
   }
 
   /** check if player reinforces the weakest country that belongs to Benevolent Player */
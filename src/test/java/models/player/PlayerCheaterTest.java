@@ -45,7 +45,7 @@ public class PlayerCheaterTest {
     gameMap.addGamePlayer(PLAYER_2, "cheater");
     gameMap.setCurrentContext(Context.GAME_SETUP);
     gameMap.gameSetup();
-    GameMap.setCurrentPlayerIndex(0);
+    gameMap.getSession().setCurrentPlayerIndex(0);
   }
   /** check if attack will capture all neighbors of countries that belong to the cheater */
   @Test
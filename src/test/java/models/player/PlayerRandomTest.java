@@ -1,8 +1,10 @@
 package models.player;
 
+import controllers.GameController;
 import models.Context;
 import models.Country;
 import models.GameMap;
+import models.action.AttackAction;
 import org.junit.Before;
 import org.junit.Test;
 import utils.DominationMapParser;
@@ -17,6 +19,8 @@ import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
 /** test class to check the functionalities of PlayerRandom.java c */
 public class PlayerRandomTest {
@@ -54,7 +58,7 @@ public class PlayerRandomTest {
     gameMap.setCurrentContext(Context.GAME_SETUP);
     gameMap.gameSetup();
     gameMap.placeAll();
-    GameMap.setCurrentPlayerIndex(0);
+    gameMap.getSession().setCurrentPlayerIndex(0);
     countries = gameMap.getCountries();
   }
 
@@ -67,14 +71,14 @@ public class PlayerRandomTest {
     Country reinforcedCountry = countries.get(randomGenerator.nextInt(countries.size()));
     int originalArmyCount = reinforcedCountry.getNumberOfArmies();
     int numOfArmiesToReinforce = Player.calculateReinforcements(gameMap);
-    GameMap.setRandomGenerator(42);
+    gameMap.getSession().setRandomGenerator(42);
     player_1.getStrategy().reinforce(gameMap, reinforcedCountry.getName(), numOfArmiesToReinforce);
     assertEquals(originalArmyCount + numOfArmiesToReinforce, reinforcedCountry.getNumberOfArmies());
     randomGenerator.setSeed(23);
     reinforcedCountry = countries.get(randomGenerator.nextInt(countries.size()));
     originalArmyCount = reinforcedCountry.getNumberOfArmies();
     numOfArmiesToReinforce = Player.calculateReinforcements(gameMap);
-    GameMap.setRandomGenerator(23);
+    gameMap.getSession().setRandomGenerator(23);
     player_1.getStrategy().reinforce(gameMap, reinforcedCountry.getName(), numOfArmiesToReinforce);
     reason = "The player should reinforce random country";
     assertEquals(
@@ -86,17 +90,32 @@ public class PlayerRandomTest {
   public void attackTest() {
     PlayerRandom player_1 = new PlayerRandom(PLAYER_1);
     Random randomGenerator = new Random(42);
-    GameMap.setRandomGenerator(42);
+    gameMap.getSession().setRandomGenerator(42);
     String result = player_1.randomAttack(gameMap);
     reason = "The player should attack random country";
     assertThat(reason, result, not(containsString("-noattack")));
   }
 
+  /** check if the attack chosen by the player is a valid attack from one of its countries */
+  @Test
+  public void chooseAttackTest() {
+    PlayerRandom player_1 = new PlayerRandom(PLAYER_1);
+    gameMap.getSession().setRandomGenerator(42);
+    AttackAction action = player_1.chooseAttack(gameMap);
+    reason = "The player should attack from its own country";
+    assertNotNull(reason, action);
+    assertEquals(reason, PLAYER_1, gameMap.getCountry(action.getAttackerId()).getOwnerName());
+    assertTrue(action.isAllOut());
+    assertTrue(GameController.validateAttack(gameMap, action));
+    gameMap.getSession().setRandomGenerator(42);
+    assertEquals(action.toCommand(gameMap.getTopology()), player_1.randomAttack(gameMap));
+  }
+
   /** check if player fortifies any random country that belongs to the Random Player */
   @Test
   public void fortifyTest() {
     PlayerRandom player_1 = new PlayerRandom(PLAYER_1);
-    Random randomGenerator = new Random(40);
+    gameMap.getSession().setRandomGenerator(4096);
     String result = player_1.randomFortify(gameMap);
     reason = "The player should fortify random country";
     assertThat(reason, result, containsString("none"));
@@ -3,6 +3,7 @@ package models.player;
 import models.Context;
 import models.Country;
 import models.GameMap;
+import models.WorldDomination;
 import org.junit.Before;
 import org.junit.Test;
 import utils.DominationMapParser;
@@ -17,6 +18,8 @@ import java.util.stream.Collectors;
 
 import static java.util.stream.Collectors.toMap;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 /** test class to check the functionalities of PlayerHuman.java {@link Player} */
 public class PlayerTest {
@@ -49,7 +52,7 @@ public class PlayerTest {
     gameMap.setCurrentContext(Context.GAME_SETUP);
     gameMap.gameSetup();
     gameMap.placeAll();
-    GameMap.setCurrentPlayerIndex(0);
+    gameMap.getSession().setCurrentPlayerIndex(0);
   }
 
   /** check if countries are equally divided among the players */
@@ -61,6 +64,24 @@ public class PlayerTest {
     assertEquals(reason, 21, ownedCountries);
   }
 
+  /** check if the owned countries follow every change of owner */
+  @Test
+  public void ownershipFollowsCapture() {
+    // Arrange
+    Country country = Player.getCountriesByOwnership(PLAYER_2, gameMap).get(0);
+    // Act
+    country.setOwnerName(PLAYER_1);
+    // Assert
+    reason = country.getName() + " should be owned by " + PLAYER_1;
+    assertTrue(reason, Player.getCountriesByOwnership(PLAYER_1, gameMap).contains(country));
+    assertTrue(reason, Player.ownsCountry(PLAYER_1, country.getName(), gameMap));
+    reason = country.getName() + " should not be owned by " + PLAYER_2;
+    assertFalse(reason, Player.getCountriesByOwnership(PLAYER_2, gameMap).contains(country));
+    reason = "Number of countries should be 22 and 20";
+    assertEquals(reason, 22, Player.getNumberOfCountriesOwned(PLAYER_1, gameMap));
+    assertEquals(reason, 20, Player.getNumberOfCountriesOwned(PLAYER_2, gameMap));
+  }
+
   /** calculate whether the Reinforcement armies are calculated correctly */
   @Test
   public void calculateReinforcements() {
@@ -104,6 +125,34 @@ public class PlayerTest {
     assertEquals(reason, bonusArmyAfrica, actualBonusArmiesAfrica);
   }
 
+  /** check if the bonus armies and world domination follow the capture of a continent */
+  @Test
+  public void continentControlFollowsCapture() {
+    // Arrange
+    gameMap.getCountries().values().stream()
+        .filter(country -> country.getContinent().equals("Oceania"))
+        .forEach(country -> country.setOwnerName(PLAYER_2));
+    int bonusArmies = Player.getBonusArmiesIfPlayerOwnsContinents(PLAYER_1, gameMap);
+    // Act
+    gameMap.getCountries().values().stream()
+        .filter(country -> country.getContinent().equals("Oceania"))
+        .forEach(country -> country.setOwnerName(PLAYER_1));
+    // Assert
+    int bonusArmyOceania = gameMap.getContinents().get("Oceania").getValue();
+    reason = "Number of bonus armies expected is " + (bonusArmies + bonusArmyOceania);
+    assertEquals(
+        reason,
+        bonusArmies + bonusArmyOceania,
+        Player.getBonusArmiesIfPlayerOwnsContinents(PLAYER_1, gameMap));
+    reason = PLAYER_1 + " should own Oceania in world domination";
+    assertTrue(
+        reason,
+        WorldDomination.getInstance()
+            .getContinentsOwnedByPlayers()
+            .get(PLAYER_1)
+            .contains("Oceania"));
+  }
+
   /**
    * another variant of populateCountries to manage the context in this test class
    *
@@ -1,6 +1,10 @@
 package models.testsuites;
 
+import models.BoardStateTest;
+import models.ChangeBatcherTest;
+import models.ContextTest;
 import models.GameMapTest;
+import models.PhaseLogTest;
 import models.player.*;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
@@ -9,6 +13,10 @@ import org.junit.runners.Suite;
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
   GameMapTest.class,
+  ContextTest.class,
+  BoardStateTest.class,
+  ChangeBatcherTest.class,
+  PhaseLogTest.class,
   PlayerTest.class,
   PlayerRandomTest.class,
   PlayerBenevolentTest.class,
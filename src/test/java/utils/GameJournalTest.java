@@ -0,0 +1,126 @@
+package utils;
+
+import models.BoardState;
+import models.Context;
+import models.Country;
+import models.GameMap;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.util.ArrayList;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * test class to check the functionalities of GameJournal.java {@link GameJournal}
+ */
+public class GameJournalTest {
+
+  /** the journal file */
+  private File journalFile;
+
+  /** the journaled game */
+  private GameMap gameMap;
+
+  /**
+   * sets up a game with two players
+   *
+   * @throws Exception when map file is invalid
+   */
+  @Before
+  public void setUp() throws Exception {
+    gameMap = new DominationMapParser().loadMap("src/test/resources/risk.map");
+    GameMap.modifyInstance(gameMap);
+    gameMap.setPlayersList(new ArrayList<>());
+    gameMap.addGamePlayer("Player1", "human");
+    gameMap.addGamePlayer("Player2", "human");
+    gameMap.setCurrentContext(Context.GAME_SETUP);
+    gameMap.gameSetup();
+    gameMap.placeAll();
+    journalFile = File.createTempFile("journal-test", GameJournal.JOURNAL_EXTENSION);
+  }
+
+  /** stops journaling and deletes the journal files */
+  @After
+  public void tearDown() {
+    if (GameMap.getGameMap().getSession().getJournal() instanceof GameJournal) {
+      ((GameJournal) GameMap.getGameMap().getSession().getJournal()).close();
+    }
+    GameMap.getGameMap().getSession().setJournal(null);
+    journalFile.delete();
+    new File(journalFile.getPath() + GameJournal.SNAPSHOT_SUFFIX).delete();
+  }
+
+  /**
+   * checks the changes made after the snapshot are replayed when the game is restored
+   *
+   * @throws Exception when the journal can't be read or written
+   */
+  @Test
+  public void restoreReplaysEvents() throws Exception {
+    GameJournal journal = GameJournal.start(gameMap, journalFile.getPath(), 10);
+    Country country = gameMap.getCountries().values().iterator().next();
+    country.setOwnerName("Player2");
+    country.setNumberOfArmies(12);
+    gameMap.getPlayersList().get(0).getStrategy().setNumberOfArmies(7);
+    gameMap.getSession().setNumOfTurns(3);
+    gameMap.setCurrentContext(Context.GAME_ATTACK);
+    BoardState boardState = BoardState.capture(gameMap);
+    journal.close();
+
+    GameMap restoredGameMap = GameJournal.restore(journalFile.getPath(), 10);
+    assertEquals(boardState, BoardState.capture(restoredGameMap));
+    assertEquals(7, restoredGameMap.getPlayersList().get(0).getStrategy().getNumberOfArmies());
+    assertEquals(3, restoredGameMap.getSession().getNumOfTurns());
+    assertEquals(Context.GAME_ATTACK, restoredGameMap.getCurrentContext());
+  }
+
+  /**
+   * checks an event cut short is dropped and the journal goes on after the last complete event
+   *
+   * @throws Exception when the journal can't be read or written
+   */
+  @Test
+  public void dropTornEvent() throws Exception {
+    GameJournal journal = GameJournal.start(gameMap, journalFile.getPath(), 10);
+    Country country = gameMap.getCountries().values().iterator().next();
+    country.setNumberOfArmies(20);
+    gameMap.setCurrentContext(Context.GAME_ATTACK);
+    journal.close();
+    try (FileOutputStream output = new FileOutputStream(journalFile, true)) {
+      output.write(new byte[] {40, 3, 1});
+    }
+
+    GameMap restoredGameMap = GameJournal.restore(journalFile.getPath(), 10);
+    assertEquals(20, restoredGameMap.getCountries().get(country.getName()).getNumberOfArmies());
+    restoredGameMap.getCountries().get(country.getName()).setNumberOfArmies(21);
+    restoredGameMap.setCurrentContext(Context.GAME_FORTIFY);
+    ((GameJournal) restoredGameMap.getSession().getJournal()).close();
+
+    restoredGameMap = GameJournal.restore(journalFile.getPath(), 10);
+    assertEquals(21, restoredGameMap.getCountries().get(country.getName()).getNumberOfArmies());
+  }
+
+  /**
+   * checks a snapshot is taken once the interval has passed
+   *
+   * @throws Exception when the journal can't be written
+   */
+  @Test
+  public void snapshotAfterInterval() throws Exception {
+    GameJournal.start(gameMap, journalFile.getPath(), 2);
+    File snapshotFile = new File(journalFile.getPath() + GameJournal.SNAPSHOT_SUFFIX);
+    assertTrue(snapshotFile.delete());
+    gameMap.getSession().setNumOfTurns(1);
+    gameMap.setCurrentContext(Context.GAME_ATTACK);
+    assertFalse(snapshotFile.exists());
+    gameMap.getSession().setNumOfTurns(2);
+    gameMap.setCurrentContext(Context.GAME_FORTIFY);
+    assertTrue(snapshotFile.exists());
+  }
+}
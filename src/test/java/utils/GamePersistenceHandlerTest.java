@@ -1,5 +1,6 @@
 package utils;
 
+import models.BoardState;
 import models.Context;
 import models.Country;
 import models.GameMap;
@@ -51,7 +52,7 @@ public class GamePersistenceHandlerTest {
     gameMap.setCurrentContext(Context.GAME_SETUP);
     gameMap.gameSetup();
     gameMap.placeAll();
-    GameMap.setCurrentPlayerIndex(0);
+    gameMap.getSession().setCurrentPlayerIndex(0);
   }
 
   /**
@@ -92,4 +93,76 @@ public class GamePersistenceHandlerTest {
     reason = "Current Context should be the same";
     assertEquals(reason, context, gameMap.getCurrentContext());
   }
+
+  /**
+   * Test the binary save, the loaded game has the same board, players and context as the saved one
+   * and the save is smaller than the json save
+   *
+   * @throws Exception when the map or the save can't be read
+   */
+  @Test
+  public void saveAndLoadBinaryState() throws Exception {
+    gameMap = new MapAdaptor().loadValidatedMap("src/test/resources/risk.map");
+    gameMap.setPlayersList(new ArrayList<>());
+    gameMap.addGamePlayer(PLAYER_1, "human");
+    gameMap.addGamePlayer(PLAYER_2, "human");
+    gameMap.setCurrentContext(Context.GAME_SETUP);
+    gameMap.gameSetup();
+    gameMap.placeAll();
+    gameMap.getSession().setCurrentPlayerIndex(1);
+    BoardState boardState = BoardState.capture(gameMap);
+    int armies = gameMap.getPlayersList().get(0).getStrategy().getNumberOfArmies();
+
+    File binaryFile = File.createTempFile("savegame-test", GamePersistenceHandler.BINARY_EXTENSION);
+    binaryFile.deleteOnExit();
+    File jsonFile = File.createTempFile("savegame-test", ".json");
+    jsonFile.deleteOnExit();
+    GamePersistenceHandler.saveState(binaryFile.getPath());
+    GamePersistenceHandler.saveState(jsonFile.getPath());
+    reason = "Binary save should be smaller than the json save";
+    assertTrue(reason, binaryFile.length() < jsonFile.length());
+
+    GameMap.modifyInstance(null);
+    GamePersistenceHandler.loadState(binaryFile.getPath());
+    GameMap loadedGameMap = GameMap.getGameMap();
+    reason = "Board should be same as original";
+    assertEquals(reason, boardState, BoardState.capture(loadedGameMap));
+    reason = "Current Player should be same";
+    assertEquals(reason, PLAYER_2, loadedGameMap.getCurrentPlayer().getStrategy().getPlayerName());
+    reason = "Armies of the players should be same";
+    assertEquals(
+        reason, armies, loadedGameMap.getPlayersList().get(0).getStrategy().getNumberOfArmies());
+    reason = "Map file should be the file of the save";
+    assertEquals(reason, gameMap.getMapFile(), loadedGameMap.getMapFile());
+  }
+
+  /**
+   * Test the compressed json save, the loaded game has the same board, continents and borders as
+   * the saved one and the save is smaller than the uncompressed save
+   *
+   * @throws IOException when the save can't be read
+   */
+  @Test
+  public void saveAndLoadCompressedState() throws IOException {
+    BoardState boardState = BoardState.capture(gameMap);
+    File compressedFile =
+        File.createTempFile("savegame-test", ".json" + JsonSaveFormat.GZIP_EXTENSION);
+    compressedFile.deleteOnExit();
+    File jsonFile = File.createTempFile("savegame-test", ".json");
+    jsonFile.deleteOnExit();
+    GamePersistenceHandler.saveState(compressedFile.getPath());
+    GamePersistenceHandler.saveState(jsonFile.getPath());
+    reason = "Compressed save should be smaller than the json save";
+    assertTrue(reason, compressedFile.length() < jsonFile.length());
+
+    GameMap.modifyInstance(null);
+    GamePersistenceHandler.loadState(compressedFile.getPath());
+    GameMap loadedGameMap = GameMap.getGameMap();
+    reason = "Board should be same as original";
+    assertEquals(reason, boardState, BoardState.capture(loadedGameMap));
+    reason = "Continents should be same as original";
+    assertEquals(reason, gameMap.getContinents().keySet(), loadedGameMap.getContinents().keySet());
+    reason = "Borders should be same as original";
+    assertEquals(reason, gameMap.getBorders(), loadedGameMap.getBorders());
+  }
 }
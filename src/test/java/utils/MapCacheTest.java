@@ -0,0 +1,143 @@
+package utils;
+
+import models.Country;
+import models.GameMap;
+import models.GameSession;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * test class to check the functionalities of MapCache.java {@link MapCache}
+ */
+public class MapCacheTest {
+
+  /** copy of the risk map, changed by the tests */
+  private File mapFile;
+
+  /** the cache under test */
+  private MapCache mapCache;
+
+  /**
+   * copies the risk map to a temporary file
+   *
+   * @throws Exception when the file can't be written
+   */
+  @Before
+  public void setUp() throws Exception {
+    mapFile = File.createTempFile("mapcache", ".map");
+    Files.copy(
+        Paths.get("src/test/resources/risk.map"),
+        mapFile.toPath(),
+        StandardCopyOption.REPLACE_EXISTING);
+    mapCache = new MapCache(1);
+    GameSession.bindToCurrentThread(new GameMap().getSession());
+  }
+
+  /** deletes the temporary file */
+  @After
+  public void tearDown() {
+    GameSession.unbindFromCurrentThread();
+    mapFile.delete();
+  }
+
+  /**
+   * checks a second game gets the cached map with its own countries
+   *
+   * @throws Exception when map location is invalid
+   */
+  @Test
+  public void loadFromCache() throws Exception {
+    GameMap firstGame = mapCache.load(mapFile.getPath(), new StreamingMapParser());
+    assertNotNull(firstGame);
+    Country india = firstGame.getCountries().get("India");
+    india.setOwnerName("Player1");
+    india.setNumberOfArmies(5);
+
+    GameSession.bindToCurrentThread(new GameMap().getSession());
+    GameMap secondGame = mapCache.load(mapFile.getPath(), new StreamingMapParser());
+    assertEquals(1, mapCache.getHits());
+    assertEquals(1, mapCache.getMisses());
+    assertNotSame(india, secondGame.getCountries().get("India"));
+    assertNull(secondGame.getCountries().get("India").getOwnerName());
+    assertEquals(0, secondGame.getCountries().get("India").getNumberOfArmies());
+    assertSame(firstGame.getTopology(), secondGame.getTopology());
+    assertEquals(firstGame.getBorders(), secondGame.getBorders());
+    assertEquals(0, secondGame.getOwnership().getNumberOfCountries("Player1"));
+  }
+
+  /**
+   * checks the games set up from the cached map keep sharing its topology
+   *
+   * @throws Exception when map location is invalid
+   */
+  @Test
+  public void gameSetupKeepsCachedTopology() throws Exception {
+    GameMap firstGame = setUpGame();
+    GameSession.bindToCurrentThread(new GameMap().getSession());
+    GameMap secondGame = setUpGame();
+    assertEquals(1, mapCache.getHits());
+    assertSame(firstGame.getTopology(), secondGame.getTopology());
+    assertEquals(
+        secondGame.getCountries().size(),
+        secondGame.getOwnership().getNumberOfCountries("Player1")
+            + secondGame.getOwnership().getNumberOfCountries("Player2"));
+  }
+
+  /**
+   * loads the map from the cache and sets up a game of two players on it
+   *
+   * @return the game
+   * @throws Exception when map location is invalid
+   */
+  private GameMap setUpGame() throws Exception {
+    GameMap gameMap = mapCache.load(mapFile.getPath(), new StreamingMapParser());
+    gameMap.setPlayersList(new ArrayList<>());
+    gameMap.addGamePlayer("Player1", "human");
+    gameMap.addGamePlayer("Player2", "human");
+    gameMap.gameSetup();
+    return gameMap;
+  }
+
+  /**
+   * checks a changed file is parsed again
+   *
+   * @throws Exception when map location is invalid
+   */
+  @Test
+  public void reloadChangedFile() throws Exception {
+    mapCache.load(mapFile.getPath(), new StreamingMapParser());
+    Files.write(mapFile.toPath(), "\n".getBytes(), StandardOpenOption.APPEND);
+    mapCache.load(mapFile.getPath(), new StreamingMapParser());
+    assertEquals(0, mapCache.getHits());
+    assertEquals(2, mapCache.getMisses());
+  }
+
+  /**
+   * checks the least recently used map is dropped when the cache is full
+   *
+   * @throws Exception when map location is invalid
+   */
+  @Test
+  public void evictLeastRecentlyUsed() throws Exception {
+    mapCache.load(mapFile.getPath(), new StreamingMapParser());
+    mapCache.load("src/test/resources/conquest-world.map", new StreamingMapParser());
+    assertEquals(1, mapCache.size());
+    mapCache.load(mapFile.getPath(), new StreamingMapParser());
+    assertEquals(0, mapCache.getHits());
+    assertEquals(3, mapCache.getMisses());
+  }
+}
@@ -5,8 +5,10 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.io.File;
+import java.util.List;
 
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 /**
  * test class to check the functionalities of EditMap.java
@@ -48,4 +50,31 @@ public class MapValidatorTest {
     reason = "The continent is not a sub graph";
     assertFalse(reason, iSContinentASubGraph);
   }
+
+  /** checks the continent that isn't connected is reported */
+  @Test
+  public void findViolations() {
+    List<String> violations = MapValidator.findViolations(gameMap);
+    assertFalse(violations.isEmpty());
+    assertTrue(
+        violations.stream()
+            .anyMatch(violation -> violation.matches("Continent .* is not connected.*")));
+  }
+
+  /** checks a map too deep for a recursive search is validated */
+  @Test
+  public void validateLongChainMap() {
+    GameMap chainMap = new GameMap();
+    chainMap.addContinent("Chain", 1);
+    int length = 100000;
+    for (int i = 0; i < length; i++) {
+      chainMap.addCountry("Country" + i, "Chain");
+    }
+    for (int i = 1; i < length; i++) {
+      chainMap.addBorder("Country" + (i - 1), "Country" + i);
+    }
+    assertTrue(MapValidator.validateMap(chainMap));
+    chainMap.removeBorder("Country" + (length / 2 - 1), "Country" + (length / 2));
+    assertFalse(MapValidator.validateMap(chainMap));
+  }
 }
@@ -0,0 +1,109 @@
+package utils;
+
+import models.Continent;
+import models.Country;
+import models.GameMap;
+import org.junit.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * test class to check the functionalities of StreamingMapParser.java {@link StreamingMapParser}
+ */
+public class StreamingMapParserTest {
+
+  /**
+   * checks a domination map is parsed the same as by DominationMapParser
+   *
+   * @throws Exception when map location is invalid
+   */
+  @Test
+  public void loadDominationMap() throws Exception {
+    String fileName = "src/test/resources/risk.map";
+    String expected = describe(new DominationMapParser().loadMap(fileName));
+    GameMap gameMap = new StreamingMapParser().loadMap(fileName);
+    assertEquals("Streamed map should match the parsed map", expected, describe(gameMap));
+    assertTrue(gameMap.isMapTypeDomination());
+  }
+
+  /**
+   * checks a conquest map is parsed the same as by ConquestMapParser
+   *
+   * @throws Exception when map location is invalid
+   */
+  @Test
+  public void loadConquestMap() throws Exception {
+    String fileName = "src/test/resources/conquest-world.map";
+    String expected = describe(new ConquestMapParser().loadMap(fileName));
+    GameMap gameMap = new StreamingMapParser().loadMap(fileName);
+    assertEquals("Streamed map should match the parsed map", expected, describe(gameMap));
+    assertFalse(gameMap.isMapTypeDomination());
+  }
+
+  /**
+   * checks an invalid line is reported with its line number
+   *
+   * @throws Exception when the test file can't be written
+   */
+  @Test
+  public void invalidLine() throws Exception {
+    File testMap = File.createTempFile("streaming", ".map");
+    testMap.deleteOnExit();
+    Files.write(
+        testMap.toPath(),
+        String.join(
+                "\n",
+                "name Test map",
+                "",
+                "[files]",
+                "pic test.png",
+                "",
+                "[continents]",
+                "Asia 7 pink",
+                "",
+                "[countries]",
+                "1 India 1 10 20",
+                "2 China 2 30 40")
+            .getBytes());
+    try {
+      new StreamingMapParser().loadMap(testMap.getPath());
+      fail("An invalid continent number should not load");
+    } catch (MapParseException e) {
+      assertEquals(11, e.getLineNumber());
+      assertThat(e.getMessage(), containsString("Line 11"));
+    }
+  }
+
+  /**
+   * Describes the countries, continents and borders of a map, sorted by name.
+   *
+   * @param gameMap the map to describe
+   * @return the description.
+   */
+  private String describe(GameMap gameMap) {
+    Map<String, String> description = new TreeMap<>();
+    for (Country country : gameMap.getCountries().values()) {
+      Set<String> neighbors = new TreeSet<>(gameMap.getBorders().get(country.getName()));
+      description.put(
+          country.getName(),
+          String.format(
+              "%s %d %d %s", country.getContinent(), country.getX(), country.getY(), neighbors));
+    }
+    for (Continent continent : gameMap.getContinents().values()) {
+      description.put("[" + continent.getName() + "]", String.valueOf(continent.getValue()));
+    }
+    return description.toString() + gameMap.getFileSectionData();
+  }
+}
@@ -0,0 +1,139 @@
+package utils;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * test class to check the functionalities of TournamentStatistics.java
+ *
+ * @see utils.TournamentStatistics
+ */
+public class TournamentStatisticsTest {
+
+  /** the strategies of the games */
+  private static final String[] STRATEGIES = {"aggressive", "random"};
+
+  /** a folder for the result files, deleted after each test */
+  @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+  /**
+   * creates the result of a game on a map
+   *
+   * @param map the map file
+   * @param winner name of the winner, Draw for a draw
+   * @param turns number of turns played
+   * @return the result
+   */
+  private static GameResult result(String map, String winner, int turns) {
+    String winnerStrategy =
+        GameResult.DRAW.equals(winner)
+            ? null
+            : STRATEGIES[Integer.parseInt(winner.substring(winner.lastIndexOf('-') + 1))];
+    return new GameResult(
+        map,
+        1,
+        42,
+        STRATEGIES,
+        winner,
+        winnerStrategy,
+        turns,
+        turns / 2,
+        10,
+        40,
+        25,
+        Collections.singletonList("RANDOM-1"),
+        5);
+  }
+
+  /** check if the win rates and the mean game length are aggregated per map and strategy */
+  @Test
+  public void aggregate() throws Exception {
+    TournamentStatistics statistics = new TournamentStatistics(null);
+    statistics.add(result("risk.map", "AGGRESSIVE-0", 10));
+    statistics.add(result("risk.map", "AGGRESSIVE-0", 20));
+    statistics.add(result("risk.map", "AGGRESSIVE-0", 30));
+    statistics.add(result("risk.map", GameResult.DRAW, 60));
+    statistics.add(result("simple.map", "RANDOM-1", 8));
+
+    TournamentStatistics.StrategyTotals aggressive = statistics.getTotals("risk.map", "aggressive");
+    assertEquals(4, aggressive.getGames());
+    assertEquals(3, aggressive.getWins());
+    assertEquals(0.75, aggressive.getWinRate(), 1e-9);
+    double[] interval = aggressive.getWinRateInterval();
+    assertTrue(interval[0] > 0 && interval[0] < 0.75);
+    assertTrue(interval[1] > 0.75 && interval[1] < 1);
+    assertEquals(0, statistics.getTotals("risk.map", "random").getWins());
+    assertEquals(1, statistics.getTotals("simple.map", "random").getWins());
+    assertNull(statistics.getTotals("simple.map", "cheater"));
+    assertEquals(30, statistics.getMeanTurns("risk.map"), 1e-9);
+    assertEquals(
+        "risk.map: 4 games, 1 draws, mean 30.0 turns / 15.0 rounds",
+        statistics.getSummary().get(0));
+  }
+
+  /** check if the results are written to a CSV file as they are added */
+  @Test
+  public void streamCsv() throws Exception {
+    File resultFile = folder.newFile("results.csv");
+    try (TournamentStatistics statistics = new TournamentStatistics(resultFile.getPath())) {
+      statistics.add(result("maps/a,b.map", "AGGRESSIVE-0", 10));
+      List<String> lines = Files.readAllLines(resultFile.toPath());
+      assertEquals(
+          Arrays.asList(
+              GameResult.CSV_HEADER,
+              "\"maps/a,b.map\",1,42,aggressive;random,AGGRESSIVE-0,aggressive,10,5,10,40,25,"
+                  + "RANDOM-1,5"),
+          lines);
+      statistics.add(result("risk.map", GameResult.DRAW, 10));
+    }
+    assertEquals(3, Files.readAllLines(resultFile.toPath()).size());
+  }
+
+  /** check if the results are written to a JSON-lines file */
+  @Test
+  public void streamJsonLines() throws Exception {
+    File resultFile = folder.newFile("results.jsonl");
+    try (TournamentStatistics statistics = new TournamentStatistics(resultFile.getPath())) {
+      statistics.add(result("risk.map", "RANDOM-1", 10));
+      statistics.add(result("risk.map", GameResult.DRAW, 12));
+    }
+    List<String> lines = Files.readAllLines(resultFile.toPath());
+    assertEquals(2, lines.size());
+    JsonObject first = new Gson().fromJson(lines.get(0), JsonObject.class);
+    assertEquals("RANDOM-1", first.get("winner").getAsString());
+    assertEquals("random", first.get("winnerStrategy").getAsString());
+    assertEquals(40, first.get("diceRolled").getAsLong());
+    assertEquals("RANDOM-1", first.getAsJsonArray("eliminationOrder").get(0).getAsString());
+    JsonObject second = new Gson().fromJson(lines.get(1), JsonObject.class);
+    assertEquals(GameResult.DRAW, second.get("winner").getAsString());
+    assertEquals(12, second.get("turns").getAsInt());
+  }
+
+  /** check if the games that failed or couldn't be written are counted in the summary */
+  @Test
+  public void countFailures() throws Exception {
+    TournamentStatistics statistics = new TournamentStatistics(null);
+    statistics.add(result("risk.map", "AGGRESSIVE-0", 10));
+    statistics.addFailedGame();
+    statistics.addUnwrittenGame();
+    statistics.addUnwrittenGame();
+
+    assertEquals(1, statistics.getFailedGames());
+    assertEquals(2, statistics.getUnwrittenGames());
+    List<String> summary = statistics.getSummary();
+    assertEquals("1 games failed, 2 games not fully written", summary.get(summary.size() - 1));
+  }
+}
@@ -5,7 +5,11 @@ import org.junit.runners.Suite;
 import utils.ConquestMapParserTest;
 import utils.DominationMapParserTest;
 import utils.GamePersistenceHandlerTest;
+import utils.GameJournalTest;
+import utils.MapCacheTest;
 import utils.MapValidatorTest;
+import utils.StreamingMapParserTest;
+import utils.TournamentStatisticsTest;
 
 /** Test suite for utils */
 @RunWith(Suite.class)
@@ -13,6 +17,10 @@ import utils.MapValidatorTest;
   MapValidatorTest.class,
   DominationMapParserTest.class,
   GamePersistenceHandlerTest.class,
-  ConquestMapParserTest.class
+  ConquestMapParserTest.class,
+  StreamingMapParserTest.class,
+  MapCacheTest.class,
+  GameJournalTest.class,
+  TournamentStatisticsTest.class
 })
 public class UtilsTestSuite {}
@@ -0,0 +1,85 @@
+package views;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * test class to check the functionalities of UiUpdater.java
+ *
+ * @see views.UiUpdater
+ */
+public class UiUpdaterTest {
+
+  /**
+   * check if only the latest update of each label is applied, in as few frames as possible
+   *
+   * @throws Exception when interrupted
+   */
+  @Test
+  public void applyLatestUpdates() throws Exception {
+    AtomicInteger frames = new AtomicInteger();
+    List<String> applied = Collections.synchronizedList(new ArrayList<>());
+    AtomicBoolean isLastApplied = new AtomicBoolean(false);
+    CountDownLatch done = new CountDownLatch(1);
+    UiUpdater uiUpdater =
+        new UiUpdater(
+            frame -> {
+              frames.incrementAndGet();
+              frame.run();
+              // the frame that applied the last update has applied every update
+              if (isLastApplied.get()) {
+                done.countDown();
+              }
+            },
+            10);
+
+    for (int i = 0; i < 1000; i++) {
+      String armies = "armies " + i;
+      uiUpdater.update("army label", () -> applied.add(armies));
+    }
+    uiUpdater.update("phase label", () -> applied.add("attack"));
+    uiUpdater.update("last", () -> isLastApplied.set(true));
+
+    assertTrue(done.await(5, TimeUnit.SECONDS));
+    assertTrue(frames.get() <= 2);
+    assertTrue(applied.contains("armies 999"));
+    assertTrue(applied.contains("attack"));
+    assertTrue(applied.size() <= 3);
+  }
+
+  /**
+   * check if frames are applied at most at the frame rate
+   *
+   * @throws Exception when interrupted
+   */
+  @Test
+  public void capFrameRate() throws Exception {
+    List<Long> frameTimes = Collections.synchronizedList(new ArrayList<>());
+    UiUpdater uiUpdater =
+        new UiUpdater(
+            frame -> {
+              frameTimes.add(System.nanoTime());
+              frame.run();
+            },
+            20);
+    for (int i = 0; i < 3; i++) {
+      CountDownLatch applied = new CountDownLatch(1);
+      uiUpdater.update("label", applied::countDown);
+      assertTrue(applied.await(5, TimeUnit.SECONDS));
+    }
+    assertEquals(3, frameTimes.size());
+    for (int i = 1; i < frameTimes.size(); i++) {
+      assertTrue(frameTimes.get(i) - frameTimes.get(i - 1) >= TimeUnit.MILLISECONDS.toNanos(45));
+    }
+  }
+}